@@ -0,0 +1,60 @@
+-- Insert throughput and index size: random v4 varchar keys (old layout) vs v4 uuid vs v7 uuid.
+--
+-- Runs against a scratch database, not the service schema:
+--   createdb uuid_bench && psql -d uuid_bench -v rows=2000000 -f db/bench-uuid-v7-vs-v4.sql
+--
+-- Each table mimics service_notes (primary key plus a service_id reference). The v7 function
+-- produces the same layout as UuidV7Generator: 48 bit epoch millis, version 7, random tail.
+
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+  \set rows 1000000
+\endif
+
+CREATE EXTENSION IF NOT EXISTS pgcrypto;
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+
+CREATE OR REPLACE FUNCTION bench_uuid_v7() RETURNS uuid AS $$
+DECLARE
+    ts bytea := substring(int8send((extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3);
+    uuid_bytes bytea := ts || gen_random_bytes(10);
+BEGIN
+    uuid_bytes := set_byte(uuid_bytes, 6, (b'0111' || get_byte(uuid_bytes, 6)::bit(4))::bit(8)::int);
+    uuid_bytes := set_byte(uuid_bytes, 8, (b'10' || get_byte(uuid_bytes, 8)::bit(6))::bit(8)::int);
+    RETURN encode(uuid_bytes, 'hex')::uuid;
+END
+$$ LANGUAGE plpgsql VOLATILE;
+
+DROP TABLE IF EXISTS bench_v4_varchar, bench_v4_uuid, bench_v7_uuid;
+CREATE TABLE bench_v4_varchar (id varchar(255) PRIMARY KEY, service_id varchar(255) NOT NULL, note varchar(2000) NOT NULL);
+CREATE TABLE bench_v4_uuid    (id uuid PRIMARY KEY,         service_id uuid NOT NULL,         note varchar(2000) NOT NULL);
+CREATE TABLE bench_v7_uuid    (id uuid PRIMARY KEY,         service_id uuid NOT NULL,         note varchar(2000) NOT NULL);
+
+-- Keys are generated up front so the timed inserts measure index maintenance, not key generation
+CREATE TEMP TABLE bench_keys AS
+SELECT n, gen_random_uuid() AS v4, bench_uuid_v7() AS v7, gen_random_uuid() AS service_id
+FROM generate_series(1, :rows) AS n;
+
+\timing on
+
+\echo '--- v4 varchar (previous layout)'
+INSERT INTO bench_v4_varchar
+SELECT v4::text, service_id::text, 'Replaced brake pads, checked rotors' FROM bench_keys ORDER BY n;
+
+\echo '--- v4 uuid'
+INSERT INTO bench_v4_uuid
+SELECT v4, service_id, 'Replaced brake pads, checked rotors' FROM bench_keys ORDER BY n;
+
+\echo '--- v7 uuid (current layout)'
+INSERT INTO bench_v7_uuid
+SELECT v7, service_id, 'Replaced brake pads, checked rotors' FROM bench_keys ORDER BY n;
+
+\timing off
+
+SELECT relname                                   AS index_name,
+       pg_size_pretty(pg_relation_size(oid))     AS index_size,
+       (pgstatindex(relname::text)).avg_leaf_density AS leaf_density_pct
+FROM pg_class
+WHERE relname IN ('bench_v4_varchar_pkey', 'bench_v4_uuid_pkey', 'bench_v7_uuid_pkey')
+ORDER BY relname;
@@ -0,0 +1,20 @@
+-- One-off migration for databases created while project descriptions were LOBs.
+--
+-- Hibernate mapped the @Lob description to an oid column, a reference to a large object that holds
+-- the text. Full-text search needs the text in the row, so the column becomes text and the large
+-- objects are removed. ddl-auto=update does not change column types, hence this script.
+--
+-- Usage:  psql -h $DB_HOST -U $DB_USER -d techtorque_projects -f db/migrate-description-to-text.sql
+
+BEGIN;
+
+ALTER TABLE projects ADD COLUMN description_text text;
+UPDATE projects SET description_text = convert_from(lo_get(description), 'UTF8');
+
+SELECT lo_unlink(description) FROM projects WHERE description IS NOT NULL;
+
+ALTER TABLE projects DROP COLUMN description;
+ALTER TABLE projects RENAME COLUMN description_text TO description;
+ALTER TABLE projects ALTER COLUMN description SET NOT NULL;
+
+COMMIT;
@@ -0,0 +1,51 @@
+-- One-off migration for databases created before IDs were stored as native uuid columns.
+--
+-- Existing IDs are random v4 UUIDs stored as varchar, so they convert losslessly with ::uuid and
+-- keep working in URLs and cross-service references. New rows get time-ordered v7 IDs.
+--
+-- Usage:  psql -h $DB_HOST -U $DB_USER -d techtorque_projects -f db/migrate-ids-to-uuid.sql
+
+BEGIN;
+
+-- Foreign keys must be dropped while both sides change type
+DO $$
+DECLARE
+    fk record;
+BEGIN
+    FOR fk IN
+        SELECT conrelid::regclass AS tbl, conname
+        FROM pg_constraint
+        WHERE contype = 'f'
+          AND conrelid::regclass::text IN ('invoice_items', 'standard_service_assigned_employee_ids')
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.tbl, fk.conname);
+    END LOOP;
+END $$;
+
+ALTER TABLE standard_services ALTER COLUMN id TYPE uuid USING id::uuid;
+ALTER TABLE standard_service_assigned_employee_ids
+    ALTER COLUMN standard_service_id TYPE uuid USING standard_service_id::uuid;
+
+ALTER TABLE projects ALTER COLUMN id TYPE uuid USING id::uuid;
+
+ALTER TABLE quotes ALTER COLUMN id TYPE uuid USING id::uuid;
+ALTER TABLE quotes ALTER COLUMN project_id TYPE uuid USING project_id::uuid;
+
+ALTER TABLE service_notes ALTER COLUMN id TYPE uuid USING id::uuid;
+ALTER TABLE service_notes ALTER COLUMN service_id TYPE uuid USING service_id::uuid;
+
+ALTER TABLE progress_photos ALTER COLUMN id TYPE uuid USING id::uuid;
+ALTER TABLE progress_photos ALTER COLUMN service_id TYPE uuid USING service_id::uuid;
+
+ALTER TABLE invoices ALTER COLUMN id TYPE uuid USING id::uuid;
+ALTER TABLE invoices ALTER COLUMN service_id TYPE uuid USING service_id::uuid;
+
+ALTER TABLE invoice_items ALTER COLUMN id TYPE uuid USING id::uuid;
+ALTER TABLE invoice_items ALTER COLUMN invoice_id TYPE uuid USING invoice_id::uuid;
+
+ALTER TABLE invoice_items
+    ADD CONSTRAINT fk_invoice_items_invoice FOREIGN KEY (invoice_id) REFERENCES invoices (id);
+ALTER TABLE standard_service_assigned_employee_ids
+    ADD CONSTRAINT fk_assigned_employee_ids_service FOREIGN KEY (standard_service_id) REFERENCES standard_services (id);
+
+COMMIT;
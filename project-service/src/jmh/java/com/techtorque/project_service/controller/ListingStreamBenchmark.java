@@ -0,0 +1,102 @@
+package com.techtorque.project_service.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techtorque.project_service.ProjectServiceApplication;
+import com.techtorque.project_service.dto.response.ApiResponse;
+import com.techtorque.project_service.dto.response.ProjectResponseDto;
+import com.techtorque.project_service.entity.Project;
+import com.techtorque.project_service.entity.ProjectStatus;
+import com.techtorque.project_service.repository.ProjectRepository;
+import com.techtorque.project_service.service.ListingStreamService;
+import com.techtorque.project_service.service.ProjectService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /projects for staff, streamed from JDBC versus the previous path of loading entities,
+ * mapping them to DTOs and serialising the list. Runs against the in-memory H2 database of the test
+ * profile; divide {@code gc.alloc.rate.norm} by {@code rows} for the allocation per row.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListingStreamBenchmark {
+
+  private static final String MESSAGE = "Projects retrieved successfully";
+
+  @Param({"100", "2000"})
+  private int rows;
+
+  private ConfigurableApplicationContext context;
+  private ListingStreamService listingStreamService;
+  private ProjectService projectService;
+  private ObjectMapper objectMapper;
+  // Discards the response; unlike OutputStream.nullOutputStream() it can still be written after close()
+  private final OutputStream out = new OutputStream() {
+    @Override
+    public void write(int b) {
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+    }
+  };
+
+  @Setup
+  public void setUp() {
+    context = new SpringApplicationBuilder(ProjectServiceApplication.class).run(
+        "--spring.profiles.active=test",
+        "--server.port=0",
+        "--rate-limit.enabled=false",
+        "--logging.level.root=WARN",
+        "--logging.level.org.hibernate.SQL=WARN",
+        "--logging.level.com.techtorque.project_service=WARN");
+    listingStreamService = context.getBean(ListingStreamService.class);
+    projectService = context.getBean(ProjectService.class);
+    objectMapper = context.getBean(ObjectMapper.class);
+
+    List<Project> projects = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      projects.add(Project.builder()
+              .customerId("customer-" + (i % 50))
+              .vehicleId("vehicle-" + i)
+              .projectType("Performance exhaust")
+              .description("Full cat-back exhaust system with custom tips, ceramic coating and a dyno run")
+              .desiredCompletionDate("2025-12-01")
+              .budget(new BigDecimal("1850.00"))
+              .status(ProjectStatus.IN_PROGRESS)
+              .progress(i % 100)
+              .build());
+    }
+    context.getBean(ProjectRepository.class).saveAll(projects);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public void streamed() throws IOException {
+    listingStreamService.writeProjects(null, MESSAGE, out);
+  }
+
+  @Benchmark
+  public void entitiesAndDtos() throws IOException {
+    List<ProjectResponseDto> response = projectService.getAllProjects().stream()
+            .map(ProjectResponseDto::from)
+            .toList();
+    objectMapper.writeValue(out, ApiResponse.success(MESSAGE, response));
+  }
+}
@@ -0,0 +1,71 @@
+package com.techtorque.project_service.controller;
+
+import com.techtorque.project_service.dto.response.ProjectResponseDto;
+import com.techtorque.project_service.dto.response.ServiceResponseDto;
+import com.techtorque.project_service.entity.Project;
+import com.techtorque.project_service.entity.ProjectStatus;
+import com.techtorque.project_service.entity.ServiceStatus;
+import com.techtorque.project_service.entity.StandardService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response DTO mapping done for every returned project or service.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseMapperBenchmark {
+
+  private Project project;
+  private StandardService service;
+
+  @Setup
+  public void setUp() {
+    LocalDateTime now = LocalDateTime.now();
+    project = Project.builder()
+            .id("01900000-0000-7000-8000-000000000001")
+            .customerId("customer-1")
+            .vehicleId("vehicle-1")
+            .projectType("Performance exhaust")
+            .description("Full cat-back exhaust system with custom tips")
+            .desiredCompletionDate("2025-12-01")
+            .budget(new BigDecimal("1850.00"))
+            .status(ProjectStatus.IN_PROGRESS)
+            .progress(40)
+            .createdAt(now)
+            .updatedAt(now)
+            .version(3L)
+            .build();
+    service = StandardService.builder()
+            .id("01900000-0000-7000-8000-000000000002")
+            .appointmentId("appointment-1")
+            .customerId("customer-1")
+            .assignedEmployeeIds(Set.of("employee-1", "employee-2"))
+            .status(ServiceStatus.IN_PROGRESS)
+            .progress(60)
+            .hoursLogged(2.5)
+            .estimatedCompletion(now.plusHours(3))
+            .createdAt(now)
+            .updatedAt(now)
+            .version(5L)
+            .build();
+  }
+
+  @Benchmark
+  public Object mapProject() {
+    return ProjectResponseDto.from(project);
+  }
+
+  @Benchmark
+  public Object mapService() {
+    return ServiceResponseDto.from(service);
+  }
+}
@@ -0,0 +1,58 @@
+package com.techtorque.project_service.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techtorque.project_service.entity.ProjectStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialisation of the ApiResponse envelope, for a single project and for a list page.
+ * The mapper is built the same way Spring Boot builds the application one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ApiResponseSerializationBenchmark {
+
+  @Param({"1", "100"})
+  private int projects;
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  private ApiResponse response;
+
+  @Setup
+  public void setUp() {
+    LocalDateTime now = LocalDateTime.now();
+    List<ProjectResponseDto> data = new ArrayList<>(projects);
+    for (int i = 0; i < projects; i++) {
+      data.add(ProjectResponseDto.builder()
+              .id("01900000-0000-7000-8000-" + String.format("%012d", i))
+              .customerId("customer-1")
+              .vehicleId("vehicle-" + i)
+              .projectType("Performance exhaust")
+              .description("Full cat-back exhaust system with custom tips")
+              .desiredCompletionDate("2025-12-01")
+              .budget(new BigDecimal("1850.00"))
+              .status(ProjectStatus.IN_PROGRESS)
+              .progress(40)
+              .createdAt(now)
+              .updatedAt(now)
+              .build());
+    }
+    response = ApiResponse.success("Projects retrieved successfully", projects == 1 ? data.get(0) : data);
+  }
+
+  @Benchmark
+  public byte[] serialize() throws Exception {
+    return objectMapper.writeValueAsBytes(response);
+  }
+}
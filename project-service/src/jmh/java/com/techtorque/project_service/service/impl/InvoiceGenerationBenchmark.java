@@ -0,0 +1,83 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.dto.request.CompletionDto;
+import com.techtorque.project_service.dto.response.InvoiceItemDto;
+import com.techtorque.project_service.entity.ServiceStatus;
+import com.techtorque.project_service.entity.StandardService;
+import com.techtorque.project_service.repository.InvoiceRepository;
+import com.techtorque.project_service.repository.ProgressPhotoRepository;
+import com.techtorque.project_service.repository.ServiceNoteRepository;
+import com.techtorque.project_service.repository.ServiceRepository;
+import com.techtorque.project_service.service.ChangeFeedService;
+import com.techtorque.project_service.service.DashboardService;
+import com.techtorque.project_service.service.FileStorageService;
+import com.techtorque.project_service.service.ReadCoalescingService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Invoice assembly on service completion: line items plus BigDecimal subtotal, tax and total.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InvoiceGenerationBenchmark {
+
+  @Param({"0", "5", "25"})
+  private int additionalCharges;
+
+  // generateInvoice only reads its arguments
+  private final StandardServiceServiceImpl serviceImpl = new StandardServiceServiceImpl(
+          mock(ServiceRepository.class),
+          mock(ServiceNoteRepository.class),
+          mock(ProgressPhotoRepository.class),
+          mock(InvoiceRepository.class),
+          mock(FileStorageService.class),
+          mock(ApplicationEventPublisher.class),
+          mock(ChangeFeedService.class),
+          mock(DashboardService.class),
+          mock(ReadCoalescingService.class));
+  private StandardService service;
+  private CompletionDto completion;
+
+  @Setup
+  public void setUp() {
+    service = StandardService.builder()
+            .id("01900000-0000-7000-8000-000000000002")
+            .appointmentId("appointment-1")
+            .customerId("customer-1")
+            .status(ServiceStatus.IN_PROGRESS)
+            .build();
+
+    List<InvoiceItemDto> charges = new ArrayList<>(additionalCharges);
+    for (int i = 0; i < additionalCharges; i++) {
+      BigDecimal unitPrice = new BigDecimal("12.75").add(BigDecimal.valueOf(i));
+      charges.add(InvoiceItemDto.builder()
+              .description("Part " + i)
+              .quantity(2)
+              .unitPrice(unitPrice)
+              .amount(unitPrice.multiply(BigDecimal.valueOf(2)))
+              .build());
+    }
+
+    completion = new CompletionDto();
+    completion.setFinalNotes("Done");
+    completion.setActualCost(new BigDecimal("249.99"));
+    completion.setAdditionalCharges(charges);
+  }
+
+  @Benchmark
+  public Object generateInvoice() {
+    return serviceImpl.generateInvoice(service, completion);
+  }
+}
@@ -0,0 +1,90 @@
+package com.techtorque.loadtest;
+
+import com.techtorque.project_service.config.BulkDataGenerator;
+import com.techtorque.project_service.config.BulkDataProperties;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * IDs of the generated rows that the endpoint mix picks its targets from, plus row counts per table.
+ */
+final class Dataset {
+
+  String[] customerIds;
+  String[] projectIds;
+  String[] projectCustomers;
+  String[] activeProjectIds; // APPROVED or IN_PROGRESS, so progress updates are accepted
+  String[] serviceIds;
+  String[] serviceCustomers;
+  String[] invoicedServiceIds;
+  String[] invoicedServiceCustomers;
+  final Map<String, Long> rowCounts = new LinkedHashMap<>();
+  long loadMillis;
+
+  String randomCustomer(ThreadLocalRandom random) {
+    return customerIds[random.nextInt(customerIds.length)];
+  }
+
+  /**
+   * Fills the schema with {@link BulkDataGenerator} and reads back the IDs the requests target.
+   */
+  static Dataset generate(DataSource dataSource, BulkDataProperties properties) throws SQLException {
+    BulkDataGenerator generator = new BulkDataGenerator(dataSource, properties);
+    BulkDataGenerator.Result result = generator.generate();
+
+    Dataset dataset = new Dataset();
+    dataset.rowCounts.putAll(result.rowCounts());
+    dataset.loadMillis = result.elapsedMillis();
+    dataset.customerIds = new String[properties.getCustomers()];
+    for (int i = 0; i < dataset.customerIds.length; i++) {
+      dataset.customerIds[i] = generator.customerId(i);
+    }
+
+    try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+      List<String[]> projects = select(statement, "SELECT id, customer_id, status FROM projects");
+      dataset.projectIds = column(projects, 0);
+      dataset.projectCustomers = column(projects, 1);
+      dataset.activeProjectIds = projects.stream()
+          .filter(row -> "APPROVED".equals(row[2]) || "IN_PROGRESS".equals(row[2]))
+          .map(row -> row[0])
+          .toArray(String[]::new);
+
+      List<String[]> services = select(statement, "SELECT id, customer_id FROM standard_services");
+      dataset.serviceIds = column(services, 0);
+      dataset.serviceCustomers = column(services, 1);
+
+      List<String[]> invoiced = select(statement, "SELECT service_id, customer_id FROM invoices");
+      dataset.invoicedServiceIds = column(invoiced, 0);
+      dataset.invoicedServiceCustomers = column(invoiced, 1);
+    }
+    return dataset;
+  }
+
+  private static List<String[]> select(Statement statement, String sql) throws SQLException {
+    List<String[]> rows = new ArrayList<>();
+    try (ResultSet rs = statement.executeQuery(sql)) {
+      int columns = rs.getMetaData().getColumnCount();
+      while (rs.next()) {
+        String[] row = new String[columns];
+        for (int i = 0; i < columns; i++) {
+          row[i] = rs.getString(i + 1);
+        }
+        rows.add(row);
+      }
+    }
+    return rows;
+  }
+
+  private static String[] column(List<String[]> rows, int index) {
+    return rows.stream().map(row -> row[index]).toArray(String[]::new);
+  }
+}
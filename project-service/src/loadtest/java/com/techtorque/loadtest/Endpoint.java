@@ -0,0 +1,130 @@
+package com.techtorque.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * REST calls the load generator can issue, each with the gateway identity that would normally
+ * accompany it. Targets are picked at random from the generated dataset.
+ */
+enum Endpoint {
+
+  PROJECT_LIST("project-list", "GET", "/projects") {
+    @Override
+    Request next(Dataset dataset, ThreadLocalRandom random) {
+      return Request.get(path, dataset.randomCustomer(random), "CUSTOMER");
+    }
+  },
+
+  PROJECT_DETAILS("project-details", "GET", "/projects/{projectId}") {
+    @Override
+    Request next(Dataset dataset, ThreadLocalRandom random) {
+      int i = random.nextInt(dataset.projectIds.length);
+      return Request.get("/projects/" + dataset.projectIds[i], dataset.projectCustomers[i], "CUSTOMER");
+    }
+  },
+
+  PROJECT_LIST_ALL("project-list-all", "GET", "/projects") {
+    @Override
+    Request next(Dataset dataset, ThreadLocalRandom random) {
+      return Request.get(path, "admin", "ADMIN");
+    }
+  },
+
+  PROJECT_PROGRESS("project-progress", "PUT", "/projects/{projectId}/progress") {
+    @Override
+    Request next(Dataset dataset, ThreadLocalRandom random) {
+      String projectId = dataset.activeProjectIds[random.nextInt(dataset.activeProjectIds.length)];
+      // Stays below 100 so the project never leaves IN_PROGRESS
+      return Request.send(method, "/projects/" + projectId + "/progress", "employee", "EMPLOYEE",
+          "{\"progress\":" + random.nextInt(1, 100) + "}");
+    }
+  },
+
+  SERVICE_LIST("service-list", "GET", "/services") {
+    @Override
+    Request next(Dataset dataset, ThreadLocalRandom random) {
+      return Request.get(path, dataset.randomCustomer(random), "CUSTOMER");
+    }
+  },
+
+  SERVICE_DETAILS("service-details", "GET", "/services/{serviceId}") {
+    @Override
+    Request next(Dataset dataset, ThreadLocalRandom random) {
+      int i = random.nextInt(dataset.serviceIds.length);
+      return Request.get("/services/" + dataset.serviceIds[i], dataset.serviceCustomers[i], "CUSTOMER");
+    }
+  },
+
+  SERVICE_NOTES("service-notes", "GET", "/services/{serviceId}/notes") {
+    @Override
+    Request next(Dataset dataset, ThreadLocalRandom random) {
+      int i = random.nextInt(dataset.serviceIds.length);
+      return Request.get("/services/" + dataset.serviceIds[i] + "/notes", dataset.serviceCustomers[i], "CUSTOMER");
+    }
+  },
+
+  SERVICE_PHOTOS("service-photos", "GET", "/services/{serviceId}/photos") {
+    @Override
+    Request next(Dataset dataset, ThreadLocalRandom random) {
+      int i = random.nextInt(dataset.serviceIds.length);
+      return Request.get("/services/" + dataset.serviceIds[i] + "/photos", dataset.serviceCustomers[i], "CUSTOMER");
+    }
+  },
+
+  SERVICE_INVOICE("service-invoice", "GET", "/services/{serviceId}/invoice") {
+    @Override
+    Request next(Dataset dataset, ThreadLocalRandom random) {
+      int i = random.nextInt(dataset.invoicedServiceIds.length);
+      return Request.get("/services/" + dataset.invoicedServiceIds[i] + "/invoice",
+          dataset.invoicedServiceCustomers[i], "CUSTOMER");
+    }
+  },
+
+  SERVICE_NOTE_ADD("service-note-add", "POST", "/services/{serviceId}/notes") {
+    @Override
+    Request next(Dataset dataset, ThreadLocalRandom random) {
+      String serviceId = dataset.serviceIds[random.nextInt(dataset.serviceIds.length)];
+      return Request.send(method, "/services/" + serviceId + "/notes", "employee", "EMPLOYEE",
+          "{\"note\":\"Load test note\",\"customerVisible\":" + random.nextBoolean() + "}");
+    }
+  },
+
+  CHANGE_FEED("change-feed", "GET", "/changes") {
+    @Override
+    Request next(Dataset dataset, ThreadLocalRandom random) {
+      return Request.get(path + "?limit=100", "employee", "EMPLOYEE");
+    }
+  };
+
+  final String name;
+  final String method;
+  final String path;
+
+  Endpoint(String name, String method, String path) {
+    this.name = name;
+    this.method = method;
+    this.path = path;
+  }
+
+  abstract Request next(Dataset dataset, ThreadLocalRandom random);
+
+  static Endpoint fromName(String name) {
+    return Arrays.stream(values())
+        .filter(endpoint -> endpoint.name.equals(name))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint '" + name + "', expected one of "
+            + Arrays.stream(values()).map(endpoint -> endpoint.name).toList()));
+  }
+
+  record Request(String method, String path, String userId, String roles, String body) {
+
+    static Request get(String path, String userId, String roles) {
+      return new Request("GET", path, userId, roles, null);
+    }
+
+    static Request send(String method, String path, String userId, String roles, String body) {
+      return new Request(method, path, userId, roles, body);
+    }
+  }
+}
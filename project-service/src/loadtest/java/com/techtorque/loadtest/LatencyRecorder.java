@@ -0,0 +1,49 @@
+package com.techtorque.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Response times of one endpoint as seen by one load generator thread; merged after the run.
+ */
+final class LatencyRecorder {
+
+  private long[] nanos = new long[1024];
+  private int count;
+  private long errors;
+
+  void record(long elapsedNanos, boolean success) {
+    if (count == nanos.length) {
+      nanos = Arrays.copyOf(nanos, count * 2);
+    }
+    nanos[count++] = elapsedNanos;
+    if (!success) {
+      errors++;
+    }
+  }
+
+  void merge(LatencyRecorder other) {
+    if (count + other.count > nanos.length) {
+      nanos = Arrays.copyOf(nanos, count + other.count);
+    }
+    System.arraycopy(other.nanos, 0, nanos, count, other.count);
+    count += other.count;
+    errors += other.errors;
+  }
+
+  int count() {
+    return count;
+  }
+
+  long errors() {
+    return errors;
+  }
+
+  /**
+   * Sorted copy of the recorded latencies, in nanoseconds.
+   */
+  long[] sorted() {
+    long[] sorted = Arrays.copyOf(nanos, count);
+    Arrays.sort(sorted);
+    return sorted;
+  }
+}
@@ -0,0 +1,95 @@
+package com.techtorque.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code --name=value} arguments.
+ */
+final class LoadTestConfig {
+
+  // Database; defaults to an in-memory H2 stand-in in PostgreSQL mode
+  String jdbcUrl = "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+  String username = "sa";
+  String password = "";
+
+  // Load
+  int concurrency = 32;
+  Duration warmup = Duration.ofSeconds(10);
+  Duration duration = Duration.ofSeconds(60);
+  Map<Endpoint, Integer> mix = parseMix(
+      "project-details:25,project-list:10,service-details:25,service-list:10,service-notes:10,"
+      + "service-photos:5,service-invoice:5,project-progress:5,service-note-add:5");
+  Path report = Path.of("target", "loadtest-report.json");
+
+  // Anything that looks like an application property (e.g. --spring.datasource.hikari.maximum-pool-size=20).
+  // The dataset is sized through the seed.bulk.* properties; these defaults give about 200k projects and services.
+  final Map<String, String> applicationProperties = new LinkedHashMap<>(Map.of(
+      "seed.bulk.customers", "20000",
+      "seed.bulk.projects-per-customer.mean", "10",
+      "seed.bulk.services-per-customer.mean", "10",
+      "seed.bulk.notes-per-service.mean", "3"));
+
+  static LoadTestConfig fromArgs(String[] args) {
+    LoadTestConfig config = new LoadTestConfig();
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+      }
+      String name = arg.substring(2, arg.indexOf('='));
+      String value = arg.substring(arg.indexOf('=') + 1);
+      switch (name) {
+        case "jdbc-url" -> config.jdbcUrl = value;
+        case "username" -> config.username = value;
+        case "password" -> config.password = value;
+        case "concurrency" -> config.concurrency = Integer.parseInt(value);
+        case "warmup" -> config.warmup = parseDuration(value);
+        case "duration" -> config.duration = parseDuration(value);
+        case "mix" -> config.mix = parseMix(value);
+        case "report" -> config.report = Path.of(value);
+        default -> {
+          if (!name.contains(".")) {
+            throw new IllegalArgumentException("Unknown option --" + name);
+          }
+          config.applicationProperties.put(name, value);
+        }
+      }
+    }
+    return config;
+  }
+
+  boolean isPostgres() {
+    return jdbcUrl.startsWith("jdbc:postgresql:");
+  }
+
+  // e.g. "project-details:30,service-notes:10"
+  private static Map<Endpoint, Integer> parseMix(String value) {
+    Map<Endpoint, Integer> mix = new LinkedHashMap<>();
+    for (String entry : value.split(",")) {
+      String[] parts = entry.trim().split(":");
+      int weight = parts.length > 1 ? Integer.parseInt(parts[1]) : 1;
+      if (weight > 0) {
+        mix.put(Endpoint.fromName(parts[0]), weight);
+      }
+    }
+    if (mix.isEmpty()) {
+      throw new IllegalArgumentException("The endpoint mix is empty");
+    }
+    return mix;
+  }
+
+  // Accepts "90s", "5m" or ISO-8601 ("PT90S")
+  private static Duration parseDuration(String value) {
+    if (value.startsWith("P") || value.startsWith("p")) {
+      return Duration.parse(value);
+    }
+    long amount = Long.parseLong(value.substring(0, value.length() - 1));
+    return switch (value.charAt(value.length() - 1)) {
+      case 's' -> Duration.ofSeconds(amount);
+      case 'm' -> Duration.ofMinutes(amount);
+      default -> throw new IllegalArgumentException("Unsupported duration: " + value);
+    };
+  }
+}
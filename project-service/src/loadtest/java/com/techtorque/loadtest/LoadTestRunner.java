@@ -0,0 +1,251 @@
+package com.techtorque.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.techtorque.project_service.ProjectServiceApplication;
+import com.techtorque.project_service.config.BulkDataProperties;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * End-to-end load test: starts the service on a random port against an H2 (default) or PostgreSQL
+ * stand-in, loads a synthetic dataset, drives a weighted mix of REST calls with the gateway headers
+ * from {@code concurrency} closed-loop clients, and writes throughput, latency percentiles and JDBC
+ * statements per request for every endpoint to a JSON report.
+ *
+ * Run with {@code ./mvnw -Ploadtest test-compile exec:exec -Dloadtest.args="--seed.bulk.customers=5000 --duration=30s"}.
+ * The schema is recreated on start, so only point {@code --jdbc-url} at a disposable database.
+ */
+public final class LoadTestRunner {
+
+  private final LoadTestConfig config;
+  private final HttpClient httpClient = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofSeconds(5))
+      .build();
+
+  private LoadTestRunner(LoadTestConfig config) {
+    this.config = config;
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadTestConfig config = LoadTestConfig.fromArgs(args);
+    // DevTools would relaunch this main class in a restart classloader
+    System.setProperty("spring.devtools.restart.enabled", "false");
+    new LoadTestRunner(config).run();
+  }
+
+  private void run() throws Exception {
+    ConfigurableApplicationContext app = new SpringApplicationBuilder(
+        ProjectServiceApplication.class, StatementCountingConfig.class)
+        .run(applicationArgs());
+    try {
+      int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+
+      log("Loading synthetic dataset into %s", config.jdbcUrl);
+      Dataset dataset = Dataset.generate(app.getBean(DataSource.class), app.getBean(BulkDataProperties.class));
+      log("Loaded %s in %.1f s", dataset.rowCounts, dataset.loadMillis / 1000.0);
+
+      Map<Endpoint, LatencyRecorder> results = drive(port, dataset);
+      Map<String, Object> report = report(dataset, results);
+
+      Files.createDirectories(config.report.toAbsolutePath().getParent());
+      new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(config.report.toFile(), report);
+      log("Report written to %s", config.report.toAbsolutePath());
+    } finally {
+      app.close();
+    }
+  }
+
+  private String[] applicationArgs() {
+    List<String> args = new ArrayList<>(List.of(
+        "--server.port=0",
+        "--spring.profiles.active=loadtest",
+        "--spring.datasource.url=" + config.jdbcUrl,
+        "--spring.datasource.username=" + config.username,
+        "--spring.datasource.password=" + config.password,
+        "--spring.datasource.driver-class-name=" + (config.isPostgres() ? "org.postgresql.Driver" : "org.h2.Driver"),
+        "--spring.jpa.properties.hibernate.dialect=" + (config.isPostgres()
+            ? "org.hibernate.dialect.PostgreSQLDialect" : "org.hibernate.dialect.H2Dialect"),
+        "--spring.jpa.hibernate.ddl-auto=create",
+        "--spring.jpa.show-sql=false",
+        "--rate-limit.enabled=false",
+        "--logging.level.root=WARN"));
+    config.applicationProperties.forEach((name, value) -> args.add("--" + name + "=" + value));
+    return args.toArray(String[]::new);
+  }
+
+  private Map<Endpoint, LatencyRecorder> drive(int port, Dataset dataset) throws Exception {
+    Endpoint[] weighted = config.mix.entrySet().stream()
+        .flatMap(entry -> java.util.Collections.nCopies(entry.getValue(), entry.getKey()).stream())
+        .toArray(Endpoint[]::new);
+    String baseUrl = "http://localhost:" + port;
+
+    long startNanos = System.nanoTime();
+    long measureFromNanos = startNanos + config.warmup.toNanos();
+    long endNanos = measureFromNanos + config.duration.toNanos();
+    log("Driving %s with %d clients: %d s warmup, %d s measured", config.mix, config.concurrency,
+        config.warmup.toSeconds(), config.duration.toSeconds());
+
+    ExecutorService clients = Executors.newFixedThreadPool(config.concurrency);
+    List<Future<Map<Endpoint, LatencyRecorder>>> futures = new ArrayList<>();
+    for (int i = 0; i < config.concurrency; i++) {
+      futures.add(clients.submit(() -> clientLoop(baseUrl, dataset, weighted, measureFromNanos, endNanos)));
+    }
+
+    // Statements issued during warmup are not part of the report
+    Thread.sleep(Math.max(0, (measureFromNanos - System.nanoTime()) / 1_000_000));
+    StatementCountingConfig.reset();
+
+    Map<Endpoint, LatencyRecorder> merged = new EnumMap<>(Endpoint.class);
+    for (Future<Map<Endpoint, LatencyRecorder>> future : futures) {
+      future.get().forEach((endpoint, recorder) ->
+          merged.computeIfAbsent(endpoint, key -> new LatencyRecorder()).merge(recorder));
+    }
+    clients.shutdown();
+    return merged;
+  }
+
+  private Map<Endpoint, LatencyRecorder> clientLoop(String baseUrl, Dataset dataset, Endpoint[] weighted,
+                                                    long measureFromNanos, long endNanos) {
+    Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+
+    while (System.nanoTime() < endNanos) {
+      Endpoint endpoint = weighted[random.nextInt(weighted.length)];
+      Endpoint.Request request = endpoint.next(dataset, random);
+      HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + request.path()))
+          .timeout(Duration.ofSeconds(30))
+          .header("X-User-Subject", request.userId())
+          .header("X-User-Roles", request.roles())
+          .header(StatementCountingConfig.ENDPOINT_HEADER, endpoint.name);
+      if (request.body() == null) {
+        builder.method(request.method(), HttpRequest.BodyPublishers.noBody());
+      } else {
+        builder.header("Content-Type", "application/json")
+            .method(request.method(), HttpRequest.BodyPublishers.ofString(request.body()));
+      }
+
+      long started = System.nanoTime();
+      int status;
+      try {
+        status = httpClient.send(builder.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+      } catch (IOException e) {
+        status = -1;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      long elapsed = System.nanoTime() - started;
+
+      if (started >= measureFromNanos) {
+        recorders.computeIfAbsent(endpoint, key -> new LatencyRecorder())
+            .record(elapsed, status >= 200 && status < 400);
+      }
+    }
+    return recorders;
+  }
+
+  private Map<String, Object> report(Dataset dataset, Map<Endpoint, LatencyRecorder> results) {
+    double seconds = config.duration.toNanos() / 1e9;
+
+    List<Map<String, Object>> endpoints = new ArrayList<>();
+    LatencyRecorder total = new LatencyRecorder();
+    long totalStatements = 0;
+    for (Map.Entry<Endpoint, LatencyRecorder> entry : results.entrySet()) {
+      Endpoint endpoint = entry.getKey();
+      LatencyRecorder recorder = entry.getValue();
+      long statements = StatementCountingConfig.statementsFor(endpoint.name);
+      total.merge(recorder);
+      totalStatements += statements;
+
+      Map<String, Object> row = new LinkedHashMap<>();
+      row.put("endpoint", endpoint.name);
+      row.put("method", endpoint.method);
+      row.put("path", endpoint.path);
+      row.putAll(summary(recorder, statements, seconds));
+      endpoints.add(row);
+      log("%-18s %8d req %8.1f req/s  p50 %7.2f ms  p99 %7.2f ms  %5.2f stmt/req  %d errors", endpoint.name,
+          recorder.count(), row.get("throughputPerSecond"), percentileMillis(recorder.sorted(), 0.50),
+          percentileMillis(recorder.sorted(), 0.99), row.get("statementsPerRequest"), recorder.errors());
+    }
+
+    Map<String, Object> settings = new LinkedHashMap<>();
+    settings.put("jdbcUrl", config.jdbcUrl);
+    settings.put("concurrency", config.concurrency);
+    settings.put("warmupSeconds", config.warmup.toSeconds());
+    settings.put("durationSeconds", config.duration.toSeconds());
+    Map<String, Integer> mix = new LinkedHashMap<>();
+    config.mix.forEach((endpoint, weight) -> mix.put(endpoint.name, weight));
+    settings.put("mix", mix);
+    settings.put("applicationProperties", config.applicationProperties);
+
+    Map<String, Object> data = new LinkedHashMap<>();
+    data.put("rows", dataset.rowCounts);
+    data.put("loadSeconds", dataset.loadMillis / 1000.0);
+
+    Map<String, Object> report = new LinkedHashMap<>();
+    report.put("finishedAt", Instant.now().toString());
+    report.put("settings", settings);
+    report.put("dataset", data);
+    report.put("total", summary(total, totalStatements, seconds));
+    report.put("endpoints", endpoints);
+    return report;
+  }
+
+  private static Map<String, Object> summary(LatencyRecorder recorder, long statements, double seconds) {
+    long[] sorted = recorder.sorted();
+    Map<String, Object> latency = new LinkedHashMap<>();
+    latency.put("p50", percentileMillis(sorted, 0.50));
+    latency.put("p90", percentileMillis(sorted, 0.90));
+    latency.put("p99", percentileMillis(sorted, 0.99));
+    latency.put("p999", percentileMillis(sorted, 0.999));
+    latency.put("max", sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1e6);
+
+    Map<String, Object> summary = new LinkedHashMap<>();
+    summary.put("requests", recorder.count());
+    summary.put("errors", recorder.errors());
+    summary.put("throughputPerSecond", round(recorder.count() / seconds));
+    summary.put("latencyMillis", latency);
+    summary.put("statements", statements);
+    summary.put("statementsPerRequest", recorder.count() == 0 ? 0.0 : round((double) statements / recorder.count()));
+    return summary;
+  }
+
+  // Nearest-rank percentile
+  private static double percentileMillis(long[] sorted, double percentile) {
+    if (sorted.length == 0) {
+      return 0.0;
+    }
+    int rank = (int) Math.ceil(percentile * sorted.length);
+    return round(sorted[Math.max(0, rank - 1)] / 1e6);
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 100) / 100.0;
+  }
+
+  private static void log(String format, Object... args) {
+    System.out.printf("[loadtest] " + format + "%n", args);
+  }
+}
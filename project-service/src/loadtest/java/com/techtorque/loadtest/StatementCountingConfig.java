@@ -0,0 +1,112 @@
+package com.techtorque.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the JDBC statements each endpoint issues. The load generator tags every request with
+ * {@value #ENDPOINT_HEADER}; a filter keeps the tag on the request thread, and connections handed
+ * out by the application data source count the statements prepared while a tag is set.
+ * Only registered by {@link LoadTestRunner}, never part of the application itself.
+ */
+@Configuration(proxyBeanMethods = false)
+class StatementCountingConfig {
+
+  static final String ENDPOINT_HEADER = "X-Load-Test-Endpoint";
+
+  private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "createStatement", "prepareCall");
+  private static final ThreadLocal<String> CURRENT_ENDPOINT = new ThreadLocal<>();
+  private static final Map<String, LongAdder> STATEMENTS = new ConcurrentHashMap<>();
+
+  static long statementsFor(String endpoint) {
+    LongAdder count = STATEMENTS.get(endpoint);
+    return count == null ? 0 : count.sum();
+  }
+
+  static void reset() {
+    STATEMENTS.clear();
+  }
+
+  @Bean
+  static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+          return new CountingDataSource(dataSource);
+        }
+        return bean;
+      }
+    };
+  }
+
+  @Bean
+  FilterRegistrationBean<OncePerRequestFilter> endpointTaggingFilter() {
+    FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(new OncePerRequestFilter() {
+      @Override
+      protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+          throws ServletException, IOException {
+        CURRENT_ENDPOINT.set(request.getHeader(ENDPOINT_HEADER));
+        try {
+          chain.doFilter(request, response);
+        } finally {
+          CURRENT_ENDPOINT.remove();
+        }
+      }
+    });
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+
+  private static final class CountingDataSource extends DelegatingDataSource {
+
+    private CountingDataSource(DataSource target) {
+      super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      return counting(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      return counting(super.getConnection(username, password));
+    }
+
+    private static Connection counting(Connection target) {
+      return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+          (proxy, method, args) -> {
+            String endpoint = CURRENT_ENDPOINT.get();
+            if (endpoint != null && STATEMENT_METHODS.contains(method.getName())) {
+              STATEMENTS.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+            }
+            try {
+              return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+              throw e.getCause();
+            }
+          });
+    }
+  }
+}
@@ -1,10 +1,13 @@
 package com.techtorque.project_service;
 
+import com.techtorque.project_service.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication(exclude = {UserDetailsServiceAutoConfiguration.class})
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class ProjectServiceApplication {
 
 	public static void main(String[] args) {
@@ -1,5 +1,6 @@
 package com.techtorque.project_service.client;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
@@ -15,12 +16,15 @@ import org.springframework.web.client.HttpClientErrorException;
 public class AppointmentClient {
 
   private final RestTemplate restTemplate;
+  private final DownstreamMetrics metrics;
   private final String appointmentServiceUrl;
 
   public AppointmentClient(
       RestTemplate restTemplate,
+      DownstreamMetrics metrics,
       @Value("${services.appointment.url:http://localhost:8083}") String appointmentServiceUrl) {
     this.restTemplate = restTemplate;
+    this.metrics = metrics;
     this.appointmentServiceUrl = appointmentServiceUrl;
   }
 
@@ -28,8 +32,11 @@ public class AppointmentClient {
    * Cancel an appointment (used when project is rejected)
    */
   public void cancelAppointment(String appointmentId, String adminId) {
+    Timer.Sample sample = metrics.start();
+    Exception failure = null;
     try {
-      String url = appointmentServiceUrl + "/api/appointments/" + appointmentId;
+      // URI template, so the http.client.requests uri tag stays one value per endpoint
+      String url = appointmentServiceUrl + "/api/appointments/{appointmentId}";
 
       HttpHeaders headers = new HttpHeaders();
       headers.set("X-User-Subject", adminId);
@@ -37,14 +44,18 @@ public class AppointmentClient {
 
       HttpEntity<Void> request = new HttpEntity<>(headers);
 
-      restTemplate.exchange(url, HttpMethod.DELETE, request, Void.class);
+      restTemplate.exchange(url, HttpMethod.DELETE, request, Void.class, appointmentId);
 
       log.info("Successfully cancelled appointment {} via Appointment Service", appointmentId);
     } catch (HttpClientErrorException e) {
+      failure = e;
       log.error("Failed to cancel appointment {}: {}", appointmentId, e.getMessage());
       // Don't throw - project rejection should still succeed even if appointment cancellation fails
     } catch (Exception e) {
+      failure = e;
       log.error("Error communicating with Appointment Service: {}", e.getMessage());
+    } finally {
+      metrics.stop(sample, "appointment", "cancelAppointment", failure);
     }
   }
 
@@ -52,8 +63,10 @@ public class AppointmentClient {
    * Update appointment status to CONFIRMED (used when project is approved)
    */
   public void confirmAppointment(String appointmentId, String adminId) {
+    Timer.Sample sample = metrics.start();
+    Exception failure = null;
     try {
-      String url = appointmentServiceUrl + "/api/appointments/" + appointmentId + "/status";
+      String url = appointmentServiceUrl + "/api/appointments/{appointmentId}/status";
 
       HttpHeaders headers = new HttpHeaders();
       headers.set("X-User-Subject", adminId);
@@ -63,14 +76,18 @@ public class AppointmentClient {
       String body = "{\"newStatus\":\"CONFIRMED\"}";
       HttpEntity<String> request = new HttpEntity<>(body, headers);
 
-      restTemplate.exchange(url, HttpMethod.PATCH, request, String.class);
+      restTemplate.exchange(url, HttpMethod.PATCH, request, String.class, appointmentId);
 
       log.info("Successfully confirmed appointment {} via Appointment Service", appointmentId);
     } catch (HttpClientErrorException e) {
+      failure = e;
       log.error("Failed to confirm appointment {}: {}", appointmentId, e.getMessage());
       // Don't throw - project approval should still succeed even if appointment confirmation fails
     } catch (Exception e) {
+      failure = e;
       log.error("Error communicating with Appointment Service: {}", e.getMessage());
+    } finally {
+      metrics.stop(sample, "appointment", "confirmAppointment", failure);
     }
   }
 }
@@ -0,0 +1,57 @@
+package com.techtorque.project_service.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Latency and outcome of calls to other services, recorded as {@code downstream.calls} tagged by
+ * client, operation and outcome. The clients swallow failures, so this is where they show up.
+ */
+@Component
+public class DownstreamMetrics {
+
+  static final String METRIC = "downstream.calls";
+
+  private final MeterRegistry meterRegistry;
+
+  public DownstreamMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  public Timer.Sample start() {
+    return Timer.start(meterRegistry);
+  }
+
+  /**
+   * @param failure the exception the call ended with, or {@code null} if it succeeded
+   */
+  public void stop(Timer.Sample sample, String client, String operation, Exception failure) {
+    sample.stop(Timer.builder(METRIC)
+        .description("Calls to downstream services")
+        .tag("client", client)
+        .tag("operation", operation)
+        .tag("outcome", outcome(failure))
+        .publishPercentileHistogram()
+        .register(meterRegistry));
+  }
+
+  private static String outcome(Exception failure) {
+    if (failure == null) {
+      return "SUCCESS";
+    }
+    if (failure instanceof HttpClientErrorException) {
+      return "CLIENT_ERROR";
+    }
+    if (failure instanceof HttpServerErrorException) {
+      return "SERVER_ERROR";
+    }
+    if (failure instanceof ResourceAccessException) {
+      return "IO_ERROR"; // connection refused, timeouts
+    }
+    return "UNKNOWN";
+  }
+}
@@ -1,5 +1,6 @@
 package com.techtorque.project_service.client;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
@@ -15,12 +16,15 @@ import org.springframework.web.client.HttpClientErrorException;
 public class NotificationClient {
 
   private final RestTemplate restTemplate;
+  private final DownstreamMetrics metrics;
   private final String notificationServiceUrl;
 
   public NotificationClient(
       RestTemplate restTemplate,
+      DownstreamMetrics metrics,
       @Value("${services.notification.url:http://localhost:8088}") String notificationServiceUrl) {
     this.restTemplate = restTemplate;
+    this.metrics = metrics;
     this.notificationServiceUrl = notificationServiceUrl;
   }
 
@@ -28,26 +32,44 @@ public class NotificationClient {
    * Send project notification to user
    */
   public void sendProjectNotification(String userId, String type, String title, String message, String projectId) {
+    send("sendProjectNotification", userId, type, title, message, projectId, "PROJECT");
+  }
+
+  /**
+   * Send service notification to user
+   */
+  public void sendServiceNotification(String userId, String type, String title, String message, String serviceId) {
+    send("sendServiceNotification", userId, type, title, message, serviceId, "SERVICE");
+  }
+
+  private void send(String operation, String userId, String type, String title, String message,
+                    String referenceId, String referenceType) {
+    Timer.Sample sample = metrics.start();
+    Exception failure = null;
     try {
-      String url = notificationServiceUrl + "/api/notifications/project";
+      String url = notificationServiceUrl + "/api/notifications/" + referenceType.toLowerCase();
 
       HttpHeaders headers = new HttpHeaders();
       headers.setContentType(MediaType.APPLICATION_JSON);
 
       String body = String.format(
-          "{\"userId\":\"%s\",\"type\":\"%s\",\"title\":\"%s\",\"message\":\"%s\",\"referenceId\":\"%s\",\"referenceType\":\"PROJECT\"}",
-          userId, type, title, message, projectId);
+          "{\"userId\":\"%s\",\"type\":\"%s\",\"title\":\"%s\",\"message\":\"%s\",\"referenceId\":\"%s\",\"referenceType\":\"%s\"}",
+          userId, type, title, message, referenceId, referenceType);
 
       HttpEntity<String> request = new HttpEntity<>(body, headers);
 
       restTemplate.postForEntity(url, request, String.class);
 
-      log.info("Successfully sent project notification to user {}", userId);
+      log.info("Successfully sent {} notification to user {}", referenceType.toLowerCase(), userId);
     } catch (HttpClientErrorException e) {
+      failure = e;
       log.error("Failed to send notification to user {}: {}", userId, e.getMessage());
-      // Don't throw - project operations should still succeed even if notification fails
+      // Don't throw - the calling operation should still succeed even if notification fails
     } catch (Exception e) {
+      failure = e;
       log.error("Error communicating with Notification Service: {}", e.getMessage());
+    } finally {
+      metrics.stop(sample, "notification", operation, failure);
     }
   }
 }
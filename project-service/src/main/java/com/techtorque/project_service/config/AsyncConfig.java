@@ -0,0 +1,81 @@
+package com.techtorque.project_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executors and scheduling for work that runs outside the request thread.
+ */
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+  /**
+   * Name of the scheduler for the short, frequent checks whose delay would break something else:
+   * idempotency claim renewal, stalled stream eviction and replica lag. Jobs on {@code taskScheduler}
+   * (reconciliation, sweeps) can run for minutes and would otherwise hold these back.
+   */
+  public static final String CHECK_SCHEDULER = "checkScheduler";
+
+  /**
+   * Runs the {@code @Scheduled} jobs that name no scheduler, sized by {@code spring.task.scheduling.pool.size}.
+   * Declared here because defining {@link #checkScheduler} turns off Boot's own.
+   */
+  @Bean(name = "taskScheduler")
+  public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+    return builder.build();
+  }
+
+  @Bean(name = CHECK_SCHEDULER)
+  public ThreadPoolTaskScheduler checkScheduler(
+      @Value("${scheduling.checks.threads:2}") int threads) {
+    ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setPoolSize(threads);
+    scheduler.setThreadNamePrefix("scheduled-check-");
+    return scheduler;
+  }
+
+  /**
+   * Used to fan out notification and appointment calls for bulk project operations.
+   * Callers run the task themselves when the queue is full, which throttles instead of dropping work.
+   * Tasks carry the submitting thread's trace context, so their client spans join the request's trace.
+   */
+  @Bean(name = "projectSideEffectExecutor")
+  public ThreadPoolTaskExecutor projectSideEffectExecutor(
+      @Value("${projects.bulk.side-effect-threads:16}") int threads) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setQueueCapacity(threads * 32);
+    executor.setThreadNamePrefix("project-side-effect-");
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Drains the per-subscriber buffers of the progress event streams. Writes to idle or healthy
+   * clients are short, so a small pool serves many thousands of open streams.
+   */
+  @Bean(name = "progressEventExecutor")
+  public ThreadPoolTaskExecutor progressEventExecutor(
+      @Value("${events.sse.dispatch-threads:4}") int threads) {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(threads);
+    executor.setMaxPoolSize(threads);
+    executor.setThreadNamePrefix("progress-event-");
+    executor.initialize();
+    return executor;
+  }
+}
@@ -0,0 +1,441 @@
+package com.techtorque.project_service.config;
+
+import com.techtorque.project_service.config.BulkDataProperties.Loader;
+import com.techtorque.project_service.entity.InvoiceStatus;
+import com.techtorque.project_service.entity.ProjectStatus;
+import com.techtorque.project_service.entity.ServiceStatus;
+import com.techtorque.project_service.entity.UuidV7Generator;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Writes a large synthetic dataset straight into the tables with JDBC batches or PostgreSQL COPY,
+ * bypassing JPA. Customers are split into chunks that worker threads generate and commit
+ * independently; each chunk draws from its own random stream derived from the seed, so the rows do
+ * not depend on the thread count or on which worker picks up which chunk.
+ *
+ * The schema must already exist (Hibernate {@code ddl-auto} or a migration).
+ */
+@Slf4j
+public class BulkDataGenerator {
+
+  private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+  private static final long HOUR_MILLIS = 60L * 60 * 1000;
+
+  private static final ProjectStatus[] PROJECT_STATUSES = {
+      ProjectStatus.REQUESTED, ProjectStatus.REQUESTED, ProjectStatus.PENDING_ADMIN_REVIEW,
+      ProjectStatus.QUOTED, ProjectStatus.QUOTED, ProjectStatus.APPROVED, ProjectStatus.APPROVED,
+      ProjectStatus.IN_PROGRESS, ProjectStatus.IN_PROGRESS, ProjectStatus.IN_PROGRESS,
+      ProjectStatus.COMPLETED, ProjectStatus.COMPLETED, ProjectStatus.REJECTED, ProjectStatus.CANCELLED};
+  private static final ServiceStatus[] OPEN_SERVICE_STATUSES = {
+      ServiceStatus.CREATED, ServiceStatus.IN_PROGRESS, ServiceStatus.IN_PROGRESS, ServiceStatus.ON_HOLD};
+  private static final String[] PROJECT_TYPES = {
+      "Performance exhaust", "Suspension lowering", "Custom paint", "Turbo upgrade", "Interior retrim"};
+  private static final String[] LINE_ITEMS = {
+      "Labour", "Engine oil", "Oil filter", "Brake pads", "Air filter", "Spark plugs", "Coolant", "Wiper blades"};
+  private static final BigDecimal TAX_RATE = new BigDecimal("0.15");
+
+  // Parents first, so foreign keys hold within each chunk's transaction
+  private static final Table PROJECTS = new Table("projects", "id", "customer_id", "vehicle_id", "project_type",
+      "description", "desired_completion_date", "budget", "status", "progress", "created_at", "updated_at", "version");
+  private static final Table SERVICES = new Table("standard_services", "id", "appointment_id", "customer_id",
+      "status", "progress", "hours_logged", "estimated_completion", "created_at", "updated_at", "version");
+  private static final Table SERVICE_EMPLOYEES = new Table("standard_service_assigned_employee_ids",
+      "standard_service_id", "assigned_employee_ids");
+  private static final Table NOTES = new Table("service_notes", "id", "service_id", "employee_id", "note",
+      "is_customer_visible", "created_at");
+  private static final Table PHOTOS = new Table("progress_photos", "id", "service_id", "photo_url", "description",
+      "uploaded_by", "uploaded_at");
+  private static final Table INVOICES = new Table("invoices", "id", "invoice_number", "service_id", "customer_id",
+      "subtotal", "tax_amount", "total_amount", "status", "paid_at", "created_at", "updated_at");
+  private static final Table INVOICE_ITEMS = new Table("invoice_items", "id", "invoice_id", "description",
+      "quantity", "unit_price", "amount");
+  private static final List<Table> TABLES = List.of(
+      PROJECTS, SERVICES, SERVICE_EMPLOYEES, NOTES, PHOTOS, INVOICES, INVOICE_ITEMS);
+
+  private final DataSource dataSource;
+  private final BulkDataProperties properties;
+  private final long anchorMillis;
+
+  public BulkDataGenerator(DataSource dataSource, BulkDataProperties properties) {
+    this.dataSource = dataSource;
+    this.properties = properties;
+    LocalDateTime anchor = properties.getAnchor() != null
+        ? properties.getAnchor()
+        : LocalDate.now().atStartOfDay();
+    this.anchorMillis = anchor.toInstant(ZoneOffset.UTC).toEpochMilli();
+  }
+
+  public record Result(Map<String, Long> rowCounts, long elapsedMillis) {
+
+    public long totalRows() {
+      return rowCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+  }
+
+  public String customerId(int index) {
+    return properties.getCustomerIdPrefix() + String.format("%07d", index);
+  }
+
+  /**
+   * Whether rows from this seed are already present; generating twice would fail on the unique keys.
+   */
+  public boolean alreadyGenerated() throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+         PreparedStatement ps = connection.prepareStatement(
+             "SELECT COUNT(*) FROM standard_services WHERE appointment_id LIKE ?")) {
+      ps.setString(1, appointmentPrefix() + "%");
+      try (var rs = ps.executeQuery()) {
+        return rs.next() && rs.getLong(1) > 0;
+      }
+    }
+  }
+
+  public Result generate() throws SQLException {
+    long started = System.currentTimeMillis();
+    boolean copy = useCopy();
+    int chunkSize = Math.max(1, properties.getChunkSize());
+    int chunks = (properties.getCustomers() + chunkSize - 1) / chunkSize;
+    int threads = Math.max(1, Math.min(properties.getThreads(), chunks));
+    log.info("Generating {} customers in {} chunks on {} threads using {}", properties.getCustomers(), chunks,
+        threads, copy ? "COPY" : "JDBC batches");
+
+    Map<String, Long> rowCounts = new LinkedHashMap<>();
+    TABLES.forEach(table -> rowCounts.put(table.name, 0L));
+
+    ExecutorService workers = Executors.newFixedThreadPool(threads);
+    try {
+      // Streams are split off in chunk order here, so chunk N always gets the same one
+      SplittableRandom root = new SplittableRandom(properties.getSeed());
+      List<Future<long[]>> futures = new ArrayList<>(chunks);
+      for (int chunk = 0; chunk < chunks; chunk++) {
+        int index = chunk;
+        SplittableRandom random = root.split();
+        futures.add(workers.submit(() -> writeChunk(index, chunkSize, random, copy)));
+      }
+      int done = 0;
+      for (Future<long[]> future : futures) {
+        long[] counts = future.get();
+        for (int t = 0; t < TABLES.size(); t++) {
+          rowCounts.merge(TABLES.get(t).name, counts[t], Long::sum);
+        }
+        if (++done % Math.max(1, chunks / 10) == 0) {
+          log.info("Generated {}/{} chunks", done, chunks);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Bulk data generation interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof SQLException sqlException) {
+        throw sqlException;
+      }
+      throw new IllegalStateException("Bulk data generation failed", e.getCause());
+    } finally {
+      workers.shutdownNow();
+    }
+
+    Result result = new Result(rowCounts, System.currentTimeMillis() - started);
+    log.info("Generated {} rows in {} ms: {}", result.totalRows(), result.elapsedMillis(), rowCounts);
+    return result;
+  }
+
+  private boolean useCopy() throws SQLException {
+    if (properties.getLoader() != Loader.AUTO) {
+      return properties.getLoader() == Loader.COPY;
+    }
+    try (Connection connection = dataSource.getConnection()) {
+      return connection.isWrapperFor(PGConnection.class);
+    }
+  }
+
+  private String appointmentPrefix() {
+    return "BLK-" + properties.getSeed() + "-";
+  }
+
+  private long[] writeChunk(int chunk, int chunkSize, SplittableRandom random, boolean copy) throws SQLException {
+    ChunkRows rows = generateChunk(chunk, chunkSize, random);
+
+    try (Connection connection = dataSource.getConnection()) {
+      connection.setAutoCommit(false);
+      try {
+        for (Table table : TABLES) {
+          List<Object[]> tableRows = rows.of(table);
+          if (copy) {
+            copy(connection, table, tableRows);
+          } else {
+            insert(connection, table, tableRows);
+          }
+        }
+        connection.commit();
+      } catch (SQLException | RuntimeException e) {
+        connection.rollback();
+        throw e;
+      }
+    }
+
+    long[] counts = new long[TABLES.size()];
+    for (int t = 0; t < TABLES.size(); t++) {
+      counts[t] = rows.of(TABLES.get(t)).size();
+    }
+    return counts;
+  }
+
+  private ChunkRows generateChunk(int chunk, int chunkSize, SplittableRandom random) {
+    ChunkRows rows = new ChunkRows();
+    String keyPrefix = properties.getSeed() + "-" + chunk + "-";
+    int serviceCounter = 0;
+
+    int first = chunk * chunkSize;
+    int last = Math.min(first + chunkSize, properties.getCustomers());
+    for (int c = first; c < last; c++) {
+      String customerId = customerId(c);
+
+      int projects = properties.getProjectsPerCustomer().sample(random);
+      for (int p = 0; p < projects; p++) {
+        addProject(rows, random, customerId, c);
+      }
+
+      int services = properties.getServicesPerCustomer().sample(random);
+      for (int s = 0; s < services; s++) {
+        addService(rows, random, customerId, keyPrefix + serviceCounter++);
+      }
+    }
+    return rows;
+  }
+
+  private void addProject(ChunkRows rows, SplittableRandom random, String customerId, int customerIndex) {
+    long createdAt = anchorMillis - random.nextLong(365 * DAY_MILLIS);
+    ProjectStatus status = PROJECT_STATUSES[random.nextInt(PROJECT_STATUSES.length)];
+    String projectType = PROJECT_TYPES[random.nextInt(PROJECT_TYPES.length)];
+    int progress = switch (status) {
+      case IN_PROGRESS -> 1 + random.nextInt(99);
+      case COMPLETED -> 100;
+      default -> 0;
+    };
+
+    rows.of(PROJECTS).add(new Object[]{
+        UuidV7Generator.fromTimestamp(createdAt, random.nextLong()),
+        customerId,
+        "vehicle-" + customerIndex + "-" + random.nextInt(3),
+        projectType,
+        projectType + " requested by " + customerId,
+        toDateTime(createdAt + (30 + random.nextInt(60)) * DAY_MILLIS).toLocalDate().toString(),
+        money(random, 500, 20_000),
+        status.name(),
+        progress,
+        toDateTime(createdAt),
+        toDateTime(createdAt + random.nextLong(10 * DAY_MILLIS)),
+        0L});
+  }
+
+  private void addService(ChunkRows rows, SplittableRandom random, String customerId, String key) {
+    long createdAt = anchorMillis - random.nextLong(180 * DAY_MILLIS);
+    UUID serviceId = UuidV7Generator.fromTimestamp(createdAt, random.nextLong());
+    boolean completed = random.nextDouble() < properties.getCompletedServiceRatio();
+    ServiceStatus status = completed
+        ? ServiceStatus.COMPLETED
+        : OPEN_SERVICE_STATUSES[random.nextInt(OPEN_SERVICE_STATUSES.length)];
+
+    rows.of(SERVICES).add(new Object[]{
+        serviceId,
+        appointmentPrefix() + key,
+        customerId,
+        status.name(),
+        completed ? 100 : random.nextInt(100),
+        random.nextInt(40) / 4.0,
+        toDateTime(createdAt + (2 + random.nextInt(48)) * HOUR_MILLIS),
+        toDateTime(createdAt),
+        toDateTime(createdAt + random.nextLong(2 * DAY_MILLIS)),
+        0L});
+
+    // Consecutive pool members, so the set never repeats an employee
+    int employees = Math.min(properties.getEmployeesPerService().sample(random), properties.getEmployees());
+    int firstEmployee = random.nextInt(properties.getEmployees());
+    String leadEmployee = employeeId(firstEmployee);
+    for (int e = 0; e < employees; e++) {
+      rows.of(SERVICE_EMPLOYEES).add(new Object[]{
+          serviceId, employeeId((firstEmployee + e) % properties.getEmployees())});
+    }
+
+    long noteAt = createdAt;
+    int notes = properties.getNotesPerService().sample(random);
+    for (int n = 0; n < notes; n++) {
+      noteAt += random.nextLong(1, 4 * HOUR_MILLIS);
+      rows.of(NOTES).add(new Object[]{
+          UuidV7Generator.fromTimestamp(noteAt, random.nextLong()),
+          serviceId,
+          leadEmployee,
+          "Work note " + (n + 1) + " for " + key,
+          random.nextInt(10) < 7,
+          toDateTime(noteAt)});
+    }
+
+    long photoAt = createdAt;
+    int photos = properties.getPhotosPerService().sample(random);
+    for (int p = 0; p < photos; p++) {
+      photoAt += random.nextLong(1, 6 * HOUR_MILLIS);
+      UUID photoId = UuidV7Generator.fromTimestamp(photoAt, random.nextLong());
+      rows.of(PHOTOS).add(new Object[]{
+          photoId,
+          serviceId,
+          "/uploads/service-photos/" + serviceId + "/" + photoId + ".jpg",
+          "Progress photo " + (p + 1),
+          leadEmployee,
+          toDateTime(photoAt)});
+    }
+
+    if (completed) {
+      addInvoice(rows, random, serviceId, customerId, key, createdAt + DAY_MILLIS);
+    }
+  }
+
+  private void addInvoice(ChunkRows rows, SplittableRandom random, UUID serviceId, String customerId, String key,
+                          long issuedAt) {
+    UUID invoiceId = UuidV7Generator.fromTimestamp(issuedAt, random.nextLong());
+    BigDecimal subtotal = BigDecimal.ZERO;
+    int items = Math.max(1, properties.getItemsPerInvoice().sample(random));
+    for (int i = 0; i < items; i++) {
+      int quantity = 1 + random.nextInt(4);
+      BigDecimal unitPrice = money(random, 10, 400);
+      BigDecimal amount = unitPrice.multiply(BigDecimal.valueOf(quantity));
+      subtotal = subtotal.add(amount);
+      rows.of(INVOICE_ITEMS).add(new Object[]{
+          UuidV7Generator.fromTimestamp(issuedAt, random.nextLong()),
+          invoiceId,
+          LINE_ITEMS[random.nextInt(LINE_ITEMS.length)],
+          quantity,
+          unitPrice,
+          amount});
+    }
+
+    BigDecimal tax = subtotal.multiply(TAX_RATE);
+    boolean paid = random.nextBoolean();
+    rows.of(INVOICES).add(new Object[]{
+        invoiceId,
+        "INV-" + appointmentPrefix() + key,
+        serviceId,
+        customerId,
+        subtotal,
+        tax,
+        subtotal.add(tax),
+        (paid ? InvoiceStatus.PAID : InvoiceStatus.PENDING).name(),
+        paid ? toDateTime(issuedAt + random.nextLong(14 * DAY_MILLIS)) : null,
+        toDateTime(issuedAt),
+        toDateTime(issuedAt)});
+  }
+
+  private void insert(Connection connection, Table table, List<Object[]> rows) throws SQLException {
+    if (rows.isEmpty()) {
+      return;
+    }
+    try (PreparedStatement ps = connection.prepareStatement(table.insertSql)) {
+      int pending = 0;
+      for (Object[] row : rows) {
+        for (int i = 0; i < row.length; i++) {
+          Object value = row[i];
+          if (value instanceof LocalDateTime dateTime) {
+            ps.setTimestamp(i + 1, Timestamp.valueOf(dateTime));
+          } else {
+            ps.setObject(i + 1, value);
+          }
+        }
+        ps.addBatch();
+        if (++pending == properties.getBatchSize()) {
+          ps.executeBatch();
+          pending = 0;
+        }
+      }
+      if (pending > 0) {
+        ps.executeBatch();
+      }
+    }
+  }
+
+  private void copy(Connection connection, Table table, List<Object[]> rows) throws SQLException {
+    if (rows.isEmpty()) {
+      return;
+    }
+    StringBuilder csv = new StringBuilder(rows.size() * 128);
+    for (Object[] row : rows) {
+      for (int i = 0; i < row.length; i++) {
+        if (i > 0) {
+          csv.append(',');
+        }
+        Object value = row[i];
+        if (value instanceof String text) {
+          // Quoted, so empty strings stay distinct from NULL
+          csv.append('"').append(text.replace("\"", "\"\"")).append('"');
+        } else if (value != null) {
+          csv.append(value);
+        }
+      }
+      csv.append('\n');
+    }
+    try {
+      connection.unwrap(PGConnection.class).getCopyAPI().copyIn(table.copySql, new StringReader(csv.toString()));
+    } catch (IOException e) {
+      throw new SQLException("COPY into " + table.name + " failed", e);
+    }
+  }
+
+  private String employeeId(int index) {
+    return "employee-" + String.format("%04d", index);
+  }
+
+  private static LocalDateTime toDateTime(long epochMillis) {
+    return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMillis, 1000),
+        (int) Math.floorMod(epochMillis, 1000) * 1_000_000, ZoneOffset.UTC);
+  }
+
+  private static BigDecimal money(SplittableRandom random, int min, int max) {
+    return BigDecimal.valueOf(random.nextLong(min * 100L, max * 100L), 2);
+  }
+
+  private static final class Table {
+
+    private final String name;
+    private final String insertSql;
+    private final String copySql;
+
+    private Table(String name, String... columns) {
+      String columnList = String.join(", ", columns);
+      this.name = name;
+      this.insertSql = "INSERT INTO " + name + " (" + columnList + ") VALUES ("
+          + String.join(", ", Collections.nCopies(columns.length, "?")) + ")";
+      this.copySql = "COPY " + name + " (" + columnList + ") FROM STDIN WITH (FORMAT csv)";
+    }
+  }
+
+  private static final class ChunkRows {
+
+    private final Map<Table, List<Object[]>> rows = new LinkedHashMap<>();
+
+    List<Object[]> of(Table table) {
+      return rows.computeIfAbsent(table, key -> new ArrayList<>());
+    }
+  }
+}
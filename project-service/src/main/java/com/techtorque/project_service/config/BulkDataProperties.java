@@ -0,0 +1,117 @@
+package com.techtorque.project_service.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * Sizing of the synthetic dataset written by {@link BulkDataGenerator}. Counts below a customer or
+ * service are drawn per parent from the configured distribution, so the totals are roughly
+ * {@code customers * mean} rather than exact.
+ */
+@Data
+@ConfigurationProperties(prefix = "seed.bulk")
+public class BulkDataProperties {
+
+  /** Generate the dataset on startup. */
+  private boolean enabled = false;
+
+  /** Same seed, anchor and sizing produce the same rows, whatever the thread count. */
+  private long seed = 42;
+
+  /** Timestamps are spread over the year before this instant. Defaults to the start of the current day. */
+  private LocalDateTime anchor;
+
+  private int customers = 100_000;
+
+  private String customerIdPrefix = "customer-";
+
+  /** Size of the pool that notes, photos and service assignments are drawn from. */
+  private int employees = 200;
+
+  private Cardinality projectsPerCustomer = new Cardinality(2, Distribution.GEOMETRIC, 50);
+
+  private Cardinality servicesPerCustomer = new Cardinality(5, Distribution.GEOMETRIC, 100);
+
+  private Cardinality employeesPerService = new Cardinality(1, Distribution.UNIFORM, 3);
+
+  private Cardinality notesPerService = new Cardinality(4, Distribution.POISSON, 40);
+
+  private Cardinality photosPerService = new Cardinality(1, Distribution.POISSON, 20);
+
+  private Cardinality itemsPerInvoice = new Cardinality(3, Distribution.UNIFORM, 12);
+
+  /** Share of services generated as COMPLETED, each with an invoice. */
+  private double completedServiceRatio = 0.3;
+
+  /** BATCH uses JDBC batch inserts, COPY uses PostgreSQL COPY, AUTO picks COPY on PostgreSQL. */
+  private Loader loader = Loader.AUTO;
+
+  /** Customers generated and committed together by one worker. */
+  private int chunkSize = 1_000;
+
+  /** Rows per JDBC batch round trip in BATCH mode. */
+  private int batchSize = 1_000;
+
+  /** Worker threads; each holds one connection while it writes a chunk. */
+  private int threads = Runtime.getRuntime().availableProcessors();
+
+  public enum Loader {
+    AUTO,
+    BATCH,
+    COPY
+  }
+
+  public enum Distribution {
+    FIXED,
+    /** Uniform between 0 and twice the mean. */
+    UNIFORM,
+    POISSON,
+    /** Long tail: most parents get a few rows, some get many. */
+    GEOMETRIC
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class Cardinality {
+
+    private double mean;
+
+    private Distribution distribution = Distribution.FIXED;
+
+    /** Upper bound applied after sampling. */
+    private int max = Integer.MAX_VALUE;
+
+    public int sample(SplittableRandom random) {
+      int value = switch (distribution) {
+        case FIXED -> (int) Math.round(mean);
+        case UNIFORM -> (int) Math.round(random.nextDouble() * 2 * mean);
+        case POISSON -> poisson(random);
+        case GEOMETRIC -> mean <= 0 ? 0
+            : (int) Math.floor(Math.log(1 - random.nextDouble()) / Math.log(mean / (mean + 1)));
+      };
+      return Math.max(0, Math.min(value, max));
+    }
+
+    private int poisson(SplittableRandom random) {
+      if (mean > 30) {
+        // Normal approximation; Knuth's product loop underflows for large means
+        double gaussian = Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+        return (int) Math.round(mean + Math.sqrt(mean) * gaussian);
+      }
+      double limit = Math.exp(-mean);
+      double product = random.nextDouble();
+      int count = 0;
+      while (product > limit) {
+        product *= random.nextDouble();
+        count++;
+      }
+      return count;
+    }
+  }
+}
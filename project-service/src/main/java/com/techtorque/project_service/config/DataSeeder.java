@@ -5,10 +5,13 @@ import com.techtorque.project_service.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import javax.sql.DataSource;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -17,6 +20,7 @@ import java.util.List;
 import java.util.Set;
 
 @Configuration
+@EnableConfigurationProperties(BulkDataProperties.class)
 @RequiredArgsConstructor
 @Slf4j
 public class DataSeeder {
@@ -58,6 +62,23 @@ public class DataSeeder {
         };
     }
 
+    /**
+     * Capacity-testing dataset, written with JDBC batches or COPY instead of the repositories.
+     * Runs alongside the dev fixtures above when {@code seed.bulk.enabled=true}.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "seed.bulk", name = "enabled", havingValue = "true")
+    public CommandLineRunner bulkData(DataSource dataSource, BulkDataProperties properties) {
+        return args -> {
+            BulkDataGenerator generator = new BulkDataGenerator(dataSource, properties);
+            if (generator.alreadyGenerated()) {
+                log.info("Bulk data for seed {} already exists. Skipping generation.", properties.getSeed());
+                return;
+            }
+            generator.generate();
+        };
+    }
+
     private void seedStandardServices() {
         log.info("Seeding standard services...");
 
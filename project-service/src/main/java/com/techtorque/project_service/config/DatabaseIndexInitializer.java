@@ -0,0 +1,82 @@
+package com.techtorque.project_service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL indexes that JPA {@code @Index} cannot express (expression and partial indexes), so
+ * {@code ddl-auto} does not create them. They are built concurrently on a background thread once the
+ * application is ready, so writes carry on and readiness is not held up while a large table is
+ * indexed. An interrupted build leaves an invalid index behind, which must be dropped by hand.
+ */
+@Component
+@Slf4j
+public class DatabaseIndexInitializer {
+
+  private static final Pattern CONFIG_NAME = Pattern.compile("[a-z_]+");
+
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean enabled;
+  private final List<String> statements;
+
+  public DatabaseIndexInitializer(
+      DataSource dataSource,
+      @Value("${database.create-indexes:true}") boolean enabled,
+      @Value("${search.text-search-config:english}") String textSearchConfig) {
+    if (!CONFIG_NAME.matcher(textSearchConfig).matches()) {
+      throw new IllegalArgumentException("Invalid text search configuration name: " + textSearchConfig);
+    }
+    this.jdbcTemplate = new JdbcTemplate(dataSource);
+    this.enabled = enabled;
+    String config = "'" + textSearchConfig + "'";
+    this.statements = List.of(
+        // Full-text search (SearchServiceImpl); expressions must match its queries
+        "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projects_search ON projects "
+            + "USING gin (to_tsvector(" + config + ", project_type || ' ' || description))",
+        "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_service_notes_search ON service_notes "
+            + "USING gin (to_tsvector(" + config + ", note))",
+        // Customer view of the notes of a service, in creation order
+        "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_service_notes_visible ON service_notes "
+            + "(service_id, created_at, id) WHERE is_customer_visible");
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void createIndexes() {
+    if (!enabled || !isPostgres()) {
+      return;
+    }
+    Thread thread = new Thread(() -> {
+      for (String statement : statements) {
+        try {
+          jdbcTemplate.execute(statement);
+        } catch (RuntimeException e) {
+          log.warn("Could not create index ({}): {}", statement, e.getMessage());
+        }
+      }
+      log.info("PostgreSQL indexes are in place");
+    }, "db-indexes");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private boolean isPostgres() {
+    try {
+      return "PostgreSQL".equalsIgnoreCase(
+          JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName));
+    } catch (MetaDataAccessException e) {
+      log.warn("Could not determine the database type, skipping index creation: {}", e.getMessage());
+      return false;
+    }
+  }
+}
@@ -2,14 +2,30 @@ package com.techtorque.project_service.config;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.ApplicationContextInitializer;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.lang.NonNull;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+/**
+ * Checks that the database is reachable while the rest of the context starts up.
+ *
+ * The check runs on its own thread and retries with exponential backoff (bounded by
+ * {@code database.preflight.max-attempts} and {@code max-backoff}), so a database that is still
+ * coming up does not fail the pod, and bean definition loading, the web server and so on are not
+ * held up by it. Startup only waits for the result when the first {@link DataSource} bean is
+ * initialised, and fails there with a clear message if every attempt failed.
+ */
 public class DatabasePreflightInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
 
   private static final Logger logger = LoggerFactory.getLogger(DatabasePreflightInitializer.class);
@@ -18,6 +34,12 @@ public class DatabasePreflightInitializer implements ApplicationContextInitializ
   public void initialize(@NonNull ConfigurableApplicationContext applicationContext) {
     ConfigurableEnvironment env = applicationContext.getEnvironment();
 
+    // Build-time AOT processing never connects, so there is nothing to check
+    if (!env.getProperty("database.preflight.enabled", Boolean.class, true)
+        || Boolean.getBoolean("spring.aot.processing")) {
+      return;
+    }
+
     String jdbcUrl = env.getProperty("spring.datasource.url");
     String username = env.getProperty("spring.datasource.username");
     String password = env.getProperty("spring.datasource.password");
@@ -27,18 +49,80 @@ public class DatabasePreflightInitializer implements ApplicationContextInitializ
       return;
     }
 
+    int maxAttempts = env.getProperty("database.preflight.max-attempts", Integer.class, 6);
+    Duration initialBackoff = env.getProperty("database.preflight.initial-backoff", Duration.class, Duration.ofMillis(500));
+    Duration maxBackoff = env.getProperty("database.preflight.max-backoff", Duration.class, Duration.ofSeconds(5));
+    Duration connectTimeout = env.getProperty("database.preflight.connect-timeout", Duration.class, Duration.ofSeconds(5));
+
+    Properties connectionProperties = new Properties();
+    if (username != null) {
+      connectionProperties.setProperty("user", username);
+    }
+    if (password != null) {
+      connectionProperties.setProperty("password", password);
+    }
+    // PostgreSQL driver, in seconds; other drivers ignore unknown properties
+    connectionProperties.setProperty("connectTimeout", String.valueOf(Math.max(1, connectTimeout.toSeconds())));
+
+    CompletableFuture<Void> preflight = new CompletableFuture<>();
+    Thread thread = new Thread(() -> check(jdbcUrl, connectionProperties, maxAttempts, initialBackoff, maxBackoff, preflight),
+        "db-preflight");
+    thread.setDaemon(true);
+    thread.start();
+
+    applicationContext.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) throws BeansException {
+        if (bean instanceof DataSource) {
+          await(preflight, jdbcUrl);
+        }
+        return bean;
+      }
+    });
+  }
+
+  private static void check(String jdbcUrl, Properties connectionProperties, int maxAttempts,
+                            Duration initialBackoff, Duration maxBackoff, CompletableFuture<Void> preflight) {
     logger.info("Performing database preflight check...");
+    long backoffMillis = initialBackoff.toMillis();
+    for (int attempt = 1; ; attempt++) {
+      try (Connection connection = DriverManager.getConnection(jdbcUrl, connectionProperties)) {
+        logger.info("Database preflight check successful!");
+        preflight.complete(null);
+        return;
+      } catch (Exception e) {
+        if (attempt >= maxAttempts) {
+          preflight.completeExceptionally(e);
+          return;
+        }
+        logger.warn("Database preflight attempt {}/{} failed ({}), retrying in {} ms",
+            attempt, maxAttempts, e.getMessage(), backoffMillis);
+      }
+      try {
+        Thread.sleep(backoffMillis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        preflight.completeExceptionally(e);
+        return;
+      }
+      backoffMillis = Math.min(backoffMillis * 2, maxBackoff.toMillis());
+    }
+  }
 
-    try (Connection connection = DriverManager.getConnection(jdbcUrl, username, password)) {
-      logger.info("Database preflight check successful!");
-    } catch (Exception e) {
+  private static void await(CompletableFuture<Void> preflight, String jdbcUrl) {
+    if (preflight.isDone() && !preflight.isCompletedExceptionally()) {
+      return;
+    }
+    try {
+      preflight.join();
+    } catch (CompletionException e) {
       logger.error("\n\n************************************************************");
       logger.error("** DATABASE PREFLIGHT CHECK FAILED!                       **");
       logger.error("** Could not connect to the database at URL: {}", jdbcUrl);
       logger.error("** Please ensure it is running and accessible.            **");
       logger.error("************************************************************\n");
 
-      System.exit(1);
+      throw new IllegalStateException("Database preflight check failed for " + jdbcUrl, e.getCause());
     }
   }
 }
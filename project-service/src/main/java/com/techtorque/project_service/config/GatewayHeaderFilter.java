@@ -1,9 +1,13 @@
 package com.techtorque.project_service.config;
 
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,8 +18,26 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * Authenticates requests from the identity headers set by the API Gateway.
+ *
+ * The HTTP server observation ahead of the security chain has already continued the gateway's trace
+ * headers; this filter adds a {@code gateway.authentication} child span and tags the server span with
+ * the caller. The span deliberately does not wrap the rest of the chain: Spring Security closes its
+ * own chain observations after this filter returns, which would leave a stale span on the thread.
+ */
 public class GatewayHeaderFilter extends OncePerRequestFilter {
 
+  private final ObservationRegistry observationRegistry;
+
+  public GatewayHeaderFilter() {
+    this(ObservationRegistry.NOOP);
+  }
+
+  public GatewayHeaderFilter(ObservationRegistry observationRegistry) {
+    this.observationRegistry = observationRegistry;
+  }
+
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
           throws ServletException, IOException {
@@ -23,6 +45,21 @@ public class GatewayHeaderFilter extends OncePerRequestFilter {
     String userId = request.getHeader("X-User-Subject");
     String rolesHeader = request.getHeader("X-User-Roles");
 
+    Observation.createNotStarted("gateway.authentication", observationRegistry)
+        .contextualName("gateway authentication")
+        .lowCardinalityKeyValue("roles", rolesHeader == null ? "none" : rolesHeader)
+        .highCardinalityKeyValue("user.id", userId == null ? "anonymous" : userId)
+        .observe(() -> authenticate(userId, rolesHeader));
+
+    if (userId != null && !userId.isEmpty()) {
+      ServerHttpObservationFilter.findObservationContext(request)
+          .ifPresent(context -> context.addHighCardinalityKeyValue(KeyValue.of("user.id", userId)));
+    }
+
+    filterChain.doFilter(request, response);
+  }
+
+  private void authenticate(String userId, String rolesHeader) {
     if (userId != null && !userId.isEmpty()) {
       List<SimpleGrantedAuthority> authorities = rolesHeader == null ? Collections.emptyList() :
               Arrays.stream(rolesHeader.split(","))
@@ -46,7 +83,5 @@ public class GatewayHeaderFilter extends OncePerRequestFilter {
 
       SecurityContextHolder.getContext().setAuthentication(authentication);
     }
-
-    filterChain.doFilter(request, response);
   }
 }
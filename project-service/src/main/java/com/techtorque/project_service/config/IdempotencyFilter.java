@@ -0,0 +1,224 @@
+package com.techtorque.project_service.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techtorque.project_service.dto.response.ApiResponse;
+import com.techtorque.project_service.entity.IdempotencyRecord;
+import com.techtorque.project_service.exception.IdempotencyKeyInProgressException;
+import com.techtorque.project_service.exception.IdempotencyKeyMismatchException;
+import com.techtorque.project_service.service.IdempotencyService;
+import com.techtorque.project_service.service.IdempotencyService.StoredResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * {@code Idempotency-Key} support for POST requests: the first request with a key runs, and its
+ * response is stored and replayed (with {@code Idempotent-Replayed: true}) to retries carrying the
+ * same key, including retries that arrive while the first request is still running, on any instance.
+ *
+ * Keys are scoped to the caller. Reusing a key for a different request (method, path or JSON body)
+ * is answered with 422; a duplicate still waiting when the wait timeout runs out gets 409. Server
+ * errors and responses over the size limit are not stored, so a retry runs the request again.
+ * Multipart bodies (photo uploads) are not part of the fingerprint, as reading them here would
+ * consume them before the upload is parsed.
+ *
+ * Runs after the security chain, so only authenticated requests reach it.
+ */
+@Component
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+  static final String KEY_HEADER = "Idempotency-Key";
+  static final String REPLAYED_HEADER = "Idempotent-Replayed";
+  private static final int MAX_KEY_LENGTH = 255;
+
+  private final IdempotencyService idempotencyService;
+  private final ObjectMapper objectMapper;
+  private final long maxResponseBytes;
+
+  public IdempotencyFilter(
+      IdempotencyService idempotencyService,
+      ObjectMapper objectMapper,
+      @Value("${idempotency.max-response-size:256KB}") DataSize maxResponseSize) {
+    this.idempotencyService = idempotencyService;
+    this.objectMapper = objectMapper;
+    if (maxResponseSize.toBytes() > IdempotencyRecord.MAX_RESPONSE_BYTES) {
+      throw new IllegalArgumentException("idempotency.max-response-size is limited to "
+          + IdempotencyRecord.MAX_RESPONSE_BYTES + " bytes by the idempotency_keys table");
+    }
+    this.maxResponseBytes = maxResponseSize.toBytes();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !"POST".equals(request.getMethod()) || request.getHeader(KEY_HEADER) == null
+        || request.getHeader("X-User-Subject") == null;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String key = request.getHeader(KEY_HEADER);
+    if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+      writeError(response, HttpStatus.BAD_REQUEST, KEY_HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+      return;
+    }
+
+    boolean multipart = request.getContentType() != null
+        && request.getContentType().startsWith(MediaType.MULTIPART_FORM_DATA_VALUE);
+    byte[] body = multipart ? new byte[0] : request.getInputStream().readAllBytes();
+    HttpServletRequest replayableRequest = multipart ? request : new CachedBodyRequest(request, body);
+    String keyHash = sha256(request.getHeader("X-User-Subject").getBytes(StandardCharsets.UTF_8),
+        key.getBytes(StandardCharsets.UTF_8));
+    String fingerprint = sha256((request.getMethod() + " " + request.getRequestURI()).getBytes(StandardCharsets.UTF_8),
+        body);
+
+    String owner = UUID.randomUUID().toString();
+    Optional<StoredResponse> stored;
+    try {
+      stored = idempotencyService.claimOrAwait(keyHash, fingerprint, owner);
+    } catch (IdempotencyKeyMismatchException e) {
+      writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
+      return;
+    } catch (IdempotencyKeyInProgressException e) {
+      writeError(response, HttpStatus.CONFLICT, e.getMessage());
+      return;
+    }
+    if (stored.isPresent()) {
+      replay(response, stored.get());
+      return;
+    }
+
+    ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+    boolean completed = false;
+    try {
+      filterChain.doFilter(replayableRequest, cachingResponse);
+      int status = cachingResponse.getStatus();
+      byte[] responseBody = cachingResponse.getContentAsByteArray();
+      if (status < 500 && responseBody.length <= maxResponseBytes && !request.isAsyncStarted()) {
+        idempotencyService.complete(keyHash, owner, new StoredResponse(status, cachingResponse.getContentType(), responseBody));
+        completed = true;
+      } else if (responseBody.length > maxResponseBytes) {
+        log.warn("Response to {} {} is {} bytes, too large to store for {} replay",
+            request.getMethod(), request.getRequestURI(), responseBody.length, KEY_HEADER);
+      }
+    } finally {
+      if (!completed) {
+        idempotencyService.release(keyHash, owner);
+      }
+      cachingResponse.copyBodyToResponse();
+    }
+  }
+
+  private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+    response.setStatus(stored.status());
+    if (stored.contentType() != null) {
+      response.setContentType(stored.contentType());
+    }
+    response.setHeader(REPLAYED_HEADER, "true");
+    if (stored.body() != null) {
+      response.setContentLength(stored.body().length);
+      response.getOutputStream().write(stored.body());
+    }
+  }
+
+  private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+    response.setStatus(status.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+  }
+
+  static String sha256(byte[] first, byte[] second) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(first);
+      digest.update((byte) 0);
+      digest.update(second);
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  // The body has been read for the fingerprint; hand the same bytes to the controller
+  static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+
+    CachedBodyRequest(HttpServletRequest request, byte[] body) {
+      super(request);
+      this.body = body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      ByteArrayInputStream in = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+        @Override
+        public int read() {
+          return in.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+          return in.read(buffer, offset, length);
+        }
+
+        @Override
+        public boolean isFinished() {
+          return in.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        // The whole body is already in memory, so it is available as soon as the listener is set
+        @Override
+        public void setReadListener(ReadListener readListener) {
+          try {
+            if (!isFinished()) {
+              readListener.onDataAvailable();
+            }
+            if (isFinished()) {
+              readListener.onAllDataRead();
+            }
+          } catch (IOException e) {
+            readListener.onError(e);
+          }
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      Charset charset = getCharacterEncoding() != null ? Charset.forName(getCharacterEncoding()) : StandardCharsets.UTF_8;
+      return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.techtorque.project_service.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Logback turbo filter that caps how many events per second each logger under the configured
+ * prefixes may emit at {@code level} or below. Runs before the event is created, so a suppressed
+ * call costs a map lookup and a CAS. WARN and ERROR (above the default INFO) always pass.
+ * Configured in {@code logback-spring.xml}; the suppressed count is exported by {@link LoggingMetrics}.
+ */
+public class LogRateLimitFilter extends TurboFilter {
+
+  private static final AtomicLong UNLIMITED = new AtomicLong();
+
+  private final List<String> loggerPrefixes = new ArrayList<>();
+  private Level level = Level.INFO;
+  private int eventsPerSecond = 20;
+
+  // Per logger: (epoch second << 32) | events in that second, or UNLIMITED for loggers not covered
+  private final Map<String, AtomicLong> windows = new ConcurrentHashMap<>();
+  private final LongAdder suppressed = new LongAdder();
+
+  public void addLogger(String loggerPrefix) {
+    loggerPrefixes.add(loggerPrefix);
+  }
+
+  public void setLevel(String level) {
+    this.level = Level.toLevel(level, Level.INFO);
+  }
+
+  public void setEventsPerSecond(int eventsPerSecond) {
+    this.eventsPerSecond = eventsPerSecond;
+  }
+
+  public long getSuppressedCount() {
+    return suppressed.sum();
+  }
+
+  @Override
+  public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    // format is null for isXxxEnabled() checks; disabled levels are dropped by the logger anyway
+    if (format == null || level.levelInt > this.level.levelInt || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+      return FilterReply.NEUTRAL;
+    }
+    AtomicLong window = windows.computeIfAbsent(logger.getName(), this::windowFor);
+    if (window == UNLIMITED) {
+      return FilterReply.NEUTRAL;
+    }
+    long second = System.currentTimeMillis() / 1000;
+    while (true) {
+      long current = window.get();
+      long next = (current >>> 32) == second ? current + 1 : (second << 32) | 1;
+      if ((int) next > eventsPerSecond) {
+        suppressed.increment();
+        return FilterReply.DENY;
+      }
+      if (window.compareAndSet(current, next)) {
+        return FilterReply.NEUTRAL;
+      }
+    }
+  }
+
+  private AtomicLong windowFor(String loggerName) {
+    for (String prefix : loggerPrefixes) {
+      if (loggerName.startsWith(prefix)) {
+        return new AtomicLong();
+      }
+    }
+    return UNLIMITED;
+  }
+}
@@ -0,0 +1,61 @@
+package com.techtorque.project_service.config;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports the cost of logging configured in {@code logback-spring.xml}: hand-off time and dropped
+ * events of the {@link MeteredAsyncAppender}, its queue depth, and events suppressed by the
+ * {@link LogRateLimitFilter}. Event counts per level come from Boot's {@code logback.events}.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+      return;
+    }
+    Iterator<Appender<ILoggingEvent>> appenders = context
+        .getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+    while (appenders.hasNext()) {
+      if (appenders.next() instanceof MeteredAsyncAppender appender) {
+        FunctionTimer.builder("logging.append", appender, MeteredAsyncAppender::getAppendedCount,
+                MeteredAsyncAppender::getAppendNanos, TimeUnit.NANOSECONDS)
+            .description("Time logging calls spend handing events to the async appender")
+            .tag("appender", appender.getName())
+            .register(registry);
+        FunctionCounter.builder("logging.events.dropped", appender, MeteredAsyncAppender::getDroppedCount)
+            .description("Events discarded because the async queue was full")
+            .tag("appender", appender.getName())
+            .register(registry);
+        Gauge.builder("logging.async.queue.size", appender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+            .description("Events waiting to be written")
+            .tag("appender", appender.getName())
+            .register(registry);
+        Gauge.builder("logging.async.queue.capacity", appender, MeteredAsyncAppender::getQueueSize)
+            .tag("appender", appender.getName())
+            .register(registry);
+      }
+    }
+    context.getTurboFilterList().stream()
+        .filter(LogRateLimitFilter.class::isInstance)
+        .map(LogRateLimitFilter.class::cast)
+        .forEach(filter -> FunctionCounter.builder("logging.events.suppressed", filter,
+                LogRateLimitFilter::getSuppressedCount)
+            .description("Events not logged because their logger exceeded its rate limit")
+            .register(registry));
+  }
+}
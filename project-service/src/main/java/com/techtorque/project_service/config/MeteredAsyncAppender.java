@@ -0,0 +1,43 @@
+package com.techtorque.project_service.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} that keeps track of what logging costs the calling threads: how long the
+ * hand-off to the queue takes (message formatting and MDC copy included) and how many events were
+ * dropped because the queue was full or past its discarding threshold. Exported by {@link LoggingMetrics}.
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+  private final LongAdder appended = new LongAdder();
+  private final LongAdder appendNanos = new LongAdder();
+  private final LongAdder dropped = new LongAdder();
+
+  @Override
+  protected void append(ILoggingEvent event) {
+    long started = System.nanoTime();
+    int remaining = getRemainingCapacity();
+    // Same conditions under which the base class discards the event or fails to queue it
+    if ((remaining < getDiscardingThreshold() && isDiscardable(event)) || (isNeverBlock() && remaining == 0)) {
+      dropped.increment();
+    }
+    super.append(event);
+    appended.increment();
+    appendNanos.add(System.nanoTime() - started);
+  }
+
+  public long getAppendedCount() {
+    return appended.sum();
+  }
+
+  public double getAppendNanos() {
+    return appendNanos.sum();
+  }
+
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+}
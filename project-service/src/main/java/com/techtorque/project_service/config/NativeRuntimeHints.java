@@ -0,0 +1,57 @@
+package com.techtorque.project_service.config;
+
+import com.techtorque.project_service.entity.UuidV7Generator;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Reachability metadata for the native image that Spring AOT cannot derive from the bean
+ * definitions. Entities, repositories, controller signatures and the Logback configuration are
+ * covered by AOT itself; JDBC driver and library metadata comes from the GraalVM reachability
+ * metadata repository (see the native profile in pom.xml).
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+  private static final String DTO_PACKAGE = "com.techtorque.project_service.dto";
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    // DTOs travel as ApiResponse.data (Object), in SSE events and through RestTemplate, so their
+    // Jackson bindings, Lombok builders included, are invisible to AOT
+    BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+    ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+    scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+    for (BeanDefinition candidate : scanner.findCandidateComponents(DTO_PACKAGE)) {
+      Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+      bindings.registerReflectionHints(hints.reflection(), type);
+      hints.reflection().registerType(type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+          MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+
+    // Instantiated reflectively: by SpringFactoriesLoader and by Hibernate (@UuidGenerator)
+    hints.reflection().registerType(DatabasePreflightInitializer.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    hints.reflection().registerType(UuidV7Generator.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+    hints.resources().registerPattern("META-INF/spring.factories");
+
+    // SqlMonitor wraps JDBC objects in JDK proxies
+    hints.proxies().registerJdkProxy(Connection.class);
+    hints.proxies().registerJdkProxy(Statement.class);
+    hints.proxies().registerJdkProxy(PreparedStatement.class);
+    hints.proxies().registerJdkProxy(CallableStatement.class);
+    hints.proxies().registerJdkProxy(ResultSet.class);
+
+    // Swagger UI static assets served from the webjar
+    hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+  }
+}
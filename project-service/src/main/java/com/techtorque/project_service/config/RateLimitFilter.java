@@ -0,0 +1,219 @@
+package com.techtorque.project_service.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techtorque.project_service.dto.response.ApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token-bucket rate limit per caller ({@code X-User-Subject}), role and endpoint class, answering
+ * callers over their limit with 429 and {@code Retry-After}. Runs right after
+ * {@link GatewayHeaderFilter}, so a flood of expensive listings is turned away before it reaches
+ * authorization, a controller or the database. Requests without a caller (health, Prometheus,
+ * Swagger) are not limited.
+ *
+ * Each bucket is a single {@code AtomicLong} holding the time at which it will be full again
+ * (the generic cell rate algorithm, equivalent to a token bucket refilled continuously), so taking a
+ * token is a map lookup and a CAS. Buckets are spread over the bins of a {@link ConcurrentHashMap};
+ * {@link #evictFullBuckets} drops the full ones, run periodically off the request path (see
+ * {@link SecurityConfig}). Limits apply per instance.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private static final String DEFAULT_CLASS = "default";
+  private static final String ANY_ROLE = "any";
+
+  private final List<EndpointClass> classes = new ArrayList<>();
+  private final EndpointClass defaultClass;
+  private final ObjectMapper objectMapper;
+
+  // Per (class, role, caller): System.nanoTime() at which the bucket is full again
+  private final Map<BucketKey, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+  public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+    properties.getClasses().forEach((name, endpointClass) ->
+        classes.add(EndpointClass.of(name, endpointClass, meterRegistry)));
+    RateLimitProperties.EndpointClass fallback = new RateLimitProperties.EndpointClass();
+    fallback.setLimit(properties.getDefaultLimit());
+    this.defaultClass = EndpointClass.of(DEFAULT_CLASS, fallback, meterRegistry);
+
+    Gauge.builder("rate.limit.buckets", buckets, Map::size)
+        .description("Callers with a partly used rate limit bucket")
+        .register(meterRegistry);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String userId = request.getHeader("X-User-Subject");
+    return userId == null || userId.isEmpty();
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    String userId = request.getHeader("X-User-Subject");
+    EndpointClass endpointClass = classify(request);
+    Rate rate = endpointClass.rateFor(request.getHeader("X-User-Roles"));
+
+    long now = System.nanoTime();
+    AtomicLong bucket = buckets.computeIfAbsent(new BucketKey(endpointClass.name(), rate.role(), userId),
+        key -> new AtomicLong(now));
+    long waitNanos = rate.acquire(bucket, now);
+    if (waitNanos > 0) {
+      rate.rejected().increment();
+      long retryAfterSeconds = retryAfterSeconds(waitNanos);
+      log.debug("Rate limited {} on {} {} ({} limit, role {}), retry after {}s",
+          userId, request.getMethod(), request.getRequestURI(), endpointClass.name(), rate.role(), retryAfterSeconds);
+      response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+      response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+      objectMapper.writeValue(response.getOutputStream(),
+          ApiResponse.error("Too many requests, retry after " + retryAfterSeconds + "s"));
+      return;
+    }
+
+    filterChain.doFilter(request, response);
+  }
+
+  // A full bucket is the same as a missing one. A caller taking a token from a bucket while it is
+  // being dropped gets that token back, which is harmless.
+  void evictFullBuckets() {
+    long now = System.nanoTime();
+    int before = buckets.size();
+    buckets.values().removeIf(fullAt -> now - fullAt.get() >= 0);
+    log.debug("Dropped {} full rate limit buckets, {} left", before - buckets.size(), buckets.size());
+  }
+
+  // Whole seconds, rounded up, so a client retrying then finds a token
+  static long retryAfterSeconds(long waitNanos) {
+    return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+  }
+
+  private EndpointClass classify(HttpServletRequest request) {
+    PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+    HttpMethod method = HttpMethod.valueOf(request.getMethod());
+    for (EndpointClass endpointClass : classes) {
+      if (endpointClass.matches(method, path)) {
+        return endpointClass;
+      }
+    }
+    return defaultClass;
+  }
+
+  private record BucketKey(String endpointClass, String role, String userId) {
+  }
+
+  private record Endpoint(HttpMethod method, PathPattern pattern) {
+
+    static Endpoint parse(String endpoint) {
+      String[] parts = endpoint.trim().split("\\s+", 2);
+      return parts.length == 2
+          ? new Endpoint(HttpMethod.valueOf(parts[0].toUpperCase(Locale.ROOT)), PathPatternParser.defaultInstance.parse(parts[1]))
+          : new Endpoint(null, PathPatternParser.defaultInstance.parse(parts[0]));
+    }
+
+    boolean matches(HttpMethod requestMethod, PathContainer path) {
+      return (method == null || method.equals(requestMethod)) && pattern.matches(path);
+    }
+  }
+
+  record EndpointClass(String name, List<Endpoint> endpoints, Rate limit, Map<String, Rate> roles) {
+
+    static EndpointClass of(String name, RateLimitProperties.EndpointClass properties, MeterRegistry meterRegistry) {
+      Map<String, Rate> roles = new LinkedHashMap<>();
+      properties.getRoles().forEach((role, limit) -> {
+        String roleName = role.trim().toUpperCase(Locale.ROOT);
+        roles.put(roleName, Rate.of(name, roleName, limit, meterRegistry));
+      });
+      return new EndpointClass(name,
+          properties.getEndpoints().stream().map(Endpoint::parse).toList(),
+          Rate.of(name, ANY_ROLE, properties.getLimit(), meterRegistry),
+          roles);
+    }
+
+    boolean matches(HttpMethod method, PathContainer path) {
+      for (Endpoint endpoint : endpoints) {
+        if (endpoint.matches(method, path)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    // The most generous limit among the caller's roles, or the class limit if none has its own
+    Rate rateFor(String rolesHeader) {
+      Rate best = null;
+      if (rolesHeader != null && !roles.isEmpty()) {
+        for (String role : rolesHeader.split(",")) {
+          Rate rate = roles.get(role.trim().toUpperCase(Locale.ROOT));
+          if (rate != null && (best == null || rate.intervalNanos() < best.intervalNanos())) {
+            best = rate;
+          }
+        }
+      }
+      return best != null ? best : limit;
+    }
+  }
+
+  /**
+   * One token every {@code intervalNanos}; a full bucket lets {@code burst} requests through at once,
+   * i.e. a request may arrive up to {@code toleranceNanos} before its turn.
+   */
+  record Rate(String role, long intervalNanos, long toleranceNanos, Counter rejected) {
+
+    static Rate of(String endpointClass, String role, RateLimitProperties.Limit limit, MeterRegistry meterRegistry) {
+      if (!(limit.getRequestsPerSecond() > 0) || limit.getBurst() < 1) {
+        throw new IllegalArgumentException("rate-limit " + endpointClass + "/" + role
+            + " needs requests-per-second > 0 and burst >= 1");
+      }
+      long intervalNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / limit.getRequestsPerSecond()));
+      Counter rejected = Counter.builder("rate.limit.rejected")
+          .description("Requests answered with 429 by the rate limit")
+          .tag("class", endpointClass)
+          .tag("role", role)
+          .register(meterRegistry);
+      return new Rate(role, intervalNanos, intervalNanos * (limit.getBurst() - 1), rejected);
+    }
+
+    /** Takes a token, returning 0, or how long until one is available without taking it. */
+    long acquire(AtomicLong bucket, long now) {
+      while (true) {
+        long fullAt = bucket.get();
+        long next = now - fullAt >= 0 ? now : fullAt;
+        long waitNanos = next - now - toleranceNanos;
+        if (waitNanos > 0) {
+          return waitNanos;
+        }
+        if (bucket.compareAndSet(fullAt, next + intervalNanos)) {
+          return 0;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.techtorque.project_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-caller request limits, enforced by {@link RateLimitFilter}.
+ */
+@Data
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+  private boolean enabled = true;
+
+  /** Applies to requests that match none of the endpoint classes. */
+  private Limit defaultLimit = new Limit(50, 100);
+
+  /** Endpoint classes by name; a request belongs to the first class with a matching endpoint. */
+  private Map<String, EndpointClass> classes = new LinkedHashMap<>();
+
+  /** How often the buckets of callers that have been idle long enough to be full again are dropped. */
+  private Duration evictionInterval = Duration.ofMinutes(1);
+
+  @Data
+  public static class EndpointClass {
+
+    /** {@code "GET /services"} or just {@code "/projects/{projectId}/**"} for every method. */
+    private List<String> endpoints = new ArrayList<>();
+
+    private Limit limit = new Limit();
+
+    /** Limits for callers with these roles (as sent in {@code X-User-Roles}); the most generous one applies. */
+    private Map<String, Limit> roles = new LinkedHashMap<>();
+  }
+
+  @Data
+  public static class Limit {
+
+    /** Sustained rate a caller's bucket refills at. */
+    private double requestsPerSecond = 10;
+
+    /** Bucket size: requests a caller may make at once after being idle. */
+    private int burst = 20;
+
+    public Limit() {
+    }
+
+    public Limit(double requestsPerSecond, int burst) {
+      this.requestsPerSecond = requestsPerSecond;
+      this.burst = burst;
+    }
+  }
+}
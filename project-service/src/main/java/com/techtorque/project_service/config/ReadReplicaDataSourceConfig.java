@@ -0,0 +1,76 @@
+package com.techtorque.project_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes read-only transactions to read replicas when {@code datasource.read-replicas.enabled=true}.
+ * Without it, Spring Boot's single auto-configured pool is used as before.
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "datasource.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+    HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+        .type(HikariDataSource.class)
+        .build();
+    dataSource.setPoolName("primary");
+    return dataSource;
+  }
+
+  @Bean
+  public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                                   DataSourceProperties dataSourceProperties,
+                                                                   ReadReplicaProperties properties) {
+    Map<Object, Object> targets = new LinkedHashMap<>();
+    List<String> replicaKeys = new ArrayList<>();
+    for (int i = 0; i < properties.getReplicas().size(); i++) {
+      ReadReplicaProperties.Replica replica = properties.getReplicas().get(i);
+      HikariDataSource dataSource = new HikariDataSource();
+      dataSource.setPoolName("replica-" + i);
+      dataSource.setJdbcUrl(replica.getUrl());
+      dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.getUsername());
+      dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.getPassword());
+      dataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+      dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+      dataSource.setReadOnly(true);
+      targets.put(dataSource.getPoolName(), dataSource);
+      replicaKeys.add(dataSource.getPoolName());
+    }
+    targets.put(ReadReplicaRoutingDataSource.PRIMARY, primaryDataSource);
+
+    ReadReplicaRoutingDataSource routing = new ReadReplicaRoutingDataSource(replicaKeys);
+    routing.setTargetDataSources(targets);
+    routing.setDefaultTargetDataSource(primaryDataSource);
+    return routing;
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+  }
+
+  @Bean
+  public ReplicaLagMonitor replicaLagMonitor(ReadReplicaRoutingDataSource readReplicaRoutingDataSource,
+                                             ReadReplicaProperties properties) {
+    return new ReplicaLagMonitor(readReplicaRoutingDataSource, properties);
+  }
+}
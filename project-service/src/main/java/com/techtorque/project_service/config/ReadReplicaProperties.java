@@ -0,0 +1,43 @@
+package com.techtorque.project_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica pools used for {@code @Transactional(readOnly = true)} work.
+ */
+@Data
+@ConfigurationProperties(prefix = "datasource.read-replicas")
+public class ReadReplicaProperties {
+
+  private boolean enabled = false;
+
+  private List<Replica> replicas = new ArrayList<>();
+
+  /** Replicas lagging further behind the primary than this are skipped until they catch up. */
+  private Duration maxLag = Duration.ofSeconds(5);
+
+  /** How often replica lag is measured. */
+  private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+  /**
+   * Returns the replica's replay lag in seconds. The default reports 0 when all received WAL has been
+   * replayed, so an idle primary does not make healthy replicas look stale.
+   */
+  private String lagQuery = "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 " +
+      "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+      "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+  private int maximumPoolSize = 10;
+
+  @Data
+  public static class Replica {
+    private String url;
+    private String username;
+    private String password;
+  }
+}
@@ -0,0 +1,75 @@
+package com.techtorque.project_service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a healthy read replica (round robin) and everything else to the primary.
+ *
+ * Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the
+ * physical connection is only fetched after the transaction's read-only flag has been set.
+ * Replicas start out unhealthy and only receive traffic once {@link ReplicaLagMonitor} has seen them
+ * within the configured lag; if none is healthy, reads fall back to the primary.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  public static final String PRIMARY = "primary";
+
+  private final List<String> replicaKeys;
+  private final ConcurrentHashMap<String, Boolean> healthy = new ConcurrentHashMap<>();
+  private final AtomicInteger nextReplica = new AtomicInteger();
+
+  public ReadReplicaRoutingDataSource(List<String> replicaKeys) {
+    this.replicaKeys = List.copyOf(replicaKeys);
+    replicaKeys.forEach(key -> healthy.put(key, false));
+  }
+
+  public List<String> getReplicaKeys() {
+    return replicaKeys;
+  }
+
+  public void setReplicaHealthy(String replicaKey, boolean isHealthy) {
+    Boolean previous = healthy.put(replicaKey, isHealthy);
+    if (previous == null || previous != isHealthy) {
+      log.info("Read replica {} is now {}", replicaKey, isHealthy ? "in rotation" : "out of rotation");
+    }
+  }
+
+  /**
+   * Closes the replica pools; the primary pool is a bean of its own and closed by the container.
+   */
+  public void close() {
+    getResolvedDataSources().forEach((key, dataSource) -> {
+      if (!PRIMARY.equals(key) && dataSource instanceof AutoCloseable closeable) {
+        try {
+          closeable.close();
+        } catch (Exception e) {
+          log.warn("Failed to close read replica pool {}: {}", key, e.getMessage());
+        }
+      }
+    });
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return PRIMARY;
+    }
+
+    int size = replicaKeys.size();
+    int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+    for (int i = 0; i < size; i++) {
+      String key = replicaKeys.get((start + i) % size);
+      if (healthy.getOrDefault(key, false)) {
+        return key;
+      }
+    }
+    return PRIMARY;
+  }
+}
@@ -0,0 +1,48 @@
+package com.techtorque.project_service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * Periodically measures replica lag and takes replicas that are too far behind (or unreachable)
+ * out of the read rotation.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+  private final ReadReplicaRoutingDataSource routingDataSource;
+  private final ReadReplicaProperties properties;
+
+  public ReplicaLagMonitor(ReadReplicaRoutingDataSource routingDataSource, ReadReplicaProperties properties) {
+    this.routingDataSource = routingDataSource;
+    this.properties = properties;
+  }
+
+  @Scheduled(fixedDelayString = "${datasource.read-replicas.lag-check-interval:5s}",
+      scheduler = AsyncConfig.CHECK_SCHEDULER)
+  public void checkReplicaLag() {
+    double maxLagSeconds = properties.getMaxLag().toMillis() / 1000.0;
+    Map<Object, DataSource> dataSources = routingDataSource.getResolvedDataSources();
+    for (String key : routingDataSource.getReplicaKeys()) {
+      DataSource dataSource = dataSources.get(key);
+      try (Connection connection = dataSource.getConnection();
+           Statement statement = connection.createStatement();
+           ResultSet rs = statement.executeQuery(properties.getLagQuery())) {
+        double lagSeconds = rs.next() ? rs.getDouble(1) : Double.MAX_VALUE;
+        if (lagSeconds > maxLagSeconds) {
+          log.warn("Read replica {} is {}s behind the primary (max {}s)", key, lagSeconds, maxLagSeconds);
+        }
+        routingDataSource.setReplicaHealthy(key, lagSeconds <= maxLagSeconds);
+      } catch (Exception e) {
+        log.warn("Lag check failed for read replica {}: {}", key, e.getMessage());
+        routingDataSource.setReplicaHealthy(key, false);
+      }
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.techtorque.project_service.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps every Spring Data repository call in a {@code repository.calls} observation, so traces
+ * show a child span per query under the service operation that issued it.
+ */
+@Aspect
+@Component
+public class RepositoryObservationAspect {
+
+  private static final String REPOSITORY_PACKAGE = "com.techtorque.project_service.repository";
+
+  private final ObservationRegistry observationRegistry;
+
+  // Repository proxy class -> our interface name, since inherited methods report CrudRepository etc.
+  private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+  public RepositoryObservationAspect(ObservationRegistry observationRegistry) {
+    this.observationRegistry = observationRegistry;
+  }
+
+  @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+  public Object observe(ProceedingJoinPoint joinPoint) throws Throwable {
+    String repository = repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(), RepositoryObservationAspect::nameOf);
+    String method = joinPoint.getSignature().getName();
+    Observation observation = Observation.createNotStarted("repository.calls", observationRegistry)
+        .contextualName(repository + "." + method)
+        .lowCardinalityKeyValue("repository", repository)
+        .lowCardinalityKeyValue("method", method)
+        .start();
+    try (Observation.Scope scope = observation.openScope()) {
+      return joinPoint.proceed();
+    } catch (Throwable e) {
+      observation.error(e);
+      throw e;
+    } finally {
+      observation.stop();
+    }
+  }
+
+  private static String nameOf(Class<?> proxyClass) {
+    return Arrays.stream(proxyClass.getInterfaces())
+        .filter(type -> type.getPackageName().equals(REPOSITORY_PACKAGE))
+        .map(Class::getSimpleName)
+        .findFirst()
+        .orElse(proxyClass.getSimpleName());
+  }
+}
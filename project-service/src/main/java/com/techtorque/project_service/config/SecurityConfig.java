@@ -1,7 +1,14 @@
 package com.techtorque.project_service.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -12,6 +19,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfig {
 
     // A more comprehensive whitelist for Swagger/OpenAPI, based on the auth-service config.
@@ -24,8 +32,16 @@ public class SecurityConfig {
         "/api-docs/**"
     };
 
+    // Health probes and the Prometheus scrape; not routed through the Gateway
+    private static final String[] ACTUATOR_WHITELIST = {
+        "/actuator/health/**",
+        "/actuator/prometheus"
+    };
+
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, ObservationRegistry observationRegistry,
+            RateLimitProperties rateLimitProperties, MeterRegistry meterRegistry, ObjectMapper objectMapper,
+            @Qualifier("taskScheduler") TaskScheduler taskScheduler) throws Exception {
         http
             // Disable CSRF protection for stateless APIs
             .csrf(csrf -> csrf.disable())
@@ -41,13 +57,28 @@ public class SecurityConfig {
             .authorizeHttpRequests(authz -> authz
                 // Permit all requests to the Swagger UI and API docs paths
                 .requestMatchers(SWAGGER_WHITELIST).permitAll()
+                .requestMatchers(ACTUATOR_WHITELIST).permitAll()
+
+                // SQL statistics expose query text and the shape of its parameters
+                .requestMatchers("/actuator/sqlstats", "/actuator/sqlstats/**").hasRole("ADMIN")
+
+                // Async re-dispatches (SSE streams) were already authorized on the initial request
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 
                 // All other requests must be authenticated
                 .anyRequest().authenticated()
             )
 
             // Add our custom filter to read headers from the Gateway
-            .addFilterBefore(new GatewayHeaderFilter(), UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(new GatewayHeaderFilter(observationRegistry), UsernamePasswordAuthenticationFilter.class);
+
+        // Per-caller limits, checked as soon as the caller is known; full buckets are swept off the request path
+        if (rateLimitProperties.isEnabled()) {
+            RateLimitFilter rateLimitFilter = new RateLimitFilter(rateLimitProperties, meterRegistry, objectMapper);
+            taskScheduler.scheduleWithFixedDelay(rateLimitFilter::evictFullBuckets,
+                rateLimitProperties.getEvictionInterval());
+            http.addFilterAfter(rateLimitFilter, GatewayHeaderFilter.class);
+        }
 
         return http.build();
     }
@@ -0,0 +1,61 @@
+package com.techtorque.project_service.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every public method of the service implementations as {@code service.operations}, tagged
+ * with the service, the operation (method name), the outcome and the exception type. The timers
+ * publish percentile histograms, so quantiles can be aggregated across instances in Prometheus.
+ *
+ * Calls a service makes to its own methods bypass the proxy and are only counted in the caller.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+  static final String METRIC = "service.operations";
+
+  private final MeterRegistry meterRegistry;
+
+  // The success timer is looked up on every call; failures are rare enough to build on demand
+  private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+  public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Around("execution(public * com.techtorque.project_service.service.impl.*Impl.*(..))")
+  public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    Timer.Sample sample = Timer.start(meterRegistry);
+    try {
+      Object result = joinPoint.proceed();
+      sample.stop(successTimers.computeIfAbsent(method, key -> timer(joinPoint, "SUCCESS", "none")));
+      return result;
+    } catch (Throwable e) {
+      sample.stop(timer(joinPoint, "ERROR", e.getClass().getSimpleName()));
+      throw e;
+    }
+  }
+
+  private Timer timer(ProceedingJoinPoint joinPoint, String outcome, String exception) {
+    return Timer.builder(METRIC)
+        .description("Service-layer operation latency")
+        .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName().replace("Impl", ""))
+        .tag("operation", joinPoint.getSignature().getName())
+        .tag("outcome", outcome)
+        .tag("exception", exception)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,401 @@
+package com.techtorque.project_service.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Times every statement executed through the application {@link DataSource}, keeps the slowest ones
+ * together with the types of their bind parameters (never the values), and counts statements per
+ * HTTP request so N+1 patterns show up per endpoint. Settings can be changed at runtime through the
+ * {@code sqlstats} actuator endpoint.
+ *
+ * Query time runs from {@code executeQuery} until the result set is closed, so it includes fetching.
+ */
+@Slf4j
+public class SqlMonitor {
+
+  private volatile long slowThresholdNanos;
+  private volatile int slowestSize;
+  private volatile boolean requestTracking;
+  private volatile int requestStatementWarnThreshold;
+
+  private final LongAdder statements = new LongAdder();
+  private final LongAdder slowStatements = new LongAdder();
+
+  // Min-heap on duration, so the fastest of the kept statements is evicted first
+  private final PriorityQueue<SlowStatement> slowest =
+      new PriorityQueue<>(Comparator.comparingLong(SlowStatement::nanos));
+
+  private final ThreadLocal<RequestCounter> currentRequest = new ThreadLocal<>();
+  private final Map<String, EndpointCounter> endpoints = new ConcurrentHashMap<>();
+
+  public SqlMonitor(Duration slowThreshold, int slowestSize, boolean requestTracking,
+                    int requestStatementWarnThreshold) {
+    this.slowThresholdNanos = slowThreshold.toNanos();
+    this.slowestSize = slowestSize;
+    this.requestTracking = requestTracking;
+    this.requestStatementWarnThreshold = requestStatementWarnThreshold;
+  }
+
+  public record SlowStatement(String sql, String parameters, long nanos, long rows, int batchSize,
+                              String request, Instant executedAt) {
+  }
+
+  public record EndpointStatements(String endpoint, long requests, long statements, long maxStatements) {
+  }
+
+  public DataSource wrap(DataSource dataSource) {
+    return new MonitoredDataSource(dataSource);
+  }
+
+  // --- per-request tracking, driven by the filter in SqlMonitorConfig ---
+
+  boolean isRequestTracking() {
+    return requestTracking;
+  }
+
+  /**
+   * @param request method and path of the request, attached to slow statements it runs
+   */
+  void beginRequest(String request) {
+    currentRequest.set(new RequestCounter(request));
+  }
+
+  /**
+   * @param endpoint method and matched handler pattern, so all requests to one endpoint aggregate
+   */
+  void endRequest(String endpoint) {
+    RequestCounter counter = currentRequest.get();
+    currentRequest.remove();
+    if (counter == null) {
+      return;
+    }
+    endpoints.computeIfAbsent(endpoint, key -> new EndpointCounter()).record(counter.statements);
+    if (counter.statements > requestStatementWarnThreshold) {
+      log.warn("{} ran {} SQL statements in one request", counter.request, counter.statements);
+    }
+  }
+
+  // --- reads and runtime settings for the actuator endpoint ---
+
+  public long getStatementCount() {
+    return statements.sum();
+  }
+
+  public long getSlowStatementCount() {
+    return slowStatements.sum();
+  }
+
+  public List<SlowStatement> getSlowest() {
+    List<SlowStatement> result;
+    synchronized (slowest) {
+      result = new ArrayList<>(slowest);
+    }
+    result.sort(Comparator.comparingLong(SlowStatement::nanos).reversed());
+    return result;
+  }
+
+  public List<EndpointStatements> getEndpoints() {
+    List<EndpointStatements> result = new ArrayList<>();
+    endpoints.forEach((endpoint, counter) -> result.add(new EndpointStatements(endpoint,
+        counter.requests.sum(), counter.statements.sum(), counter.maxStatements.get())));
+    result.sort(Comparator.comparingLong(EndpointStatements::statements).reversed());
+    return result;
+  }
+
+  public Duration getSlowThreshold() {
+    return Duration.ofNanos(slowThresholdNanos);
+  }
+
+  public void setSlowThreshold(Duration slowThreshold) {
+    this.slowThresholdNanos = slowThreshold.toNanos();
+  }
+
+  public int getSlowestSize() {
+    return slowestSize;
+  }
+
+  public void setSlowestSize(int slowestSize) {
+    this.slowestSize = slowestSize;
+    synchronized (slowest) {
+      while (slowest.size() > slowestSize) {
+        slowest.poll();
+      }
+    }
+  }
+
+  public boolean getRequestTracking() {
+    return requestTracking;
+  }
+
+  public void setRequestTracking(boolean requestTracking) {
+    this.requestTracking = requestTracking;
+  }
+
+  public int getRequestStatementWarnThreshold() {
+    return requestStatementWarnThreshold;
+  }
+
+  public void setRequestStatementWarnThreshold(int requestStatementWarnThreshold) {
+    this.requestStatementWarnThreshold = requestStatementWarnThreshold;
+  }
+
+  public void reset() {
+    statements.reset();
+    slowStatements.reset();
+    synchronized (slowest) {
+      slowest.clear();
+    }
+    endpoints.clear();
+  }
+
+  // --- recording ---
+
+  private void executing() {
+    statements.increment();
+    RequestCounter counter = currentRequest.get();
+    if (counter != null) {
+      counter.statements++;
+    }
+  }
+
+  private void executed(String sql, List<String> parameterTypes, int batchSize, long nanos, long rows) {
+    if (nanos < slowThresholdNanos) {
+      return;
+    }
+    slowStatements.increment();
+    String parameters = "(" + String.join(", ", parameterTypes) + ")";
+    log.warn("Slow SQL ({} ms, {} rows{}): {} {}", nanos / 1_000_000, rows,
+        batchSize > 0 ? ", batch of " + batchSize : "", sql, parameters);
+
+    RequestCounter counter = currentRequest.get();
+    SlowStatement statement = new SlowStatement(sql, parameters, nanos, rows, batchSize,
+        counter != null ? counter.request : null, Instant.now());
+    synchronized (slowest) {
+      if (slowest.size() < slowestSize) {
+        slowest.add(statement);
+      } else if (!slowest.isEmpty() && slowest.peek().nanos() < nanos) {
+        slowest.poll();
+        slowest.add(statement);
+      }
+    }
+  }
+
+  private static final class RequestCounter {
+    private final String request;
+    private int statements;
+
+    private RequestCounter(String request) {
+      this.request = request;
+    }
+  }
+
+  private static final class EndpointCounter {
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final LongAccumulator maxStatements = new LongAccumulator(Math::max, 0);
+
+    void record(int count) {
+      requests.increment();
+      statements.add(count);
+      maxStatements.accumulate(count);
+    }
+  }
+
+  private final class MonitoredDataSource extends DelegatingDataSource {
+
+    private MonitoredDataSource(DataSource target) {
+      super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+      return monitored(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+      return monitored(super.getConnection(username, password));
+    }
+
+    private Connection monitored(Connection target) {
+      return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+          new Class<?>[]{Connection.class}, new ConnectionHandler(target));
+    }
+  }
+
+  private final class ConnectionHandler implements InvocationHandler {
+
+    private final Connection target;
+
+    private ConnectionHandler(Connection target) {
+      this.target = target;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      Object result = invokeTarget(target, method, args);
+      return switch (method.getName()) {
+        case "prepareStatement" -> statementProxy(PreparedStatement.class, result, (String) args[0]);
+        case "prepareCall" -> statementProxy(CallableStatement.class, result, (String) args[0]);
+        case "createStatement" -> statementProxy(Statement.class, result, null);
+        default -> result;
+      };
+    }
+
+    private Object statementProxy(Class<?> type, Object statement, String sql) {
+      return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+          new StatementHandler((Statement) statement, sql));
+    }
+  }
+
+  private final class StatementHandler implements InvocationHandler {
+
+    private final Statement target;
+    private String sql;
+    private final List<String> parameterTypes = new ArrayList<>();
+    private int batchSize;
+
+    // Query whose result set is still open; finished when it or the statement closes
+    private long queryStartedAt;
+    private long queryRows;
+    private boolean queryOpen;
+
+    private StatementHandler(Statement target, String sql) {
+      this.target = target;
+      this.sql = sql;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      String name = method.getName();
+      if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+        recordParameter(index, name, args[1]);
+        return invokeTarget(target, method, args);
+      }
+      switch (name) {
+        case "clearParameters" -> parameterTypes.clear();
+        case "addBatch" -> batchSize++;
+        case "clearBatch" -> batchSize = 0;
+        case "close" -> finishQuery();
+        case "executeQuery" -> {
+          return executeQuery(method, args);
+        }
+        case "execute", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch" -> {
+          return execute(method, args);
+        }
+        default -> {
+        }
+      }
+      return invokeTarget(target, method, args);
+    }
+
+    private void recordParameter(int index, String setter, Object value) {
+      String type;
+      if ("setNull".equals(setter) || ("setObject".equals(setter) && value == null)) {
+        type = "null";
+      } else if ("setObject".equals(setter)) {
+        type = value.getClass().getSimpleName();
+      } else {
+        type = setter.substring(3);
+      }
+      while (parameterTypes.size() < index) {
+        parameterTypes.add("?");
+      }
+      parameterTypes.set(index - 1, type);
+    }
+
+    private Object executeQuery(Method method, Object[] args) throws Throwable {
+      finishQuery();
+      if (args != null && args.length > 0) {
+        sql = (String) args[0];
+      }
+      executing();
+      queryStartedAt = System.nanoTime();
+      queryRows = 0;
+      queryOpen = true;
+      ResultSet resultSet = (ResultSet) invokeTarget(target, method, args);
+      return Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+          (rsProxy, rsMethod, rsArgs) -> {
+            Object result = invokeTarget(resultSet, rsMethod, rsArgs);
+            if ("next".equals(rsMethod.getName()) && Boolean.TRUE.equals(result)) {
+              queryRows++;
+            } else if ("close".equals(rsMethod.getName())) {
+              finishQuery();
+            }
+            return result;
+          });
+    }
+
+    private Object execute(Method method, Object[] args) throws Throwable {
+      finishQuery();
+      if (args != null && args.length > 0 && args[0] instanceof String statementSql) {
+        sql = statementSql;
+      }
+      executing();
+      long started = System.nanoTime();
+      Object result = invokeTarget(target, method, args);
+      long nanos = System.nanoTime() - started;
+
+      long rows = -1;
+      if (result instanceof Integer count) {
+        rows = count;
+      } else if (result instanceof Long count) {
+        rows = count;
+      } else if (result instanceof int[] counts) {
+        rows = 0;
+        for (int count : counts) {
+          rows += Math.max(count, 0);
+        }
+      } else if (result instanceof long[] counts) {
+        rows = 0;
+        for (long count : counts) {
+          rows += Math.max(count, 0);
+        }
+      }
+      boolean batch = method.getName().contains("Batch");
+      executed(sql, parameterTypes, batch ? batchSize : 0, nanos, rows);
+      if (batch) {
+        batchSize = 0;
+      }
+      return result;
+    }
+
+    private void finishQuery() {
+      if (queryOpen) {
+        queryOpen = false;
+        executed(sql, parameterTypes, 0, System.nanoTime() - queryStartedAt, queryRows);
+      }
+    }
+  }
+
+  private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.techtorque.project_service.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Wires the {@link SqlMonitor} in front of the application data source (the routing proxy when read
+ * replicas are enabled, so both primary and replica traffic is seen) and around every HTTP request.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "sql.monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitorConfig {
+
+  @Bean
+  public SqlMonitor sqlMonitor(
+      @Value("${sql.monitor.slow-threshold:200ms}") Duration slowThreshold,
+      @Value("${sql.monitor.slowest-size:50}") int slowestSize,
+      @Value("${sql.monitor.request-tracking:true}") boolean requestTracking,
+      @Value("${sql.monitor.request-statement-warn-threshold:50}") int requestStatementWarnThreshold) {
+    return new SqlMonitor(slowThreshold, slowestSize, requestTracking, requestStatementWarnThreshold);
+  }
+
+  @Bean
+  public SqlStatisticsEndpoint sqlStatisticsEndpoint(EntityManagerFactory entityManagerFactory, SqlMonitor sqlMonitor) {
+    return new SqlStatisticsEndpoint(entityManagerFactory, sqlMonitor);
+  }
+
+  @Bean
+  static BeanPostProcessor sqlMonitorDataSourcePostProcessor(ObjectProvider<SqlMonitor> sqlMonitor) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+          return sqlMonitor.getObject().wrap(dataSource);
+        }
+        return bean;
+      }
+    };
+  }
+
+  @Bean
+  public FilterRegistrationBean<OncePerRequestFilter> sqlMonitorRequestFilter(SqlMonitor sqlMonitor) {
+    FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(new OncePerRequestFilter() {
+      @Override
+      protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+          throws ServletException, IOException {
+        if (!sqlMonitor.isRequestTracking()) {
+          chain.doFilter(request, response);
+          return;
+        }
+        sqlMonitor.beginRequest(request.getMethod() + " " + request.getRequestURI());
+        try {
+          chain.doFilter(request, response);
+        } finally {
+          Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+          sqlMonitor.endRequest(request.getMethod() + " " + (pattern != null ? pattern : "UNMAPPED"));
+        }
+      }
+    });
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+    return registration;
+  }
+}
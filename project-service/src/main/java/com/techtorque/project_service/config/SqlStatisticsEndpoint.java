@@ -0,0 +1,128 @@
+package com.techtorque.project_service.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * {@code /actuator/sqlstats}: where the database time goes. Combines Hibernate's per-query
+ * statistics (HQL and native queries; collected only while enabled) with the {@link SqlMonitor}'s
+ * view of every JDBC statement: the slowest ones and the statement count per endpoint.
+ *
+ * POST changes the settings at runtime, DELETE clears everything collected so far.
+ * Restricted to admins in {@link SecurityConfig}.
+ */
+@Endpoint(id = "sqlstats")
+public class SqlStatisticsEndpoint {
+
+  private final Statistics statistics;
+  private final SqlMonitor sqlMonitor;
+
+  public SqlStatisticsEndpoint(EntityManagerFactory entityManagerFactory, SqlMonitor sqlMonitor) {
+    this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    this.sqlMonitor = sqlMonitor;
+  }
+
+  public record Settings(boolean hibernateStatistics, long slowThresholdMs, int slowestSize,
+                         boolean requestTracking, int requestStatementWarnThreshold) {
+  }
+
+  public record QueryStats(String query, long executions, long rows, long totalMs, double meanMs,
+                           long minMs, long maxMs) {
+  }
+
+  public record HibernateStats(long sessionsOpened, long statementsPrepared, long entitiesLoaded,
+                               long entitiesFetched, long collectionsFetched, long queryExecutions,
+                               long queryExecutionMaxMs, String slowestQuery, List<QueryStats> queries) {
+  }
+
+  public record SlowStatementStats(String sql, String parameters, double durationMs, long rows,
+                                   int batchSize, String request, String executedAt) {
+  }
+
+  public record EndpointStats(String endpoint, long requests, long statements, double meanStatements,
+                              long maxStatements) {
+  }
+
+  public record SqlStatisticsReport(Settings settings, long statements, long slowStatements,
+                                    List<SlowStatementStats> slowest, List<EndpointStats> requests,
+                                    HibernateStats hibernate) {
+  }
+
+  @ReadOperation
+  public SqlStatisticsReport report() {
+    List<SlowStatementStats> slowest = sqlMonitor.getSlowest().stream()
+        .map(statement -> new SlowStatementStats(statement.sql(), statement.parameters(),
+            statement.nanos() / 1_000_000.0, statement.rows(), statement.batchSize(),
+            statement.request(), statement.executedAt().toString()))
+        .toList();
+    List<EndpointStats> requests = sqlMonitor.getEndpoints().stream()
+        .map(endpoint -> new EndpointStats(endpoint.endpoint(), endpoint.requests(), endpoint.statements(),
+            endpoint.requests() == 0 ? 0 : (double) endpoint.statements() / endpoint.requests(),
+            endpoint.maxStatements()))
+        .toList();
+    return new SqlStatisticsReport(settings(), sqlMonitor.getStatementCount(),
+        sqlMonitor.getSlowStatementCount(), slowest, requests, hibernateStats());
+  }
+
+  @WriteOperation
+  public Settings configure(@Nullable Boolean hibernateStatistics, @Nullable Long slowThresholdMs,
+                            @Nullable Integer slowestSize, @Nullable Boolean requestTracking,
+                            @Nullable Integer requestStatementWarnThreshold) {
+    if (hibernateStatistics != null) {
+      statistics.setStatisticsEnabled(hibernateStatistics);
+    }
+    if (slowThresholdMs != null) {
+      sqlMonitor.setSlowThreshold(Duration.ofMillis(slowThresholdMs));
+    }
+    if (slowestSize != null) {
+      sqlMonitor.setSlowestSize(slowestSize);
+    }
+    if (requestTracking != null) {
+      sqlMonitor.setRequestTracking(requestTracking);
+    }
+    if (requestStatementWarnThreshold != null) {
+      sqlMonitor.setRequestStatementWarnThreshold(requestStatementWarnThreshold);
+    }
+    return settings();
+  }
+
+  @DeleteOperation
+  public void reset() {
+    statistics.clear();
+    sqlMonitor.reset();
+  }
+
+  private Settings settings() {
+    return new Settings(statistics.isStatisticsEnabled(), sqlMonitor.getSlowThreshold().toMillis(),
+        sqlMonitor.getSlowestSize(), sqlMonitor.getRequestTracking(), sqlMonitor.getRequestStatementWarnThreshold());
+  }
+
+  private HibernateStats hibernateStats() {
+    List<QueryStats> queries = Arrays.stream(statistics.getQueries())
+        .map(query -> {
+          QueryStatistics stats = statistics.getQueryStatistics(query);
+          return new QueryStats(query, stats.getExecutionCount(), stats.getExecutionRowCount(),
+              stats.getExecutionTotalTime(), stats.getExecutionAvgTimeAsDouble(),
+              stats.getExecutionMinTime(), stats.getExecutionMaxTime());
+        })
+        .filter(stats -> stats.executions() > 0)
+        .sorted(Comparator.comparingLong(QueryStats::totalMs).reversed())
+        .toList();
+    return new HibernateStats(statistics.getSessionOpenCount(), statistics.getPrepareStatementCount(),
+        statistics.getEntityLoadCount(), statistics.getEntityFetchCount(), statistics.getCollectionFetchCount(),
+        statistics.getQueryExecutionCount(), statistics.getQueryExecutionMaxTime(),
+        statistics.getQueryExecutionMaxTimeQueryString(), queries);
+  }
+}
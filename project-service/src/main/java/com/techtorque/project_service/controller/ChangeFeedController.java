@@ -0,0 +1,34 @@
+package com.techtorque.project_service.controller;
+
+import com.techtorque.project_service.dto.response.ApiResponse;
+import com.techtorque.project_service.dto.response.ChangeFeedDto;
+import com.techtorque.project_service.service.ChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/changes")
+@Tag(name = "Change Feed", description = "Incremental sync of projects and services for downstream services.")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+public class ChangeFeedController {
+
+  private static final int MAX_LIMIT = 1000;
+
+  private final ChangeFeedService changeFeedService;
+
+  @Operation(summary = "List changes recorded after a sync token (employee/admin)")
+  @GetMapping
+  @PreAuthorize("hasAnyRole('EMPLOYEE', 'ADMIN')")
+  public ResponseEntity<ApiResponse> getChanges(
+          @RequestParam(required = false) String since,
+          @RequestParam(defaultValue = "100") int limit) {
+    ChangeFeedDto feed = changeFeedService.getChanges(since, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    return ResponseEntity.ok(ApiResponse.success("Changes retrieved successfully", feed));
+  }
+}
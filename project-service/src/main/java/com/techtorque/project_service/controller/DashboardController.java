@@ -0,0 +1,32 @@
+package com.techtorque.project_service.controller;
+
+import com.techtorque.project_service.dto.response.ApiResponse;
+import com.techtorque.project_service.dto.response.DashboardSummaryDto;
+import com.techtorque.project_service.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/dashboard")
+@Tag(name = "Dashboard", description = "Status counts and daily totals for the admin dashboard.")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+public class DashboardController {
+
+  private static final int MAX_DAYS = 90;
+
+  private final DashboardService dashboardService;
+
+  @Operation(summary = "Projects and services per status, open invoices and daily totals (employee/admin)")
+  @GetMapping("/summary")
+  @PreAuthorize("hasAnyRole('EMPLOYEE', 'ADMIN')")
+  public ResponseEntity<ApiResponse> getSummary(@RequestParam(defaultValue = "30") int days) {
+    DashboardSummaryDto summary = dashboardService.getSummary(Math.max(1, Math.min(days, MAX_DAYS)));
+    return ResponseEntity.ok(ApiResponse.success("Dashboard summary retrieved successfully", summary));
+  }
+}
@@ -0,0 +1,67 @@
+package com.techtorque.project_service.controller;
+
+import com.techtorque.project_service.exception.ProjectNotFoundException;
+import com.techtorque.project_service.exception.ServiceNotFoundException;
+import com.techtorque.project_service.service.ProgressStreamService;
+import com.techtorque.project_service.service.ProjectService;
+import com.techtorque.project_service.service.StandardServiceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/events")
+@Tag(name = "Progress Streams", description = "Server-Sent Events for live service and project progress.")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+public class ProgressStreamController {
+
+  private final ProgressStreamService progressStreamService;
+  private final StandardServiceService standardServiceService;
+  private final ProjectService projectService;
+
+  @Operation(summary = "Stream progress, status, notes and photos for a service")
+  @GetMapping(value = "/services/{serviceId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @PreAuthorize("hasAnyRole('CUSTOMER', 'EMPLOYEE', 'ADMIN')")
+  public SseEmitter streamService(
+          @PathVariable UUID serviceId,
+          @RequestHeader("X-User-Subject") String userId,
+          @RequestHeader("X-User-Roles") String userRole) {
+
+    standardServiceService.getServiceDetails(serviceId.toString(), userId, userRole)
+            .orElseThrow(() -> new ServiceNotFoundException("Service not found or access denied"));
+    return progressStreamService.subscribeToService(serviceId.toString(), isCustomerOnly(userRole));
+  }
+
+  @Operation(summary = "Stream progress and status for a project")
+  @GetMapping(value = "/projects/{projectId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @PreAuthorize("hasAnyRole('CUSTOMER', 'EMPLOYEE', 'ADMIN')")
+  public SseEmitter streamProject(
+          @PathVariable UUID projectId,
+          @RequestHeader("X-User-Subject") String userId,
+          @RequestHeader("X-User-Roles") String userRole) {
+
+    projectService.getProjectDetails(projectId.toString(), userId, userRole)
+            .orElseThrow(() -> new ProjectNotFoundException("Project not found or access denied"));
+    return progressStreamService.subscribeToProject(projectId.toString(), isCustomerOnly(userRole));
+  }
+
+  @Operation(summary = "Stream updates for all services and projects of the current customer")
+  @GetMapping(value = "/me", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @PreAuthorize("hasRole('CUSTOMER')")
+  public SseEmitter streamCustomer(@RequestHeader("X-User-Subject") String customerId) {
+    return progressStreamService.subscribeToCustomer(customerId);
+  }
+
+  // Employees and admins also see internal notes
+  private boolean isCustomerOnly(String userRole) {
+    return !(userRole.contains("ADMIN") || userRole.contains("EMPLOYEE"));
+  }
+}
@@ -3,19 +3,25 @@ package com.techtorque.project_service.controller;
 import com.techtorque.project_service.dto.request.*;
 import com.techtorque.project_service.dto.response.*;
 import com.techtorque.project_service.entity.Project;
+import com.techtorque.project_service.exception.ProjectNotFoundException;
+import com.techtorque.project_service.service.ListingStreamService;
 import com.techtorque.project_service.service.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/projects")
@@ -25,6 +31,7 @@ import java.util.stream.Collectors;
 public class ProjectController {
 
   private final ProjectService projectService;
+  private final ListingStreamService listingStreamService;
 
   @Operation(summary = "Request a new modification project (customer only)")
   @PostMapping
@@ -34,7 +41,7 @@ public class ProjectController {
           @RequestHeader("X-User-Subject") String customerId) {
 
     Project project = projectService.requestNewProject(dto, customerId);
-    ProjectResponseDto response = mapToResponseDto(project);
+    ProjectResponseDto response = ProjectResponseDto.from(project);
 
     return ResponseEntity
             .status(HttpStatus.CREATED)
@@ -44,25 +51,17 @@ public class ProjectController {
   @Operation(summary = "List projects for the current customer")
   @GetMapping
   @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN', 'EMPLOYEE')")
-  public ResponseEntity<ApiResponse> listCustomerProjects(
+  public void listCustomerProjects(
           @RequestHeader("X-User-Subject") String userId,
-          @RequestHeader("X-User-Roles") String roles) {
-    
-    List<Project> projects;
-    
-    // Admin and Employee can see all projects
-    if (roles.contains("ADMIN") || roles.contains("EMPLOYEE")) {
-      projects = projectService.getAllProjects();
-    } else {
-      // Customer sees only their own projects
-      projects = projectService.getProjectsForCustomer(userId);
-    }
-    
-    List<ProjectResponseDto> response = projects.stream()
-            .map(this::mapToResponseDto)
-            .collect(Collectors.toList());
+          @RequestHeader("X-User-Roles") String roles,
+          HttpServletResponse response) throws IOException {
+
+    // Admin and Employee can see all projects, customers only their own
+    String customerId = roles.contains("ADMIN") || roles.contains("EMPLOYEE") ? null : userId;
 
-    return ResponseEntity.ok(ApiResponse.success("Projects retrieved successfully", response));
+    // Streamed straight from the result set in the usual ApiResponse envelope
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    listingStreamService.writeProjects(customerId, "Projects retrieved successfully", response.getOutputStream());
   }
 
   @Operation(summary = "Get details for a specific project")
@@ -71,12 +70,18 @@ public class ProjectController {
   public ResponseEntity<ApiResponse> getProjectDetails(
           @PathVariable String projectId,
           @RequestHeader("X-User-Subject") String userId,
-          @RequestHeader("X-User-Roles") String userRoles) {
+          @RequestHeader("X-User-Roles") String userRoles,
+          WebRequest webRequest) {
 
-    Project project = projectService.getProjectDetails(projectId, userId, userRoles)
-            .orElseThrow(() -> new RuntimeException("Project not found or access denied"));
+    // Answer If-None-Match from the version column alone; a stale tag only costs one extra full response
+    Optional<String> versionTag = projectService.getProjectVersionTag(projectId, userId, userRoles);
+    if (versionTag.isPresent() && webRequest.checkNotModified(versionTag.get())) {
+      return null;
+    }
+
+    ProjectResponseDto response = projectService.getProjectDetails(projectId, userId, userRoles)
+            .orElseThrow(() -> new ProjectNotFoundException("Project not found or access denied"));
 
-    ProjectResponseDto response = mapToResponseDto(project);
     return ResponseEntity.ok(ApiResponse.success("Project retrieved successfully", response));
   }
 
@@ -88,7 +93,7 @@ public class ProjectController {
           @Valid @RequestBody QuoteDto dto) {
 
     Project project = projectService.submitQuoteForProject(projectId, dto);
-    ProjectResponseDto response = mapToResponseDto(project);
+    ProjectResponseDto response = ProjectResponseDto.from(project);
 
     return ResponseEntity.ok(ApiResponse.success("Quote submitted successfully", response));
   }
@@ -101,7 +106,7 @@ public class ProjectController {
           @RequestHeader("X-User-Subject") String customerId) {
 
     Project project = projectService.acceptQuote(projectId, customerId);
-    ProjectResponseDto response = mapToResponseDto(project);
+    ProjectResponseDto response = ProjectResponseDto.from(project);
 
     return ResponseEntity.ok(ApiResponse.success("Quote accepted successfully", response));
   }
@@ -115,7 +120,7 @@ public class ProjectController {
           @RequestHeader("X-User-Subject") String customerId) {
 
     Project project = projectService.rejectQuote(projectId, dto, customerId);
-    ProjectResponseDto response = mapToResponseDto(project);
+    ProjectResponseDto response = ProjectResponseDto.from(project);
 
     return ResponseEntity.ok(ApiResponse.success("Quote rejected successfully", response));
   }
@@ -128,7 +133,7 @@ public class ProjectController {
           @Valid @RequestBody ProgressUpdateDto dto) {
 
     Project project = projectService.updateProgress(projectId, dto);
-    ProjectResponseDto response = mapToResponseDto(project);
+    ProjectResponseDto response = ProjectResponseDto.from(project);
 
     return ResponseEntity.ok(ApiResponse.success("Progress updated successfully", response));
   }
@@ -136,13 +141,10 @@ public class ProjectController {
   @Operation(summary = "List all projects (admin/employee only)")
   @GetMapping("/all")
   @PreAuthorize("hasAnyRole('EMPLOYEE', 'ADMIN')")
-  public ResponseEntity<ApiResponse> listAllProjects() {
-    List<Project> projects = projectService.getAllProjects();
-    List<ProjectResponseDto> response = projects.stream()
-            .map(this::mapToResponseDto)
-            .collect(Collectors.toList());
-
-    return ResponseEntity.ok(ApiResponse.success("All projects retrieved successfully", response));
+  public void listAllProjects(HttpServletResponse response) throws IOException {
+    // Streamed like GET /projects, without loading every project as an entity first
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    listingStreamService.writeProjects(null, "All projects retrieved successfully", response.getOutputStream());
   }
 
   @Operation(summary = "Approve a custom project request (admin only)")
@@ -153,7 +155,7 @@ public class ProjectController {
           @RequestHeader("X-User-Subject") String adminId) {
 
     Project project = projectService.approveProject(projectId, adminId);
-    ProjectResponseDto response = mapToResponseDto(project);
+    ProjectResponseDto response = ProjectResponseDto.from(project);
 
     return ResponseEntity.ok(ApiResponse.success("Project approved successfully", response));
   }
@@ -167,25 +169,39 @@ public class ProjectController {
           @RequestHeader("X-User-Subject") String adminId) {
 
     Project project = projectService.rejectProject(projectId, reason, adminId);
-    ProjectResponseDto response = mapToResponseDto(project);
+    ProjectResponseDto response = ProjectResponseDto.from(project);
 
     return ResponseEntity.ok(ApiResponse.success("Project rejected successfully", response));
   }
 
-  // Helper method to map Entity to DTO
-  private ProjectResponseDto mapToResponseDto(Project project) {
-    return ProjectResponseDto.builder()
-            .id(project.getId())
-            .customerId(project.getCustomerId())
-            .vehicleId(project.getVehicleId())
-            .projectType(project.getProjectType())
-            .description(project.getDescription())
-            .desiredCompletionDate(project.getDesiredCompletionDate())
-            .budget(project.getBudget())
-            .status(project.getStatus())
-            .progress(project.getProgress())
-            .createdAt(project.getCreatedAt())
-            .updatedAt(project.getUpdatedAt())
-            .build();
+  @Operation(summary = "Approve multiple custom project requests (admin only)")
+  @PostMapping("/bulk/approve")
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<ApiResponse> bulkApproveProjects(
+          @Valid @RequestBody BulkProjectActionDto dto,
+          @RequestHeader("X-User-Subject") String adminId) {
+
+    List<BulkProjectResultDto> results = projectService.bulkApproveProjects(dto.getProjectIds(), adminId);
+    return ResponseEntity.ok(ApiResponse.success("Bulk approval processed", BulkOperationResponseDto.of(results)));
+  }
+
+  @Operation(summary = "Reject multiple custom project requests (admin only)")
+  @PostMapping("/bulk/admin/reject")
+  @PreAuthorize("hasRole('ADMIN')")
+  public ResponseEntity<ApiResponse> bulkRejectProjects(
+          @Valid @RequestBody BulkProjectActionDto dto,
+          @RequestHeader("X-User-Subject") String adminId) {
+
+    List<BulkProjectResultDto> results = projectService.bulkRejectProjects(dto.getProjectIds(), dto.getReason(), adminId);
+    return ResponseEntity.ok(ApiResponse.success("Bulk rejection processed", BulkOperationResponseDto.of(results)));
+  }
+
+  @Operation(summary = "Submit quotes for multiple projects (employee/admin only)")
+  @PutMapping("/bulk/quote")
+  @PreAuthorize("hasAnyRole('EMPLOYEE', 'ADMIN')")
+  public ResponseEntity<ApiResponse> bulkSubmitQuotes(@Valid @RequestBody BulkQuoteDto dto) {
+
+    List<BulkProjectResultDto> results = projectService.bulkSubmitQuotes(dto.getQuotes());
+    return ResponseEntity.ok(ApiResponse.success("Bulk quotes processed", BulkOperationResponseDto.of(results)));
   }
 }
\ No newline at end of file
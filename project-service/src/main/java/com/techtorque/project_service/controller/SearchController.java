@@ -0,0 +1,48 @@
+package com.techtorque.project_service.controller;
+
+import com.techtorque.project_service.dto.response.ApiResponse;
+import com.techtorque.project_service.dto.response.SearchResultDto;
+import com.techtorque.project_service.exception.InvalidSearchQueryException;
+import com.techtorque.project_service.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/search")
+@Tag(name = "Search", description = "Full-text search over project descriptions and service notes.")
+@SecurityRequirement(name = "bearerAuth")
+@RequiredArgsConstructor
+public class SearchController {
+
+  private static final int MAX_QUERY_LENGTH = 200;
+  private static final int MAX_SIZE = 100;
+
+  private final SearchService searchService;
+
+  @Operation(summary = "Search projects and service notes, best matches first")
+  @GetMapping
+  @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN', 'EMPLOYEE')")
+  public ResponseEntity<ApiResponse> search(
+          @RequestParam String q,
+          @RequestParam(defaultValue = "0") int page,
+          @RequestParam(defaultValue = "20") int size,
+          @RequestHeader("X-User-Subject") String userId,
+          @RequestHeader("X-User-Roles") String roles) {
+    String query = q.strip();
+    if (query.isEmpty() || query.length() > MAX_QUERY_LENGTH) {
+      throw new InvalidSearchQueryException("Search query must be between 1 and " + MAX_QUERY_LENGTH + " characters");
+    }
+
+    // Admin and Employee search everything, customers their own projects and visible notes
+    String customerId = roles.contains("ADMIN") || roles.contains("EMPLOYEE") ? null : userId;
+
+    SearchResultDto result = searchService.search(query, customerId, Math.max(0, page),
+            Math.max(1, Math.min(size, MAX_SIZE)));
+    return ResponseEntity.ok(ApiResponse.success("Search results retrieved successfully", result));
+  }
+}
@@ -2,21 +2,28 @@ package com.techtorque.project_service.controller;
 
 import com.techtorque.project_service.dto.request.*;
 import com.techtorque.project_service.dto.response.*;
+import com.techtorque.project_service.entity.ServiceStatus;
 import com.techtorque.project_service.entity.StandardService;
+import com.techtorque.project_service.service.ListingStreamService;
+import com.techtorque.project_service.service.OverdueDetectionService;
 import com.techtorque.project_service.service.StandardServiceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/services")
@@ -25,7 +32,13 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ServiceController {
 
+  private static final int DEFAULT_NOTES_LIMIT = 50;
+  private static final int MAX_NOTES_LIMIT = 200;
+  private static final int MAX_OVERDUE_LIMIT = 200;
+
   private final StandardServiceService standardServiceService;
+  private final ListingStreamService listingStreamService;
+  private final OverdueDetectionService overdueDetectionService;
 
   @Operation(summary = "Create a service from an appointment (employee only)")
   @PostMapping
@@ -34,7 +47,7 @@ public class ServiceController {
           @Valid @RequestBody CreateServiceDto dto,
           @RequestHeader("X-User-Subject") String employeeId) {
     StandardService service = standardServiceService.createServiceFromAppointment(dto, employeeId);
-    ServiceResponseDto response = mapToServiceResponseDto(service);
+    ServiceResponseDto response = ServiceResponseDto.from(service);
     return ResponseEntity
             .status(HttpStatus.CREATED)
             .body(ApiResponse.success("Service created successfully", response));
@@ -43,37 +56,39 @@ public class ServiceController {
   @Operation(summary = "List services for the current customer")
   @GetMapping
   @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN', 'EMPLOYEE')")
-  public ResponseEntity<ApiResponse> listCustomerServices(
+  public void listCustomerServices(
           @RequestHeader("X-User-Subject") String userId,
           @RequestHeader("X-User-Roles") String roles,
-          @RequestParam(required = false) String status) {
-    
-    List<StandardService> services;
-    
-    // Admin and Employee can see all services
-    if (roles.contains("ADMIN") || roles.contains("EMPLOYEE")) {
-      services = standardServiceService.getAllServices();
-      // Apply status filter if provided
-      if (status != null && !status.isEmpty()) {
-        try {
-          com.techtorque.project_service.entity.ServiceStatus statusEnum = 
-              com.techtorque.project_service.entity.ServiceStatus.valueOf(status.toUpperCase());
-          services = services.stream()
-              .filter(s -> s.getStatus() == statusEnum)
-              .collect(Collectors.toList());
-        } catch (IllegalArgumentException e) {
-          // Invalid status, ignore filter
-        }
+          @RequestParam(required = false) String status,
+          HttpServletResponse response) throws IOException {
+
+    // Admin and Employee can see all services, customers only their own
+    String customerId = roles.contains("ADMIN") || roles.contains("EMPLOYEE") ? null : userId;
+
+    ServiceStatus statusFilter = null;
+    if (status != null && !status.isEmpty()) {
+      try {
+        statusFilter = ServiceStatus.valueOf(status.toUpperCase());
+      } catch (IllegalArgumentException e) {
+        // Invalid status, ignore filter
       }
-    } else {
-      // Customer sees only their own services
-      services = standardServiceService.getServicesForCustomer(userId, status);
     }
-    
-    List<ServiceResponseDto> response = services.stream()
-            .map(this::mapToServiceResponseDto)
-            .collect(Collectors.toList());
-    return ResponseEntity.ok(ApiResponse.success("Services retrieved successfully", response));
+
+    // Streamed straight from the result set in the usual ApiResponse envelope
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    listingStreamService.writeServices(customerId, statusFilter, "Services retrieved successfully",
+            response.getOutputStream());
+  }
+
+  @Operation(summary = "List open services past their estimated completion, longest overdue first")
+  @GetMapping("/overdue")
+  @PreAuthorize("hasAnyRole('EMPLOYEE', 'ADMIN')")
+  public ResponseEntity<ApiResponse> getOverdueServices(
+          @RequestParam(required = false) String after,
+          @RequestParam(defaultValue = "50") int limit) {
+    ServicePageDto services = overdueDetectionService.getOverdueServices(after,
+            Math.max(1, Math.min(limit, MAX_OVERDUE_LIMIT)));
+    return ResponseEntity.ok(ApiResponse.success("Overdue services retrieved successfully", services));
   }
 
   @Operation(summary = "Get details for a specific service")
@@ -82,10 +97,14 @@ public class ServiceController {
   public ResponseEntity<ApiResponse> getServiceDetails(
           @PathVariable String serviceId,
           @RequestHeader("X-User-Subject") String userId,
-          @RequestHeader("X-User-Roles") String userRole) {
+          @RequestHeader("X-User-Roles") String userRole,
+          WebRequest webRequest) {
+    // Answer If-None-Match from the version column alone; a stale tag only costs one extra full response
+    if (isNotModified(webRequest, standardServiceService.getServiceVersionTag(serviceId, userId, userRole))) {
+      return null;
+    }
     return standardServiceService.getServiceDetails(serviceId, userId, userRole)
-            .map(service -> ResponseEntity.ok(
-                    ApiResponse.success("Service retrieved successfully", mapToServiceResponseDto(service))))
+            .map(service -> ResponseEntity.ok(ApiResponse.success("Service retrieved successfully", service)))
             .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(ApiResponse.error("Service not found or access denied")));
   }
@@ -98,7 +117,7 @@ public class ServiceController {
           @Valid @RequestBody ServiceUpdateDto dto,
           @RequestHeader("X-User-Subject") String employeeId) {
     StandardService service = standardServiceService.updateService(serviceId, dto, employeeId);
-    ServiceResponseDto response = mapToServiceResponseDto(service);
+    ServiceResponseDto response = ServiceResponseDto.from(service);
     return ResponseEntity.ok(ApiResponse.success("Service updated successfully", response));
   }
 
@@ -136,14 +155,28 @@ public class ServiceController {
             .body(ApiResponse.success("Note added successfully", note));
   }
 
-  @Operation(summary = "Get all notes for a service")
+  @Operation(summary = "Get all notes for a service, or with since/limit a page of them, oldest first")
   @GetMapping("/{serviceId}/notes")
   @PreAuthorize("hasAnyRole('CUSTOMER', 'EMPLOYEE')")
   public ResponseEntity<ApiResponse> getServiceNotes(
           @PathVariable String serviceId,
+          @RequestParam(required = false) String since,
+          @RequestParam(required = false) Integer limit,
           @RequestHeader("X-User-Subject") String userId,
-          @RequestHeader("X-User-Roles") String userRole) {
-    List<NoteResponseDto> notes = standardServiceService.getServiceNotes(serviceId, userId, userRole);
+          @RequestHeader("X-User-Roles") String userRole,
+          WebRequest webRequest) {
+    if (since == null && limit == null) {
+      // Original shape: the whole list as an array
+      if (isNotModified(webRequest, standardServiceService.getNotesVersionTag(serviceId, userId, userRole))) {
+        return null;
+      }
+      List<NoteResponseDto> notes = standardServiceService.getServiceNotes(serviceId, userId, userRole);
+      return ResponseEntity.ok(ApiResponse.success("Notes retrieved successfully", notes));
+    }
+
+    // No ETag here: a page holds back unsettled notes that the collection tag already counts
+    NotePageDto notes = standardServiceService.getServiceNotes(serviceId, userId, userRole, since,
+            Math.max(1, Math.min(limit != null ? limit : DEFAULT_NOTES_LIMIT, MAX_NOTES_LIMIT)));
     return ResponseEntity.ok(ApiResponse.success("Notes retrieved successfully", notes));
   }
 
@@ -163,24 +196,16 @@ public class ServiceController {
   @Operation(summary = "Get all progress photos for a service")
   @GetMapping("/{serviceId}/photos")
   @PreAuthorize("hasAnyRole('CUSTOMER', 'EMPLOYEE')")
-  public ResponseEntity<ApiResponse> getProgressPhotos(@PathVariable String serviceId) {
+  public ResponseEntity<ApiResponse> getProgressPhotos(@PathVariable String serviceId, WebRequest webRequest) {
+    if (isNotModified(webRequest, standardServiceService.getPhotosVersionTag(serviceId))) {
+      return null;
+    }
     List<PhotoDto> photos = standardServiceService.getPhotos(serviceId);
     return ResponseEntity.ok(ApiResponse.success("Photos retrieved successfully", photos));
   }
 
-  // Helper method to map Entity to DTO
-  private ServiceResponseDto mapToServiceResponseDto(StandardService service) {
-    return ServiceResponseDto.builder()
-            .id(service.getId())
-            .appointmentId(service.getAppointmentId())
-            .customerId(service.getCustomerId())
-            .assignedEmployeeIds(service.getAssignedEmployeeIds())
-            .status(service.getStatus())
-            .progress(service.getProgress())
-            .hoursLogged(service.getHoursLogged())
-            .estimatedCompletion(service.getEstimatedCompletion())
-            .createdAt(service.getCreatedAt())
-            .updatedAt(service.getUpdatedAt())
-            .build();
+  // Sets the ETag header, and the 304 status when it matches If-None-Match
+  private boolean isNotModified(WebRequest webRequest, Optional<String> versionTag) {
+    return versionTag.isPresent() && webRequest.checkNotModified(versionTag.get());
   }
 }
\ No newline at end of file
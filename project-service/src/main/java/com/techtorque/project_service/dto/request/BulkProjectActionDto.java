@@ -0,0 +1,24 @@
+package com.techtorque.project_service.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkProjectActionDto {
+
+    @NotEmpty(message = "At least one project ID is required")
+    @Size(max = 500, message = "Cannot process more than 500 projects per request")
+    private List<String> projectIds;
+
+    @Size(max = 500, message = "Reason cannot exceed 500 characters")
+    private String reason; // Only used when rejecting
+}
@@ -0,0 +1,22 @@
+package com.techtorque.project_service.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkQuoteDto {
+
+    @NotEmpty(message = "At least one quote is required")
+    @Size(max = 500, message = "Cannot process more than 500 quotes per request")
+    private List<@Valid BulkQuoteItemDto> quotes;
+}
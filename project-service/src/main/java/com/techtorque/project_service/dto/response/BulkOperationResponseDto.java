@@ -0,0 +1,29 @@
+package com.techtorque.project_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResponseDto {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BulkProjectResultDto> results;
+
+    public static BulkOperationResponseDto of(List<BulkProjectResultDto> results) {
+        int succeeded = (int) results.stream().filter(BulkProjectResultDto::isSuccess).count();
+        return BulkOperationResponseDto.builder()
+                .total(results.size())
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+}
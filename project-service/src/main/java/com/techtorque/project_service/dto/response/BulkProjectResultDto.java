@@ -0,0 +1,18 @@
+package com.techtorque.project_service.dto.response;
+
+import com.techtorque.project_service.entity.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkProjectResultDto {
+    private String projectId;
+    private boolean success;
+    private ProjectStatus status; // Status after the operation, null if the project was not found
+    private String message;
+}
@@ -0,0 +1,28 @@
+package com.techtorque.project_service.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.techtorque.project_service.entity.ChangeEntityType;
+import com.techtorque.project_service.entity.ChangeOperation;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeEntryDto {
+    private String token;
+    private ChangeEntityType entityType;
+    private String entityId;
+    private ChangeOperation operation;
+    private String parentId;
+    private String customerId;
+    private String status;
+    private Integer progress;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,19 @@
+package com.techtorque.project_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedDto {
+    private List<ChangeEntryDto> changes;
+    private String nextToken; // Pass as ?since= on the next call; unchanged when there is nothing new
+    private boolean hasMore;
+    private boolean resyncRequired; // The token points before the retained log, so a full re-scan is needed
+}
@@ -0,0 +1,21 @@
+package com.techtorque.project_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyTotalsDto {
+    private LocalDate date;
+    private long projectsCreated;
+    private long servicesCreated;
+    private long invoicesIssued;
+    private BigDecimal invoicedAmount;
+}
@@ -0,0 +1,25 @@
+package com.techtorque.project_service.dto.response;
+
+import com.techtorque.project_service.entity.InvoiceStatus;
+import com.techtorque.project_service.entity.ProjectStatus;
+import com.techtorque.project_service.entity.ServiceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSummaryDto {
+    private Map<ProjectStatus, Long> projectsByStatus; // Every status, zero included
+    private Map<ServiceStatus, Long> servicesByStatus;
+    private Map<InvoiceStatus, InvoiceTotalsDto> openInvoices; // DRAFT, PENDING and OVERDUE
+    private List<DailyTotalsDto> daily; // Oldest first, ending today
+    private LocalDateTime generatedAt;
+}
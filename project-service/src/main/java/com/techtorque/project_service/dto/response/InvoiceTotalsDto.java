@@ -0,0 +1,17 @@
+package com.techtorque.project_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InvoiceTotalsDto {
+    private long count;
+    private BigDecimal amount;
+}
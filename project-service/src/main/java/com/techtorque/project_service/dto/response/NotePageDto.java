@@ -0,0 +1,18 @@
+package com.techtorque.project_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotePageDto {
+    private List<NoteResponseDto> notes; // Oldest first
+    private String nextToken; // Pass as ?since= for the next page or to poll for new notes; unchanged when there are none
+    private boolean hasMore;
+}
@@ -0,0 +1,46 @@
+package com.techtorque.project_service.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Live update pushed to progress stream subscribers once the originating transaction commits.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ProgressEventDto {
+
+    public enum Type {
+        SERVICE_UPDATED,
+        SERVICE_NOTE_ADDED,
+        SERVICE_PHOTOS_ADDED,
+        PROJECT_PROGRESS_UPDATED
+    }
+
+    private Type type;
+    private String serviceId;
+    private String projectId;
+    private String status;
+    private Integer progress;
+    private NoteResponseDto note;
+    private List<PhotoDto> photos;
+    private LocalDateTime occurredAt;
+
+    @JsonIgnore
+    private String customerId; // Routes the event to the customer's stream
+
+    @JsonIgnore
+    public boolean isCustomerVisible() {
+        return note == null || note.isCustomerVisible();
+    }
+}
@@ -1,5 +1,6 @@
 package com.techtorque.project_service.dto.response;
 
+import com.techtorque.project_service.entity.Project;
 import com.techtorque.project_service.entity.ProjectStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,4 +26,20 @@ public class ProjectResponseDto {
     private int progress;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    public static ProjectResponseDto from(Project project) {
+        return ProjectResponseDto.builder()
+                .id(project.getId())
+                .customerId(project.getCustomerId())
+                .vehicleId(project.getVehicleId())
+                .projectType(project.getProjectType())
+                .description(project.getDescription())
+                .desiredCompletionDate(project.getDesiredCompletionDate())
+                .budget(project.getBudget())
+                .status(project.getStatus())
+                .progress(project.getProgress())
+                .createdAt(project.getCreatedAt())
+                .updatedAt(project.getUpdatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,22 @@
+package com.techtorque.project_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHitDto {
+    private String type; // PROJECT or SERVICE_NOTE
+    private String id;
+    private String projectId; // Set for PROJECT hits
+    private String serviceId; // Set for SERVICE_NOTE hits
+    private String snippet; // Matched terms wrapped in ** **
+    private double rank;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,20 @@
+package com.techtorque.project_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultDto {
+    private String query;
+    private List<SearchHitDto> hits;
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
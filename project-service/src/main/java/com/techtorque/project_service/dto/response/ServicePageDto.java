@@ -0,0 +1,18 @@
+package com.techtorque.project_service.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServicePageDto {
+    private List<ServiceResponseDto> services;
+    private String nextToken; // Pass as ?after= for the next page; unchanged when there are none
+    private boolean hasMore;
+}
@@ -1,6 +1,7 @@
 package com.techtorque.project_service.dto.response;
 
 import com.techtorque.project_service.entity.ServiceStatus;
+import com.techtorque.project_service.entity.StandardService;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,4 +25,24 @@ public class ServiceResponseDto {
     private LocalDateTime estimatedCompletion;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    /**
+     * Copies the employee IDs, so the DTO holds nothing of the entity's session (details are shared
+     * between callers, see ReadCoalescingService).
+     */
+    public static ServiceResponseDto from(StandardService service) {
+        return ServiceResponseDto.builder()
+                .id(service.getId())
+                .appointmentId(service.getAppointmentId())
+                .customerId(service.getCustomerId())
+                .assignedEmployeeIds(service.getAssignedEmployeeIds() != null
+                        ? Set.copyOf(service.getAssignedEmployeeIds()) : null)
+                .status(service.getStatus())
+                .progress(service.getProgress())
+                .hoursLogged(service.getHoursLogged())
+                .estimatedCompletion(service.getEstimatedCompletion())
+                .createdAt(service.getCreatedAt())
+                .updatedAt(service.getUpdatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,9 @@
+package com.techtorque.project_service.entity;
+
+public enum ChangeEntityType {
+  PROJECT,
+  SERVICE,
+  SERVICE_NOTE,
+  PROGRESS_PHOTO,
+  INVOICE
+}
@@ -0,0 +1,46 @@
+package com.techtorque.project_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only record of a mutation, written in the same transaction as the change itself.
+ * The identity column doubles as the change feed cursor.
+ */
+@Entity
+@Table(name = "change_log")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeLogEntry {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY) // Must be strictly increasing across nodes, so no pooled sequence
+  private Long id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private ChangeEntityType entityType;
+
+  @Column(nullable = false)
+  private String entityId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private ChangeOperation operation;
+
+  private String parentId; // Owning service for notes, photos and invoices
+
+  private String customerId;
+
+  private String status;
+
+  private Integer progress;
+
+  @CreationTimestamp
+  @Column(nullable = false)
+  private LocalDateTime recordedAt;
+}
@@ -0,0 +1,6 @@
+package com.techtorque.project_service.entity;
+
+public enum ChangeOperation {
+  CREATED,
+  UPDATED
+}
@@ -0,0 +1,28 @@
+package com.techtorque.project_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Folded value of a dashboard counter, e.g. {@code project:APPROVED} or
+ * {@code day:2026-10-19:projects-created}. The live value is this plus the pending
+ * {@link DashboardCounterDelta} rows of the same name.
+ */
+@Entity
+@Table(name = "dashboard_counters")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardCounter {
+  @Id
+  private String name;
+
+  @Column(nullable = false)
+  private long count;
+
+  @Column(nullable = false, precision = 19, scale = 2)
+  private BigDecimal amount;
+}
@@ -0,0 +1,32 @@
+package com.techtorque.project_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Change to a {@link DashboardCounter}, inserted in the same transaction as the change it counts.
+ * Writers only ever insert, so concurrent status changes never wait on a shared counter row;
+ * the rows are folded into the counters in the background.
+ */
+@Entity
+@Table(name = "dashboard_counter_deltas")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardCounterDelta {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false)
+  private String name;
+
+  @Column(nullable = false)
+  private long count;
+
+  @Column(nullable = false, precision = 19, scale = 2)
+  private BigDecimal amount;
+}
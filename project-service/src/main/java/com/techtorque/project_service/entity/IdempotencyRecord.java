@@ -0,0 +1,44 @@
+package com.techtorque.project_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of a request sent with an {@code Idempotency-Key}, replayed to retries of the same request.
+ * While the first request is still running the response columns are null and {@code expiresAt} bounds
+ * how long the claim is honoured; once it has finished, how long the response is kept.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expiresAt"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+  public static final int MAX_RESPONSE_BYTES = 1024 * 1024;
+
+  @Id
+  @Column(length = 64)
+  private String keyHash; // SHA-256 of the caller and the key, so keys are scoped per user
+
+  @Column(nullable = false, length = 64)
+  private String fingerprint; // SHA-256 of the method, path and body the key was first used with
+
+  @Column(length = 36)
+  private String owner; // Token of the request holding the claim; only it may complete or release it
+
+  private Integer responseStatus;
+
+  private String contentType;
+
+  @Column(length = MAX_RESPONSE_BYTES) // bytea on PostgreSQL
+  private byte[] responseBody;
+
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  @Column(nullable = false)
+  private LocalDateTime expiresAt;
+}
@@ -2,8 +2,11 @@ package com.techtorque.project_service.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JavaType;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -11,26 +14,30 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "invoices")
+// The overdue sweep reads the oldest pending invoices (InvoiceOverdueRepositoryImpl)
+@Table(name = "invoices", indexes = @Index(name = "idx_invoices_status_created", columnList = "status, createdAt, id"))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Invoice {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @JavaType(UuidStringJavaType.class)
     private String id;
 
     @Column(nullable = false, unique = true)
     private String invoiceNumber;
 
     @Column(nullable = false)
+    @JavaType(UuidStringJavaType.class)
     private String serviceId;
 
     @Column(nullable = false)
     private String customerId;
 
     @OneToMany(mappedBy = "invoice", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @BatchSize(size = 100) // Loaded for many invoices at once when a query returns a list
     @Builder.Default
     private List<InvoiceItem> items = new ArrayList<>();
 
@@ -3,6 +3,8 @@ package com.techtorque.project_service.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 
@@ -14,7 +16,8 @@ import java.math.BigDecimal;
 @AllArgsConstructor
 public class InvoiceItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @JavaType(UuidStringJavaType.class)
     private String id;
 
     @ManyToOne(fetch = FetchType.LAZY)
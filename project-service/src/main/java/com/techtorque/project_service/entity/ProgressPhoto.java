@@ -3,21 +3,25 @@ package com.techtorque.project_service.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "progress_photos")
+@Table(name = "progress_photos", indexes = @Index(name = "idx_progress_photos_service_id", columnList = "serviceId"))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProgressPhoto {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @JavaType(UuidStringJavaType.class)
     private String id;
 
     @Column(nullable = false)
+    @JavaType(UuidStringJavaType.class)
     private String serviceId;
 
     @Column(nullable = false)
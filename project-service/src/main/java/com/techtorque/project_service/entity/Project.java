@@ -2,8 +2,12 @@ package com.techtorque.project_service.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Length;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JavaType;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -16,7 +20,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Project {
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @UuidGenerator(algorithm = UuidV7Generator.class)
+  @JavaType(UuidStringJavaType.class)
   private String id;
 
   @Column(nullable = false)
@@ -30,8 +35,7 @@ public class Project {
   @Column(nullable = false)
   private String projectType;
 
-  @Lob
-  @Column(nullable = false)
+  @Column(nullable = false, length = Length.LONG32) // text on PostgreSQL, so it can be full-text indexed
   private String description;
 
   private String desiredCompletionDate;
@@ -49,4 +53,12 @@ public class Project {
 
   @UpdateTimestamp
   private LocalDateTime updatedAt;
+
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private Long version; // Optimistic lock; also bumped by the conditional transition updates
+
+  @Transient
+  private ProjectStatus previousStatus; // Status before the transition that returned this row; not persisted
 }
\ No newline at end of file
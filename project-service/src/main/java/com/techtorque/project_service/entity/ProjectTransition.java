@@ -0,0 +1,70 @@
+package com.techtorque.project_service.entity;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Declarative transition table for the project workflow.
+ *
+ * Each transition lists the statuses it may start from and the status it moves the project to.
+ * The table drives the conditional {@code UPDATE ... WHERE status IN (...)} statements in
+ * {@link com.techtorque.project_service.repository.ProjectTransitionRepository}, so the status
+ * check and the write happen atomically in the database.
+ */
+public enum ProjectTransition {
+
+  SUBMIT_QUOTE(ProjectStatus.QUOTED,
+          "Can only quote projects in REQUESTED status. Current status: %s",
+          ProjectStatus.REQUESTED),
+
+  ACCEPT_QUOTE(ProjectStatus.APPROVED,
+          "Can only accept projects in QUOTED status. Current status: %s",
+          ProjectStatus.QUOTED),
+
+  REJECT_QUOTE(ProjectStatus.REJECTED,
+          "Can only reject projects in QUOTED status. Current status: %s",
+          ProjectStatus.QUOTED),
+
+  // Target depends on the reported progress: APPROVED -> IN_PROGRESS once work starts, IN_PROGRESS -> COMPLETED at 100%
+  UPDATE_PROGRESS(null,
+          "Can only update progress for APPROVED or IN_PROGRESS projects",
+          ProjectStatus.APPROVED, ProjectStatus.IN_PROGRESS),
+
+  APPROVE(ProjectStatus.APPROVED,
+          "Project must be in REQUESTED or PENDING_ADMIN_REVIEW status to be approved. Current status: %s",
+          ProjectStatus.REQUESTED, ProjectStatus.PENDING_ADMIN_REVIEW),
+
+  REJECT(ProjectStatus.REJECTED,
+          "Project must be in REQUESTED, PENDING_ADMIN_REVIEW, or QUOTED status to be rejected. Current status: %s",
+          ProjectStatus.REQUESTED, ProjectStatus.PENDING_ADMIN_REVIEW, ProjectStatus.QUOTED);
+
+  private final ProjectStatus targetStatus;
+  private final String invalidStatusMessage;
+  private final Set<ProjectStatus> allowedFrom;
+
+  ProjectTransition(ProjectStatus targetStatus, String invalidStatusMessage, ProjectStatus first, ProjectStatus... rest) {
+    this.targetStatus = targetStatus;
+    this.invalidStatusMessage = invalidStatusMessage;
+    this.allowedFrom = Collections.unmodifiableSet(EnumSet.of(first, rest));
+  }
+
+  /**
+   * Fixed target status, or {@code null} when it is derived from the update (see {@link #UPDATE_PROGRESS}).
+   */
+  public ProjectStatus getTargetStatus() {
+    return targetStatus;
+  }
+
+  public Set<ProjectStatus> getAllowedFrom() {
+    return allowedFrom;
+  }
+
+  public boolean isAllowedFrom(ProjectStatus status) {
+    return allowedFrom.contains(status);
+  }
+
+  public String invalidStatusMessage(ProjectStatus currentStatus) {
+    return String.format(invalidStatusMessage, currentStatus);
+  }
+}
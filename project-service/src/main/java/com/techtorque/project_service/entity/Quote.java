@@ -3,6 +3,8 @@ package com.techtorque.project_service.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -15,10 +17,12 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Quote {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @JavaType(UuidStringJavaType.class)
     private String id;
 
     @Column(nullable = false)
+    @JavaType(UuidStringJavaType.class)
     private String projectId;
 
     @Column(nullable = false)
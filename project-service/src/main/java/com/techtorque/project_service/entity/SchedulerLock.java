@@ -0,0 +1,30 @@
+package com.techtorque.project_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lease on a scheduled job, so that only one instance runs it at a time. The holder owns the
+ * lease until {@code lockedUntil}; a lease that ran out (e.g. its holder died) can be taken over.
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLock {
+  @Id
+  private String name;
+
+  @Column(nullable = false)
+  private LocalDateTime lockedUntil;
+
+  @Column(nullable = false)
+  private LocalDateTime lockedAt;
+
+  @Column(nullable = false)
+  private String lockedBy;
+}
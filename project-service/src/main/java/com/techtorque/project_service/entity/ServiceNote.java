@@ -3,21 +3,27 @@ package com.techtorque.project_service.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "service_notes")
+// Notes of a service in creation order; the customer-visible subset has a partial index of its own
+// (DatabaseIndexInitializer)
+@Table(name = "service_notes", indexes = @Index(name = "idx_service_notes_service_created", columnList = "serviceId, createdAt, id"))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class ServiceNote {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
+    @JavaType(UuidStringJavaType.class)
     private String id;
 
     @Column(nullable = false)
+    @JavaType(UuidStringJavaType.class)
     private String serviceId;
 
     @Column(nullable = false)
@@ -2,20 +2,27 @@ package com.techtorque.project_service.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JavaType;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 import java.time.LocalDateTime;
 import java.util.Set;
 
 @Entity
-@Table(name = "standard_services")
+// Overdue detection scans each open status from the oldest estimate (OverdueDetectionServiceImpl)
+@Table(name = "standard_services",
+    indexes = @Index(name = "idx_standard_services_status_estimated", columnList = "status, estimatedCompletion, id"))
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class StandardService {
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @UuidGenerator(algorithm = UuidV7Generator.class)
+  @JavaType(UuidStringJavaType.class)
   private String id;
 
   @Column(nullable = false, unique = true)
@@ -24,6 +31,7 @@ public class StandardService {
   private String customerId;
 
   @ElementCollection(fetch = FetchType.EAGER) // Store a collection of simple strings
+  @BatchSize(size = 100) // Loaded for many services at once when a query returns a list
   private Set<String> assignedEmployeeIds;
 
   @Enumerated(EnumType.STRING)
@@ -36,9 +44,16 @@ public class StandardService {
 
   private LocalDateTime estimatedCompletion;
 
+  private LocalDateTime overdueNotifiedAt; // Set once the overdue notification went out; cleared when the estimate moves
+
   @CreationTimestamp
   private LocalDateTime createdAt;
 
   @UpdateTimestamp
   private LocalDateTime updatedAt;
+
+  @Version
+  @ColumnDefault("0")
+  @Column(nullable = false)
+  private Long version; // Optimistic lock; also the ETag of the service representation
 }
\ No newline at end of file
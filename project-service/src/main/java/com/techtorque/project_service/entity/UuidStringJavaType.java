@@ -0,0 +1,51 @@
+package com.techtorque.project_service.entity;
+
+import com.techtorque.project_service.exception.InvalidIdentifierException;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.StringJavaType;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+
+import java.util.UUID;
+
+/**
+ * Maps a {@code String} ID attribute onto a native {@code uuid} column.
+ *
+ * IDs stay plain strings in the entities, DTOs and path variables, but are bound as real UUIDs
+ * so the database stores 16 bytes instead of a 36 character varchar. A value that is not a valid
+ * UUID (e.g. a mistyped path variable) cannot be bound and fails with
+ * {@link InvalidIdentifierException}, answered with 400 rather than being looked up as some other ID.
+ */
+public class UuidStringJavaType extends StringJavaType {
+
+    @Override
+    public JdbcType getRecommendedJdbcType(JdbcTypeIndicators indicators) {
+        return indicators.getJdbcType(SqlTypes.UUID);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> X unwrap(String value, Class<X> type, WrapperOptions options) {
+        if (value != null && UUID.class.isAssignableFrom(type)) {
+            return (X) toUuid(value);
+        }
+        return super.unwrap(value, type, options);
+    }
+
+    @Override
+    public <X> String wrap(X value, WrapperOptions options) {
+        if (value instanceof UUID uuid) {
+            return uuid.toString();
+        }
+        return super.wrap(value, options);
+    }
+
+    private static UUID toUuid(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidIdentifierException("Invalid ID: " + value);
+        }
+    }
+}
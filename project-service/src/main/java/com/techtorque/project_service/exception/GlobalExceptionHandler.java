@@ -2,6 +2,7 @@ package com.techtorque.project_service.exception;
 
 import com.techtorque.project_service.dto.response.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -10,6 +11,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -42,6 +44,14 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage()));
     }
 
+    @ExceptionHandler(ProjectStatusConflictException.class)
+    public ResponseEntity<ApiResponse> handleProjectStatusConflict(ProjectStatusConflictException ex) {
+        log.error("Project status conflict: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
     @ExceptionHandler(InvalidProjectOperationException.class)
     public ResponseEntity<ApiResponse> handleInvalidOperation(InvalidProjectOperationException ex) {
         log.error("Invalid project operation: {}", ex.getMessage());
@@ -50,6 +60,46 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage()));
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ApiResponse> handleInvalidCursor(InvalidCursorException ex) {
+        log.error("Invalid cursor: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidIdentifierException.class)
+    public ResponseEntity<ApiResponse> handleInvalidIdentifier(InvalidIdentifierException ex) {
+        log.error("Invalid identifier: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiResponse> handleArgumentTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        log.error("Invalid value for {}: {}", ex.getName(), ex.getValue());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("Invalid " + ex.getName() + ": " + ex.getValue()));
+    }
+
+    @ExceptionHandler(InvalidSearchQueryException.class)
+    public ResponseEntity<ApiResponse> handleInvalidSearchQuery(InvalidSearchQueryException ex) {
+        log.error("Invalid search query: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.error("Concurrent modification: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("The resource was modified by another request. Please reload and try again."));
+    }
+
     @ExceptionHandler(FileStorageException.class)
     public ResponseEntity<ApiResponse> handleFileStorageException(FileStorageException ex) {
         log.error("File storage error: {}", ex.getMessage());
@@ -0,0 +1,7 @@
+package com.techtorque.project_service.exception;
+
+public class InvalidIdentifierException extends RuntimeException {
+    public InvalidIdentifierException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.techtorque.project_service.exception;
+
+public class InvalidSearchQueryException extends RuntimeException {
+    public InvalidSearchQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.techtorque.project_service.exception;
+
+/**
+ * The project is not in a status the requested transition may start from, either because the
+ * transition is not allowed there or because a concurrent request moved the project first.
+ */
+public class ProjectStatusConflictException extends InvalidProjectOperationException {
+    public ProjectStatusConflictException(String message) {
+        super(message);
+    }
+}
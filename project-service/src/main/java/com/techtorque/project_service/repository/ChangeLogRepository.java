@@ -0,0 +1,24 @@
+package com.techtorque.project_service.repository;
+
+import com.techtorque.project_service.entity.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+  List<ChangeLogEntry> findByIdGreaterThanOrderByIdAsc(long afterId, Pageable pageable);
+
+  @Query("SELECT MIN(c.id) FROM ChangeLogEntry c")
+  Long findOldestId();
+
+  @Modifying
+  @Query("DELETE FROM ChangeLogEntry c WHERE c.recordedAt < :cutoff")
+  int deleteOlderThan(LocalDateTime cutoff);
+}
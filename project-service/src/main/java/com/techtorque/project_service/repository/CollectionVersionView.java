@@ -0,0 +1,16 @@
+package com.techtorque.project_service.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Size and newest timestamp of an append-only child collection, plus the owner of its parent.
+ * Notes and photos are never edited or deleted, so the pair changes whenever the list does.
+ */
+public interface CollectionVersionView {
+
+  String getCustomerId();
+
+  long getCount();
+
+  LocalDateTime getLastModified();
+}
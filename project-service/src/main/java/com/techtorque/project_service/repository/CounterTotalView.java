@@ -0,0 +1,15 @@
+package com.techtorque.project_service.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Count and amount accumulated under a dashboard counter name.
+ */
+public interface CounterTotalView {
+
+  String getName();
+
+  long getCount();
+
+  BigDecimal getAmount();
+}
@@ -0,0 +1,24 @@
+package com.techtorque.project_service.repository;
+
+import com.techtorque.project_service.entity.DashboardCounterDelta;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DashboardCounterDeltaRepository extends JpaRepository<DashboardCounterDelta, Long> {
+
+  // Locked, so an instance folding at the same time waits and then skips the rows deleted here
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT d FROM DashboardCounterDelta d ORDER BY d.id")
+  List<DashboardCounterDelta> findOldestForFold(Pageable pageable);
+
+  @Query("SELECT d.name AS name, SUM(d.count) AS count, SUM(d.amount) AS amount "
+      + "FROM DashboardCounterDelta d GROUP BY d.name")
+  List<CounterTotalView> findPendingTotals();
+}
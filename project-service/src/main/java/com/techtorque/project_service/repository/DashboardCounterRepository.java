@@ -0,0 +1,30 @@
+package com.techtorque.project_service.repository;
+
+import com.techtorque.project_service.entity.DashboardCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface DashboardCounterRepository extends JpaRepository<DashboardCounter, String> {
+
+  // Relative, so folds running on several instances add up instead of overwriting each other
+  @Modifying
+  @Query("UPDATE DashboardCounter c SET c.count = c.count + :count, c.amount = c.amount + :amount WHERE c.name = :name")
+  int add(String name, long count, BigDecimal amount);
+
+  @Modifying
+  @Query("UPDATE DashboardCounter c SET c.count = :count, c.amount = :amount WHERE c.name = :name")
+  int set(String name, long count, BigDecimal amount);
+
+  @Modifying
+  @Query("DELETE FROM DashboardCounter c WHERE c.name LIKE 'day:%' AND c.name < :oldestName")
+  int deleteDaysBefore(String oldestName);
+
+  @Query("SELECT c.name AS name, c.count AS count, c.amount AS amount FROM DashboardCounter c")
+  List<CounterTotalView> findTotals();
+}
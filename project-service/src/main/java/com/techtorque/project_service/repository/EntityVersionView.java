@@ -0,0 +1,12 @@
+package com.techtorque.project_service.repository;
+
+/**
+ * Owner and optimistic-lock version of a single row, read without hydrating the entity.
+ * Backs the ETag checks on the detail endpoints.
+ */
+public interface EntityVersionView {
+
+  String getCustomerId();
+
+  Long getVersion();
+}
@@ -0,0 +1,43 @@
+package com.techtorque.project_service.repository;
+
+import com.techtorque.project_service.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+  // A plain insert, failing on the key when another request holds it (save() would merge into that row)
+  @Modifying
+  @Query("INSERT INTO IdempotencyRecord (keyHash, fingerprint, owner, createdAt, expiresAt) "
+      + "VALUES (:keyHash, :fingerprint, :owner, :now, :expiresAt)")
+  int claim(String keyHash, String fingerprint, String owner, LocalDateTime now, LocalDateTime expiresAt);
+
+  // The owner condition keeps a request that lost its claim (e.g. after it expired) off its successor's row
+  @Modifying
+  @Query("UPDATE IdempotencyRecord r SET r.responseStatus = :status, r.contentType = :contentType, "
+      + "r.responseBody = :body, r.expiresAt = :expiresAt "
+      + "WHERE r.keyHash = :keyHash AND r.owner = :owner AND r.responseStatus IS NULL")
+  int complete(String keyHash, String owner, int status, String contentType, byte[] body, LocalDateTime expiresAt);
+
+  @Modifying
+  @Query("DELETE FROM IdempotencyRecord r WHERE r.keyHash = :keyHash AND r.owner = :owner AND r.responseStatus IS NULL")
+  int release(String keyHash, String owner);
+
+  @Modifying
+  @Query("UPDATE IdempotencyRecord r SET r.expiresAt = :expiresAt WHERE r.owner IN :owners AND r.responseStatus IS NULL")
+  int renew(Collection<String> owners, LocalDateTime expiresAt);
+
+  @Modifying
+  @Query("DELETE FROM IdempotencyRecord r WHERE r.keyHash = :keyHash AND r.expiresAt <= :now")
+  int deleteIfExpired(String keyHash, LocalDateTime now);
+
+  @Modifying
+  @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt <= :now")
+  int deleteExpired(LocalDateTime now);
+}
@@ -0,0 +1,20 @@
+package com.techtorque.project_service.repository;
+
+import com.techtorque.project_service.entity.Invoice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Set-based aging of pending invoices.
+ */
+public interface InvoiceOverdueRepository {
+
+  /**
+   * Moves up to {@code limit} of the oldest {@code PENDING} invoices created before
+   * {@code createdBefore} to {@code OVERDUE} in one {@code UPDATE ... RETURNING *}, and returns
+   * them. The status is checked again by the update itself, so an invoice settled meanwhile is left
+   * alone. Fewer than {@code limit} rows means none are left.
+   */
+  List<Invoice> markOverdue(LocalDateTime createdBefore, int limit);
+}
@@ -0,0 +1,55 @@
+package com.techtorque.project_service.repository;
+
+import com.techtorque.project_service.entity.Invoice;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class InvoiceOverdueRepositoryImpl implements InvoiceOverdueRepository {
+
+  // The subquery is a range of the (status, created_at) index, oldest first
+  private static final String UPDATE =
+          "UPDATE invoices SET status = 'OVERDUE', updated_at = :updatedAt " +
+          "WHERE id IN (SELECT id FROM invoices WHERE status = 'PENDING' AND created_at < :createdBefore " +
+          "ORDER BY created_at, id LIMIT :limit) " +
+          "AND status = 'PENDING'";
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private Boolean returningSupported;
+
+  @Override
+  public List<Invoice> markOverdue(LocalDateTime createdBefore, int limit) {
+    String sql = isReturningSupported()
+            ? UPDATE + " RETURNING *"
+            : "SELECT * FROM FINAL TABLE (" + UPDATE + ")";
+
+    Query query = entityManager.createNativeQuery(sql, Invoice.class);
+    query.setParameter("updatedAt", LocalDateTime.now());
+    query.setParameter("createdBefore", createdBefore);
+    query.setParameter("limit", limit);
+
+    @SuppressWarnings("unchecked")
+    List<Invoice> updated = query.getResultList();
+    return updated;
+  }
+
+  // PostgreSQL supports UPDATE ... RETURNING; H2 (tests, local runs) exposes the same through FINAL TABLE
+  private boolean isReturningSupported() {
+    if (returningSupported == null) {
+      Dialect dialect = entityManager.getEntityManagerFactory()
+              .unwrap(SessionFactoryImplementor.class)
+              .getJdbcServices()
+              .getDialect();
+      returningSupported = dialect instanceof PostgreSQLDialect;
+    }
+    return returningSupported;
+  }
+}
@@ -8,7 +8,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface InvoiceRepository extends JpaRepository<Invoice, String> {
+public interface InvoiceRepository extends JpaRepository<Invoice, String>, InvoiceOverdueRepository {
     List<Invoice> findByCustomerId(String customerId);
     Optional<Invoice> findByServiceId(String serviceId);
     Optional<Invoice> findByInvoiceNumber(String invoiceNumber);
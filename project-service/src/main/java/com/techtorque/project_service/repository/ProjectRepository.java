@@ -2,10 +2,15 @@ package com.techtorque.project_service.repository;
 
 import com.techtorque.project_service.entity.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, String> {
+public interface ProjectRepository extends JpaRepository<Project, String>, ProjectTransitionRepository {
   List<Project> findByCustomerId(String customerId);
+
+  @Query("SELECT p.customerId AS customerId, p.version AS version FROM Project p WHERE p.id = :projectId")
+  Optional<EntityVersionView> findVersionById(String projectId);
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.techtorque.project_service.repository;
+
+import com.techtorque.project_service.entity.Project;
+import com.techtorque.project_service.entity.ProjectTransition;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Single-statement conditional state transitions for projects.
+ *
+ * Each method issues one {@code UPDATE ... WHERE id = ? AND status IN (...) RETURNING *} and returns
+ * the updated row, or empty when the project does not exist, is not in one of the transition's
+ * allowed statuses, or (when a customer is given) belongs to someone else. The version column is
+ * bumped so concurrent full-entity writes fail their optimistic lock check. The matching rows are
+ * locked with {@code SELECT ... FOR UPDATE} just before, and the status each row had there is returned
+ * as {@link Project#getPreviousStatus()}.
+ */
+public interface ProjectTransitionRepository {
+
+  Optional<Project> transitionStatus(String projectId, ProjectTransition transition, String requiredCustomerId);
+
+  Optional<Project> transitionWithBudget(String projectId, ProjectTransition transition, BigDecimal budget);
+
+  Optional<Project> transitionProgress(String projectId, int progress);
+
+  /**
+   * Set-based variant for bulk operations: one statement for the whole batch. Returns the rows that
+   * were transitioned; IDs missing from the result were not found or not in an allowed status.
+   */
+  List<Project> transitionStatusBulk(Collection<String> projectIds, ProjectTransition transition);
+
+  /**
+   * Set-based quote submission: one statement moves every project in {@code budgets} and sets each its
+   * own budget. Returns the rows that were transitioned, like {@link #transitionStatusBulk}.
+   */
+  List<Project> transitionWithBudgetBulk(Map<String, BigDecimal> budgets, ProjectTransition transition);
+}
@@ -0,0 +1,221 @@
+package com.techtorque.project_service.repository;
+
+import com.techtorque.project_service.entity.Project;
+import com.techtorque.project_service.entity.ProjectStatus;
+import com.techtorque.project_service.entity.ProjectTransition;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public class ProjectTransitionRepositoryImpl implements ProjectTransitionRepository {
+
+  // Mirrors the rules of ProjectTransition.UPDATE_PROGRESS
+  private static final String PROGRESS_STATUS_CASE =
+          "CASE WHEN :progress > 0 AND status = 'APPROVED' THEN 'IN_PROGRESS' " +
+          "WHEN :progress = 100 THEN 'COMPLETED' ELSE status END";
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private Boolean returningSupported;
+
+  @Override
+  public Optional<Project> transitionStatus(String projectId, ProjectTransition transition, String requiredCustomerId) {
+    Map<String, Object> params = new LinkedHashMap<>();
+    params.put("targetStatus", transition.getTargetStatus().name());
+    return execute(projectId, transition, "status = :targetStatus", params, requiredCustomerId);
+  }
+
+  @Override
+  public Optional<Project> transitionWithBudget(String projectId, ProjectTransition transition, BigDecimal budget) {
+    Map<String, Object> params = new LinkedHashMap<>();
+    params.put("targetStatus", transition.getTargetStatus().name());
+    params.put("budget", budget);
+    return execute(projectId, transition, "status = :targetStatus, budget = :budget", params, null);
+  }
+
+  @Override
+  public Optional<Project> transitionProgress(String projectId, int progress) {
+    Map<String, Object> params = new LinkedHashMap<>();
+    params.put("progress", progress);
+    return execute(projectId, ProjectTransition.UPDATE_PROGRESS,
+            "status = " + PROGRESS_STATUS_CASE + ", progress = :progress", params, null);
+  }
+
+  @Override
+  public List<Project> transitionStatusBulk(Collection<String> projectIds, ProjectTransition transition) {
+    Map<String, Object> params = new LinkedHashMap<>();
+    params.put("targetStatus", transition.getTargetStatus().name());
+    return execute(projectIds, transition, "status = :targetStatus", params, null);
+  }
+
+  @Override
+  public List<Project> transitionWithBudgetBulk(Map<String, BigDecimal> budgets, ProjectTransition transition) {
+    Map<String, Object> params = new LinkedHashMap<>();
+    params.put("targetStatus", transition.getTargetStatus().name());
+    // Each row picks its own amount; IDs that do not parse cannot match a row and are left out
+    StringBuilder budgetCase = new StringBuilder("CASE id");
+    int index = 0;
+    for (Map.Entry<String, BigDecimal> entry : budgets.entrySet()) {
+      UUID id = parseId(entry.getKey());
+      if (id != null) {
+        budgetCase.append(" WHEN :budgetId").append(index).append(" THEN :budget").append(index);
+        params.put("budgetId" + index, id);
+        params.put("budget" + index, entry.getValue());
+        index++;
+      }
+    }
+    if (index == 0) {
+      return List.of();
+    }
+    budgetCase.append(" ELSE budget END");
+    return execute(budgets.keySet(), transition, "status = :targetStatus, budget = " + budgetCase, params, null);
+  }
+
+  private Optional<Project> execute(String projectId, ProjectTransition transition, String assignments,
+                                    Map<String, Object> params, String requiredCustomerId) {
+    return execute(List.of(projectId), transition, assignments, params, requiredCustomerId).stream().findFirst();
+  }
+
+  private List<Project> execute(Collection<String> projectIds, ProjectTransition transition, String assignments,
+                                Map<String, Object> params, String requiredCustomerId) {
+    List<UUID> ids = new ArrayList<>(projectIds.size());
+    for (String projectId : projectIds) {
+      UUID id = parseId(projectId);
+      if (id != null) {
+        ids.add(id);
+        // A managed copy would shadow the returned row, so make sure the result is read fresh
+        detachIfManaged(projectId);
+      }
+    }
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+
+    String condition = " WHERE id IN (:ids) AND status IN (:allowedFrom)" +
+            (requiredCustomerId != null ? " AND customer_id = :customerId" : "");
+    List<String> allowedFrom = transition.getAllowedFrom().stream().map(ProjectStatus::name).toList();
+    params.put("updatedAt", LocalDateTime.now());
+    params.put("ids", ids);
+    params.put("allowedFrom", allowedFrom);
+    if (requiredCustomerId != null) {
+      params.put("customerId", requiredCustomerId);
+    }
+    String set = " SET " + assignments + ", version = version + 1, updated_at = :updatedAt";
+
+    // The dashboard counts per status, so every updated row needs the status it moved from
+    if (transition.getAllowedFrom().size() == 1) {
+      ProjectStatus previousStatus = transition.getAllowedFrom().iterator().next();
+      List<Project> updated = updateReturning("UPDATE projects" + set + condition, params);
+      updated.forEach(project -> project.setPreviousStatus(previousStatus));
+      return updated;
+    }
+    if (isReturningSupported()) {
+      return updateReturningPrevious(set, condition, params);
+    }
+
+    // H2 cannot return the old and new row from one statement, so lock the rows and read the old status first
+    Query lock = entityManager.createNativeQuery(
+            "SELECT CAST(id AS VARCHAR(36)), status FROM projects" + condition + " FOR UPDATE");
+    lock.setParameter("ids", ids);
+    lock.setParameter("allowedFrom", allowedFrom);
+    if (requiredCustomerId != null) {
+      lock.setParameter("customerId", requiredCustomerId);
+    }
+    Map<String, ProjectStatus> previousStatuses = new HashMap<>();
+    for (Object row : lock.getResultList()) {
+      Object[] columns = (Object[]) row;
+      previousStatuses.put((String) columns[0], ProjectStatus.valueOf((String) columns[1]));
+    }
+    if (previousStatuses.isEmpty()) {
+      return List.of();
+    }
+    List<Project> updated = updateReturning("UPDATE projects" + set + condition, params);
+    updated.forEach(project -> project.setPreviousStatus(previousStatuses.get(project.getId())));
+    return updated;
+  }
+
+  // PostgreSQL supports UPDATE ... RETURNING; H2 (tests, local runs) exposes the same through FINAL TABLE
+  private List<Project> updateReturning(String update, Map<String, Object> params) {
+    String sql = isReturningSupported()
+            ? update + " RETURNING *"
+            : "SELECT * FROM FINAL TABLE (" + update + ")";
+    Query query = entityManager.createNativeQuery(sql, Project.class);
+    params.forEach(query::setParameter);
+
+    @SuppressWarnings("unchecked")
+    List<Project> updated = query.getResultList();
+    return updated;
+  }
+
+  /**
+   * PostgreSQL only: locks the matching rows in a CTE and returns each updated row with the status it
+   * had, in one statement. The old columns are renamed so the assignments still refer to the new row.
+   */
+  private List<Project> updateReturningPrevious(String set, String condition, Map<String, Object> params) {
+    String sql = "WITH old AS (SELECT id AS old_id, status AS old_status FROM projects" + condition + " FOR UPDATE) " +
+            "UPDATE projects p" + set + " FROM old WHERE p.id = old.old_id RETURNING p.*, old.old_status";
+    NativeQuery<?> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class)
+            .addEntity("p", Project.class)
+            .addScalar("old_status", StandardBasicTypes.STRING);
+    params.forEach(query::setParameter);
+
+    List<Project> updated = new ArrayList<>();
+    for (Object row : query.getResultList()) {
+      Object[] columns = (Object[]) row;
+      Project project = (Project) columns[0];
+      project.setPreviousStatus(ProjectStatus.valueOf((String) columns[1]));
+      updated.add(project);
+    }
+    return updated;
+  }
+
+  private void detachIfManaged(String projectId) {
+    SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+    EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(Project.class);
+    EntityKey key = session.generateEntityKey(projectId, persister);
+    Object managed = session.getPersistenceContextInternal().getEntity(key);
+    if (managed != null) {
+      entityManager.detach(managed);
+    }
+  }
+
+  // PostgreSQL supports UPDATE ... RETURNING; H2 (tests, local runs) exposes the same through FINAL TABLE
+  private boolean isReturningSupported() {
+    if (returningSupported == null) {
+      Dialect dialect = entityManager.getEntityManagerFactory()
+              .unwrap(SessionFactoryImplementor.class)
+              .getJdbcServices()
+              .getDialect();
+      returningSupported = dialect instanceof PostgreSQLDialect;
+    }
+    return returningSupported;
+  }
+
+  private static UUID parseId(String projectId) {
+    try {
+      return UUID.fromString(projectId);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
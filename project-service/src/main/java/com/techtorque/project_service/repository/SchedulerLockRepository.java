@@ -0,0 +1,34 @@
+package com.techtorque.project_service.repository;
+
+import com.techtorque.project_service.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+  // Conditional, so of several instances racing for an expired lease exactly one updates the row
+  @Modifying
+  @Query("UPDATE SchedulerLock l SET l.lockedUntil = :lockedUntil, l.lockedAt = :now, l.lockedBy = :owner "
+      + "WHERE l.name = :name AND l.lockedUntil <= :now")
+  int acquire(String name, String owner, LocalDateTime now, LocalDateTime lockedUntil);
+
+  // A plain insert (save() would merge into a row another instance just created), failing on the key if it exists
+  @Modifying
+  @Query("INSERT INTO SchedulerLock (name, lockedUntil, lockedAt, lockedBy) VALUES (:name, :lockedUntil, :now, :owner)")
+  int create(String name, String owner, LocalDateTime now, LocalDateTime lockedUntil);
+
+  // Only while the lease is still held: one that ran out may already belong to another instance
+  @Modifying
+  @Query("UPDATE SchedulerLock l SET l.lockedUntil = :lockedUntil "
+      + "WHERE l.name = :name AND l.lockedBy = :owner AND l.lockedUntil > :now")
+  int renew(String name, String owner, LocalDateTime now, LocalDateTime lockedUntil);
+
+  @Modifying
+  @Query("UPDATE SchedulerLock l SET l.lockedUntil = :now WHERE l.name = :name AND l.lockedBy = :owner")
+  int release(String name, String owner, LocalDateTime now);
+}
@@ -1,13 +1,29 @@
 package com.techtorque.project_service.repository;
 
 import com.techtorque.project_service.entity.ServiceNote;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ServiceNoteRepository extends JpaRepository<ServiceNote, String> {
     List<ServiceNote> findByServiceId(String serviceId);
     List<ServiceNote> findByServiceIdAndIsCustomerVisible(String serviceId, boolean isCustomerVisible);
+
+    // Keyset pages in creation order, after the note at (afterCreatedAt, afterId)
+    @Query("SELECT n FROM ServiceNote n WHERE n.serviceId = :serviceId "
+        + "AND (n.createdAt > :afterCreatedAt OR (n.createdAt = :afterCreatedAt AND n.id > :afterId)) "
+        + "ORDER BY n.createdAt, n.id")
+    List<ServiceNote> findPageAfter(String serviceId, LocalDateTime afterCreatedAt, String afterId, Pageable pageable);
+
+    // Literal true, so PostgreSQL can use the partial index on visible notes
+    @Query("SELECT n FROM ServiceNote n WHERE n.serviceId = :serviceId AND n.isCustomerVisible = true "
+        + "AND (n.createdAt > :afterCreatedAt OR (n.createdAt = :afterCreatedAt AND n.id > :afterId)) "
+        + "ORDER BY n.createdAt, n.id")
+    List<ServiceNote> findVisiblePageAfter(String serviceId, LocalDateTime afterCreatedAt, String afterId,
+                                           Pageable pageable);
 }
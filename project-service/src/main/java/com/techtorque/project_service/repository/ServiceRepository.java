@@ -1,12 +1,60 @@
 package com.techtorque.project_service.repository;
 
+import com.techtorque.project_service.entity.ServiceStatus;
 import com.techtorque.project_service.entity.StandardService;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ServiceRepository extends JpaRepository<StandardService, String> {
   List<StandardService> findByCustomerId(String customerId);
   List<StandardService> findByAssignedEmployeeIdsContains(String employeeId);
-}
\ No newline at end of file
+
+  @Query("SELECT s.customerId AS customerId, s.version AS version FROM StandardService s WHERE s.id = :serviceId")
+  Optional<EntityVersionView> findVersionById(String serviceId);
+
+  // Internal notes only count towards the stamp when includeInternal is set, matching what the caller may see
+  @Query("SELECT s.customerId AS customerId, "
+      + "(SELECT COUNT(n) FROM ServiceNote n WHERE n.serviceId = s.id "
+      + "AND (n.isCustomerVisible = true OR :includeInternal = true)) AS count, "
+      + "(SELECT MAX(n.createdAt) FROM ServiceNote n WHERE n.serviceId = s.id "
+      + "AND (n.isCustomerVisible = true OR :includeInternal = true)) AS lastModified "
+      + "FROM StandardService s WHERE s.id = :serviceId")
+  Optional<CollectionVersionView> findNotesVersionById(String serviceId, boolean includeInternal);
+
+  @Query("SELECT s.customerId AS customerId, "
+      + "(SELECT COUNT(p) FROM ProgressPhoto p WHERE p.serviceId = s.id) AS count, "
+      + "(SELECT MAX(p.uploadedAt) FROM ProgressPhoto p WHERE p.serviceId = s.id) AS lastModified "
+      + "FROM StandardService s WHERE s.id = :serviceId")
+  Optional<CollectionVersionView> findPhotosVersionById(String serviceId);
+
+  // Keyset batch of one status past its estimate and not yet notified, a range of the (status, estimatedCompletion)
+  // index. Locked so that concurrent detectors on other instances skip what this one is about to notify.
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM StandardService s WHERE s.status = :status AND s.estimatedCompletion < :now "
+      + "AND (s.estimatedCompletion > :afterEstimate OR (s.estimatedCompletion = :afterEstimate AND s.id > :afterId)) "
+      + "AND s.overdueNotifiedAt IS NULL ORDER BY s.estimatedCompletion, s.id")
+  List<StandardService> findUnnotifiedOverdueAfter(ServiceStatus status, LocalDateTime now,
+                                                   LocalDateTime afterEstimate, String afterId, Pageable pageable);
+
+  // Bulk update: the version is left alone, the flag is not part of the service representation
+  @Modifying
+  @Query("UPDATE StandardService s SET s.overdueNotifiedAt = :notifiedAt WHERE s.id IN :ids")
+  int markOverdueNotified(Collection<String> ids, LocalDateTime notifiedAt);
+
+  // Keyset pages of services past their estimate, oldest estimate first
+  @Query("SELECT s FROM StandardService s WHERE s.status IN :statuses AND s.estimatedCompletion < :now "
+      + "AND (s.estimatedCompletion > :afterEstimate OR (s.estimatedCompletion = :afterEstimate AND s.id > :afterId)) "
+      + "ORDER BY s.estimatedCompletion, s.id")
+  List<StandardService> findOverdueAfter(Collection<ServiceStatus> statuses, LocalDateTime now,
+                                         LocalDateTime afterEstimate, String afterId, Pageable pageable);
+}
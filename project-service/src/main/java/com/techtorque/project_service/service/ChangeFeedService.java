@@ -0,0 +1,38 @@
+package com.techtorque.project_service.service;
+
+import com.techtorque.project_service.dto.response.ChangeFeedDto;
+import com.techtorque.project_service.entity.ChangeOperation;
+import com.techtorque.project_service.entity.Invoice;
+import com.techtorque.project_service.entity.ProgressPhoto;
+import com.techtorque.project_service.entity.Project;
+import com.techtorque.project_service.entity.ServiceNote;
+import com.techtorque.project_service.entity.StandardService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChangeFeedService {
+
+  void recordProject(Project project, ChangeOperation operation);
+
+  void recordProjects(List<Project> projects, ChangeOperation operation);
+
+  void recordService(StandardService service, ChangeOperation operation);
+
+  void recordNote(ServiceNote note, String customerId);
+
+  void recordPhotos(List<ProgressPhoto> photos, String customerId);
+
+  void recordInvoice(Invoice invoice);
+
+  void recordInvoices(List<Invoice> invoices, ChangeOperation operation);
+
+  ChangeFeedDto getChanges(String sinceToken, int limit);
+
+  /**
+   * How far cursors may advance. Rows stamped later are held back, because a row stamped before them
+   * may not have committed yet, or may come from an instance whose clock runs behind. Pages cut with it
+   * must be read from the primary; a read replica may not have received every settled row.
+   */
+  LocalDateTime settledBefore();
+}
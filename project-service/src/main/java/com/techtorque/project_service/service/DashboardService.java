@@ -0,0 +1,38 @@
+package com.techtorque.project_service.service;
+
+import com.techtorque.project_service.dto.response.DashboardSummaryDto;
+import com.techtorque.project_service.entity.Invoice;
+import com.techtorque.project_service.entity.InvoiceStatus;
+import com.techtorque.project_service.entity.Project;
+import com.techtorque.project_service.entity.ServiceStatus;
+import com.techtorque.project_service.entity.StandardService;
+
+import java.util.List;
+
+/**
+ * Status counts and daily totals for the admin dashboard, kept up to date by the write paths
+ * instead of being counted on every request. The record methods must run in the transaction of the
+ * change they count.
+ */
+public interface DashboardService {
+
+  void recordProjectCreated(Project project);
+
+  /**
+   * @param projects rows returned by a transition, with their previous status set
+   */
+  void recordProjectTransitions(List<Project> projects);
+
+  void recordServiceCreated(StandardService service);
+
+  void recordServiceStatusChange(ServiceStatus previousStatus, ServiceStatus newStatus);
+
+  void recordInvoiceIssued(Invoice invoice);
+
+  /**
+   * @param invoices invoices that all moved from {@code previousStatus} to their current status
+   */
+  void recordInvoiceTransitions(InvoiceStatus previousStatus, List<Invoice> invoices);
+
+  DashboardSummaryDto getSummary(int days);
+}
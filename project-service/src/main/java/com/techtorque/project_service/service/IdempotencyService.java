@@ -0,0 +1,41 @@
+package com.techtorque.project_service.service;
+
+import java.util.Optional;
+
+/**
+ * Responses of requests sent with an {@code Idempotency-Key}, shared by all instances, so that a
+ * retried request gets the first response instead of running again.
+ */
+public interface IdempotencyService {
+
+  /**
+   * Claims the key for a new request, or waits for the request that holds it to finish. A claim is
+   * renewed while its request runs on this instance, so it only expires if the instance dies.
+   *
+   * @param keyHash     the caller's key, hashed together with the caller
+   * @param fingerprint hash of the request the key is used for
+   * @param owner       token unique to this request (e.g. a random UUID), stored with the claim
+   * @return empty if the caller now holds the key and must run the request, then call
+   *         {@link #complete} or {@link #release} with the same owner; otherwise the response to replay
+   * @throws com.techtorque.project_service.exception.IdempotencyKeyMismatchException if the key was
+   *         first used for a different request
+   * @throws com.techtorque.project_service.exception.IdempotencyKeyInProgressException if the first
+   *         request did not finish within the wait timeout
+   */
+  Optional<StoredResponse> claimOrAwait(String keyHash, String fingerprint, String owner);
+
+  /**
+   * Stores the response of a claimed request for replay and wakes up waiting duplicates. Does nothing
+   * if the claim is no longer the owner's.
+   */
+  void complete(String keyHash, String owner, StoredResponse response);
+
+  /**
+   * Gives up a claim without storing a response, so that a retry runs the request again. Does nothing
+   * if the claim is no longer the owner's.
+   */
+  void release(String keyHash, String owner);
+
+  record StoredResponse(int status, String contentType, byte[] body) {
+  }
+}
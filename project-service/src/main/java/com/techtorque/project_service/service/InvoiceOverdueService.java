@@ -0,0 +1,14 @@
+package com.techtorque.project_service.service;
+
+/**
+ * Ages unpaid invoices: {@code PENDING} invoices older than the payment term become {@code OVERDUE}.
+ */
+public interface InvoiceOverdueService {
+
+  /**
+   * Runs one pass if no other instance is running one.
+   *
+   * @return the number of invoices moved to {@code OVERDUE}, or -1 if another instance holds the lock
+   */
+  int sweepOverdueInvoices();
+}
@@ -0,0 +1,24 @@
+package com.techtorque.project_service.service;
+
+import com.techtorque.project_service.entity.ServiceStatus;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Lean read path for the list endpoints: rows are read with plain JDBC and written straight to
+ * the response as an {@code ApiResponse} envelope, without entities or response DTOs.
+ */
+public interface ListingStreamService {
+
+  /**
+   * @param customerId owner to filter by, or {@code null} for all projects
+   */
+  void writeProjects(String customerId, String message, OutputStream out) throws IOException;
+
+  /**
+   * @param customerId owner to filter by, or {@code null} for all services
+   * @param status     status to filter by, or {@code null} for any status
+   */
+  void writeServices(String customerId, ServiceStatus status, String message, OutputStream out) throws IOException;
+}
@@ -0,0 +1,23 @@
+package com.techtorque.project_service.service;
+
+import com.techtorque.project_service.dto.response.ServicePageDto;
+
+/**
+ * Services that are still open after their estimated completion.
+ */
+public interface OverdueDetectionService {
+
+  /**
+   * Notifies the assigned employees about services that became overdue since the last run.
+   *
+   * @return the number of services notified about
+   */
+  int detectOverdueServices();
+
+  /**
+   * Open services past their estimated completion, longest overdue first, {@code limit} at a time.
+   *
+   * @param afterToken {@code nextToken} of a previous page, or {@code null} to start from the first
+   */
+  ServicePageDto getOverdueServices(String afterToken, int limit);
+}
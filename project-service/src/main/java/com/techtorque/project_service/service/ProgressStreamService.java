@@ -0,0 +1,17 @@
+package com.techtorque.project_service.service;
+
+import com.techtorque.project_service.dto.response.ProgressEventDto;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ProgressStreamService {
+
+  SseEmitter subscribeToService(String serviceId, boolean customerView);
+
+  SseEmitter subscribeToProject(String projectId, boolean customerView);
+
+  SseEmitter subscribeToCustomer(String customerId);
+
+  void publish(ProgressEventDto event);
+
+  int getSubscriberCount();
+}
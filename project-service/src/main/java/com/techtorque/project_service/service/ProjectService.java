@@ -1,6 +1,9 @@
 package com.techtorque.project_service.service;
 
+import com.techtorque.project_service.dto.request.BulkQuoteItemDto;
 import com.techtorque.project_service.dto.request.ProjectRequestDto;
+import com.techtorque.project_service.dto.response.BulkProjectResultDto;
+import com.techtorque.project_service.dto.response.ProjectResponseDto;
 import com.techtorque.project_service.dto.response.QuoteDto;
 import com.techtorque.project_service.dto.request.RejectionDto;
 import com.techtorque.project_service.dto.request.ProgressUpdateDto;
@@ -14,7 +17,12 @@ public interface ProjectService {
 
   List<Project> getProjectsForCustomer(String customerId);
 
-  Optional<Project> getProjectDetails(String projectId, String userId, String userRole);
+  Optional<ProjectResponseDto> getProjectDetails(String projectId, String userId, String userRole);
+
+  /**
+   * Current version tag of a project the user may view, read without loading the project.
+   */
+  Optional<String> getProjectVersionTag(String projectId, String userId, String userRole);
 
   Project submitQuoteForProject(String projectId, QuoteDto dto);
 
@@ -29,4 +37,10 @@ public interface ProjectService {
   Project approveProject(String projectId, String adminId);
 
   Project rejectProject(String projectId, String reason, String adminId);
+
+  List<BulkProjectResultDto> bulkApproveProjects(List<String> projectIds, String adminId);
+
+  List<BulkProjectResultDto> bulkRejectProjects(List<String> projectIds, String reason, String adminId);
+
+  List<BulkProjectResultDto> bulkSubmitQuotes(List<BulkQuoteItemDto> quotes);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.techtorque.project_service.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Single-flight reads: concurrent callers asking for the same thing share one database call.
+ */
+public interface ReadCoalescingService {
+
+  /**
+   * Runs {@code query} in a read-only transaction, unless an identical read ({@code operation} and
+   * {@code key}) is already running, in which case its result (or exception) is returned instead.
+   * The result is shared between callers: build it inside {@code query}, while the transaction is
+   * open, as a DTO or other value detached from the session (never a managed entity), don't modify
+   * it, and check each caller's access to it afterwards. Inside an existing transaction the query runs
+   * directly, so a caller always sees its own writes.
+   */
+  <T> T read(String operation, String key, Supplier<T> query);
+}
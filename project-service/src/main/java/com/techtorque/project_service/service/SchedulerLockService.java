@@ -0,0 +1,31 @@
+package com.techtorque.project_service.service;
+
+import java.time.Duration;
+
+/**
+ * Database-backed leases that keep a scheduled job to one instance at a time.
+ */
+public interface SchedulerLockService {
+
+  /**
+   * Takes the named lease unless another instance holds an unexpired one. Commits on its own, so
+   * other instances see the lease straight away.
+   *
+   * @param lease how long the lease lasts if it is never released; longer than the job should run
+   * @return whether this instance now holds the lease
+   */
+  boolean tryLock(String name, Duration lease);
+
+  /**
+   * Extends a lease this instance holds to {@code lease} from now. A lease that has already run out
+   * is not renewed, since another instance may have taken it over meanwhile.
+   *
+   * @return whether this instance still holds the lease
+   */
+  boolean renew(String name, Duration lease);
+
+  /**
+   * Gives up a lease taken with {@link #tryLock}; does nothing if another instance took it over.
+   */
+  void unlock(String name);
+}
@@ -0,0 +1,14 @@
+package com.techtorque.project_service.service;
+
+import com.techtorque.project_service.dto.response.SearchResultDto;
+
+/**
+ * Full-text search over project descriptions and service notes.
+ */
+public interface SearchService {
+
+  /**
+   * @param customerId owner to restrict hits to (customer-visible notes only), or {@code null} for all
+   */
+  SearchResultDto search(String query, String customerId, int page, int size);
+}
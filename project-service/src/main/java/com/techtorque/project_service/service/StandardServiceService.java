@@ -16,7 +16,14 @@ public interface StandardServiceService {
   
   List<StandardService> getAllServices(); // For admin/employee to see all services
 
-  Optional<StandardService> getServiceDetails(String serviceId, String userId, String userRole);
+  Optional<ServiceResponseDto> getServiceDetails(String serviceId, String userId, String userRole);
+
+  // Version tags for conditional GETs, read without loading the entities
+  Optional<String> getServiceVersionTag(String serviceId, String userId, String userRole);
+
+  Optional<String> getNotesVersionTag(String serviceId, String userId, String userRole);
+
+  Optional<String> getPhotosVersionTag(String serviceId);
 
   StandardService updateService(String serviceId, ServiceUpdateDto dto, String employeeId);
 
@@ -26,6 +33,15 @@ public interface StandardServiceService {
 
   List<NoteResponseDto> getServiceNotes(String serviceId, String userId, String userRole);
 
+  /**
+   * Notes in creation order, {@code limit} at a time. Notes younger than the change feed's settle delay
+   * are held back, so a token never moves past a note that commits late or was stamped by a clock
+   * running behind.
+   *
+   * @param sinceToken {@code nextToken} of a previous page, or {@code null} to start from the first note
+   */
+  NotePageDto getServiceNotes(String serviceId, String userId, String userRole, String sinceToken, int limit);
+
   List<PhotoDto> uploadPhotos(String serviceId, MultipartFile[] files, String employeeId);
 
   List<PhotoDto> getPhotos(String serviceId);
@@ -0,0 +1,215 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.dto.response.ChangeEntryDto;
+import com.techtorque.project_service.dto.response.ChangeFeedDto;
+import com.techtorque.project_service.entity.*;
+import com.techtorque.project_service.exception.InvalidCursorException;
+import com.techtorque.project_service.repository.ChangeLogRepository;
+import com.techtorque.project_service.service.ChangeFeedService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Append-only change log behind {@code GET /changes}.
+ *
+ * Entries are written inside the caller's transaction, so a change and its log entry commit or roll
+ * back together. Identity values are assigned at insert time but become visible at commit time, so a
+ * slow transaction can commit an entry with a lower ID than one already served. The feed therefore
+ * stops at the first entry younger than the settle delay, which no transaction is expected to outlive.
+ */
+@Service
+@Transactional(propagation = Propagation.MANDATORY)
+@Slf4j
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+
+  private final ChangeLogRepository changeLogRepository;
+  private final Duration settleDelay;
+  private final Duration retention;
+
+  public ChangeFeedServiceImpl(
+      ChangeLogRepository changeLogRepository,
+      @Value("${changes.settle-delay:5s}") Duration settleDelay,
+      @Value("${changes.retention:30d}") Duration retention) {
+    this.changeLogRepository = changeLogRepository;
+    this.settleDelay = settleDelay;
+    this.retention = retention;
+  }
+
+  @Override
+  public void recordProject(Project project, ChangeOperation operation) {
+    changeLogRepository.save(projectEntry(project, operation));
+  }
+
+  @Override
+  public void recordProjects(List<Project> projects, ChangeOperation operation) {
+    changeLogRepository.saveAll(projects.stream()
+        .map(project -> projectEntry(project, operation))
+        .collect(Collectors.toList()));
+  }
+
+  @Override
+  public void recordService(StandardService service, ChangeOperation operation) {
+    changeLogRepository.save(ChangeLogEntry.builder()
+        .entityType(ChangeEntityType.SERVICE)
+        .entityId(service.getId())
+        .operation(operation)
+        .customerId(service.getCustomerId())
+        .status(service.getStatus().name())
+        .progress(service.getProgress())
+        .build());
+  }
+
+  @Override
+  public void recordNote(ServiceNote note, String customerId) {
+    changeLogRepository.save(ChangeLogEntry.builder()
+        .entityType(ChangeEntityType.SERVICE_NOTE)
+        .entityId(note.getId())
+        .operation(ChangeOperation.CREATED)
+        .parentId(note.getServiceId())
+        .customerId(customerId)
+        .build());
+  }
+
+  @Override
+  public void recordPhotos(List<ProgressPhoto> photos, String customerId) {
+    changeLogRepository.saveAll(photos.stream()
+        .map(photo -> ChangeLogEntry.builder()
+            .entityType(ChangeEntityType.PROGRESS_PHOTO)
+            .entityId(photo.getId())
+            .operation(ChangeOperation.CREATED)
+            .parentId(photo.getServiceId())
+            .customerId(customerId)
+            .build())
+        .collect(Collectors.toList()));
+  }
+
+  @Override
+  public void recordInvoice(Invoice invoice) {
+    changeLogRepository.save(invoiceEntry(invoice, ChangeOperation.CREATED));
+  }
+
+  @Override
+  public void recordInvoices(List<Invoice> invoices, ChangeOperation operation) {
+    changeLogRepository.saveAll(invoices.stream()
+        .map(invoice -> invoiceEntry(invoice, operation))
+        .collect(Collectors.toList()));
+  }
+
+  /**
+   * Read on the primary rather than a replica: a replica can trail it by more than the settle delay,
+   * and the token would then move past entries it has not received yet.
+   */
+  @Override
+  @Transactional
+  public ChangeFeedDto getChanges(String sinceToken, int limit) {
+    long afterId = parseToken(sinceToken);
+
+    // Fetch one extra row to know whether another page follows
+    List<ChangeLogEntry> page = changeLogRepository.findByIdGreaterThanOrderByIdAsc(afterId,
+        PageRequest.ofSize(limit + 1));
+
+    LocalDateTime settledBefore = settledBefore();
+    List<ChangeEntryDto> changes = new ArrayList<>(Math.min(page.size(), limit));
+    boolean hasMore = false;
+    for (ChangeLogEntry entry : page) {
+      if (changes.size() == limit || entry.getRecordedAt().isAfter(settledBefore)) {
+        hasMore = changes.size() == limit;
+        break;
+      }
+      changes.add(mapToChangeEntryDto(entry));
+    }
+
+    boolean resyncRequired = false;
+    if (afterId > 0) {
+      Long oldestId = changeLogRepository.findOldestId();
+      resyncRequired = oldestId != null && oldestId > afterId + 1;
+    }
+
+    String nextToken = changes.isEmpty() ? formatToken(afterId) : changes.get(changes.size() - 1).getToken();
+    return ChangeFeedDto.builder()
+        .changes(changes)
+        .nextToken(nextToken)
+        .hasMore(hasMore)
+        .resyncRequired(resyncRequired)
+        .build();
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.SUPPORTS)
+  public LocalDateTime settledBefore() {
+    return LocalDateTime.now().minus(settleDelay);
+  }
+
+  @Scheduled(cron = "${changes.purge-cron:0 30 3 * * *}")
+  @Transactional
+  public void purgeExpiredEntries() {
+    int deleted = changeLogRepository.deleteOlderThan(LocalDateTime.now().minus(retention));
+    log.info("Purged {} change log entries older than {}", deleted, retention);
+  }
+
+  private ChangeLogEntry projectEntry(Project project, ChangeOperation operation) {
+    return ChangeLogEntry.builder()
+        .entityType(ChangeEntityType.PROJECT)
+        .entityId(project.getId())
+        .operation(operation)
+        .customerId(project.getCustomerId())
+        .status(project.getStatus().name())
+        .progress(project.getProgress())
+        .build();
+  }
+
+  private ChangeLogEntry invoiceEntry(Invoice invoice, ChangeOperation operation) {
+    return ChangeLogEntry.builder()
+        .entityType(ChangeEntityType.INVOICE)
+        .entityId(invoice.getId())
+        .operation(operation)
+        .parentId(invoice.getServiceId())
+        .customerId(invoice.getCustomerId())
+        .status(invoice.getStatus().name())
+        .build();
+  }
+
+  private ChangeEntryDto mapToChangeEntryDto(ChangeLogEntry entry) {
+    return ChangeEntryDto.builder()
+        .token(formatToken(entry.getId()))
+        .entityType(entry.getEntityType())
+        .entityId(entry.getEntityId())
+        .operation(entry.getOperation())
+        .parentId(entry.getParentId())
+        .customerId(entry.getCustomerId())
+        .status(entry.getStatus())
+        .progress(entry.getProgress())
+        .changedAt(entry.getRecordedAt())
+        .build();
+  }
+
+  private static String formatToken(long id) {
+    return Long.toString(id);
+  }
+
+  private static long parseToken(String token) {
+    if (token == null || token.isBlank()) {
+      return 0L;
+    }
+    try {
+      long id = Long.parseLong(token);
+      if (id < 0) {
+        throw new InvalidCursorException("Invalid change token: " + token);
+      }
+      return id;
+    } catch (NumberFormatException e) {
+      throw new InvalidCursorException("Invalid change token: " + token);
+    }
+  }
+}
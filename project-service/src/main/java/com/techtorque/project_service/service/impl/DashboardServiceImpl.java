@@ -0,0 +1,343 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.dto.response.DailyTotalsDto;
+import com.techtorque.project_service.dto.response.DashboardSummaryDto;
+import com.techtorque.project_service.dto.response.InvoiceTotalsDto;
+import com.techtorque.project_service.entity.DashboardCounter;
+import com.techtorque.project_service.entity.DashboardCounterDelta;
+import com.techtorque.project_service.entity.Invoice;
+import com.techtorque.project_service.entity.InvoiceStatus;
+import com.techtorque.project_service.entity.Project;
+import com.techtorque.project_service.entity.ProjectStatus;
+import com.techtorque.project_service.entity.ServiceStatus;
+import com.techtorque.project_service.entity.StandardService;
+import com.techtorque.project_service.repository.CounterTotalView;
+import com.techtorque.project_service.repository.DashboardCounterDeltaRepository;
+import com.techtorque.project_service.repository.DashboardCounterRepository;
+import com.techtorque.project_service.service.DashboardService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dashboard counters maintained as deltas.
+ *
+ * Every counted change inserts delta rows in its own transaction; nothing updates a shared row on
+ * the write path, so busy statuses do not serialise their writers. A background fold moves the
+ * deltas into {@code dashboard_counters}, and a summary is the counters plus the few deltas not yet
+ * folded: a read of a few hundred rows at most, whatever the size of the tables. A periodic
+ * reconciliation recounts from the tables (in one snapshot) and corrects the counters, which covers
+ * rows written around the service (bulk loads, manual fixes) and fills them in on first start.
+ */
+@Service
+@Slf4j
+public class DashboardServiceImpl implements DashboardService {
+
+  private static final Set<InvoiceStatus> OPEN_INVOICE_STATUSES =
+      EnumSet.of(InvoiceStatus.DRAFT, InvoiceStatus.PENDING, InvoiceStatus.OVERDUE);
+
+  private static final String PROJECTS_CREATED = "projects-created";
+  private static final String SERVICES_CREATED = "services-created";
+  private static final String INVOICES_ISSUED = "invoices-issued";
+
+  private final DashboardCounterRepository counterRepository;
+  private final DashboardCounterDeltaRepository deltaRepository;
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final int retentionDays;
+  private final int foldBatchSize;
+
+  public DashboardServiceImpl(
+      DashboardCounterRepository counterRepository,
+      DashboardCounterDeltaRepository deltaRepository,
+      DataSource dataSource,
+      @Value("${dashboard.retention-days:90}") int retentionDays,
+      @Value("${dashboard.fold-batch-size:5000}") int foldBatchSize) {
+    this.counterRepository = counterRepository;
+    this.deltaRepository = deltaRepository;
+    this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    this.retentionDays = retentionDays;
+    this.foldBatchSize = foldBatchSize;
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordProjectCreated(Project project) {
+    Deltas deltas = new Deltas();
+    deltas.add(statusName(project.getStatus()), 1, BigDecimal.ZERO);
+    deltas.add(dayName(dateOf(project.getCreatedAt()), PROJECTS_CREATED), 1, BigDecimal.ZERO);
+    save(deltas);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordProjectTransitions(List<Project> projects) {
+    // One row per status touched, however many projects moved
+    Deltas deltas = new Deltas();
+    for (Project project : projects) {
+      if (project.getPreviousStatus() != project.getStatus()) {
+        deltas.add(statusName(project.getPreviousStatus()), -1, BigDecimal.ZERO);
+        deltas.add(statusName(project.getStatus()), 1, BigDecimal.ZERO);
+      }
+    }
+    save(deltas);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordServiceCreated(StandardService service) {
+    Deltas deltas = new Deltas();
+    deltas.add(statusName(service.getStatus()), 1, BigDecimal.ZERO);
+    deltas.add(dayName(dateOf(service.getCreatedAt()), SERVICES_CREATED), 1, BigDecimal.ZERO);
+    save(deltas);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordServiceStatusChange(ServiceStatus previousStatus, ServiceStatus newStatus) {
+    if (previousStatus == newStatus) {
+      return;
+    }
+    Deltas deltas = new Deltas();
+    deltas.add(statusName(previousStatus), -1, BigDecimal.ZERO);
+    deltas.add(statusName(newStatus), 1, BigDecimal.ZERO);
+    save(deltas);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordInvoiceIssued(Invoice invoice) {
+    Deltas deltas = new Deltas();
+    deltas.add(statusName(invoice.getStatus()), 1, invoice.getTotalAmount());
+    deltas.add(dayName(dateOf(invoice.getCreatedAt()), INVOICES_ISSUED), 1, invoice.getTotalAmount());
+    save(deltas);
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void recordInvoiceTransitions(InvoiceStatus previousStatus, List<Invoice> invoices) {
+    Deltas deltas = new Deltas();
+    for (Invoice invoice : invoices) {
+      if (invoice.getStatus() != previousStatus) {
+        deltas.add(statusName(previousStatus), -1, invoice.getTotalAmount().negate());
+        deltas.add(statusName(invoice.getStatus()), 1, invoice.getTotalAmount());
+      }
+    }
+    save(deltas);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public DashboardSummaryDto getSummary(int days) {
+    Map<String, Totals> totals = new HashMap<>();
+    counterRepository.findTotals().forEach(total -> merge(totals, total));
+    deltaRepository.findPendingTotals().forEach(total -> merge(totals, total));
+
+    Map<ProjectStatus, Long> projects = new EnumMap<>(ProjectStatus.class);
+    for (ProjectStatus status : ProjectStatus.values()) {
+      projects.put(status, get(totals, statusName(status)).count);
+    }
+    Map<ServiceStatus, Long> services = new EnumMap<>(ServiceStatus.class);
+    for (ServiceStatus status : ServiceStatus.values()) {
+      services.put(status, get(totals, statusName(status)).count);
+    }
+    Map<InvoiceStatus, InvoiceTotalsDto> invoices = new EnumMap<>(InvoiceStatus.class);
+    for (InvoiceStatus status : OPEN_INVOICE_STATUSES) {
+      Totals invoiceTotals = get(totals, statusName(status));
+      invoices.put(status, new InvoiceTotalsDto(invoiceTotals.count, invoiceTotals.amount));
+    }
+
+    LocalDate today = LocalDate.now();
+    List<DailyTotalsDto> daily = new ArrayList<>(days);
+    for (LocalDate day = today.minusDays(Math.min(days, retentionDays) - 1L); !day.isAfter(today); day = day.plusDays(1)) {
+      Totals issued = get(totals, dayName(day, INVOICES_ISSUED));
+      daily.add(DailyTotalsDto.builder()
+          .date(day)
+          .projectsCreated(get(totals, dayName(day, PROJECTS_CREATED)).count)
+          .servicesCreated(get(totals, dayName(day, SERVICES_CREATED)).count)
+          .invoicesIssued(issued.count)
+          .invoicedAmount(issued.amount)
+          .build());
+    }
+
+    return DashboardSummaryDto.builder()
+        .projectsByStatus(projects)
+        .servicesByStatus(services)
+        .openInvoices(invoices)
+        .daily(daily)
+        .generatedAt(LocalDateTime.now())
+        .build();
+  }
+
+  /**
+   * Moves the oldest deltas into the counters. Instances folding at the same time take disjoint
+   * rows, and counters are only ever incremented here, so their results add up.
+   */
+  @Scheduled(fixedDelayString = "${dashboard.fold-interval:10s}")
+  @Transactional
+  public void foldDeltas() {
+    List<DashboardCounterDelta> pending = deltaRepository.findOldestForFold(PageRequest.ofSize(foldBatchSize));
+    if (pending.isEmpty()) {
+      return;
+    }
+    Deltas deltas = new Deltas();
+    pending.forEach(delta -> deltas.add(delta.getName(), delta.getCount(), delta.getAmount()));
+    deltaRepository.deleteAllInBatch(pending);
+    deltas.totals.forEach((name, total) -> {
+      if (counterRepository.add(name, total.count, total.amount) == 0) {
+        counterRepository.save(new DashboardCounter(name, total.count, total.amount));
+      }
+    });
+    log.debug("Folded {} dashboard deltas into {} counters", pending.size(), deltas.totals.size());
+  }
+
+  /**
+   * Recounts from the tables and sets each counter so that it plus its pending deltas matches.
+   * Runs in one snapshot, so changes committed meanwhile are in neither the counts nor the deltas
+   * read here and stay pending; a concurrent fold touching the same counters fails one of the two,
+   * and the next run catches up.
+   */
+  @Scheduled(fixedDelayString = "${dashboard.reconcile-interval:1h}",
+      initialDelayString = "${dashboard.reconcile-initial-delay:20s}")
+  @Transactional(isolation = Isolation.REPEATABLE_READ)
+  public void reconcile() {
+    LocalDate oldestDay = LocalDate.now().minusDays(retentionDays - 1L);
+    Map<String, Totals> actual = countTables(oldestDay.atStartOfDay());
+    Map<String, Totals> pending = new HashMap<>();
+    deltaRepository.findPendingTotals().forEach(total -> merge(pending, total));
+
+    counterRepository.deleteDaysBefore(dayName(oldestDay, ""));
+    Map<String, Totals> stored = new HashMap<>();
+    counterRepository.findTotals().forEach(total -> merge(stored, total));
+    // Counters with no rows left (a status nobody is in any more) go back to zero
+    stored.keySet().forEach(name -> actual.putIfAbsent(name, new Totals()));
+
+    int corrected = 0;
+    for (Map.Entry<String, Totals> entry : actual.entrySet()) {
+      String name = entry.getKey();
+      Totals pendingTotals = get(pending, name);
+      long count = entry.getValue().count - pendingTotals.count;
+      BigDecimal amount = entry.getValue().amount.subtract(pendingTotals.amount);
+      Totals current = stored.get(name);
+      if (current == null) {
+        counterRepository.save(new DashboardCounter(name, count, amount));
+      } else if (current.count != count || current.amount.compareTo(amount) != 0) {
+        counterRepository.set(name, count, amount);
+      } else {
+        continue;
+      }
+      corrected++;
+    }
+    if (corrected > 0) {
+      log.info("Dashboard reconciliation corrected {} counters", corrected);
+    }
+  }
+
+  private Map<String, Totals> countTables(LocalDateTime since) {
+    Map<String, Totals> counts = new HashMap<>();
+    Map<String, Object> params = Map.of("since", since);
+    jdbcTemplate.query("SELECT status, COUNT(*) FROM projects GROUP BY status", params, (RowCallbackHandler) rs ->
+        counts.put(statusName(ProjectStatus.valueOf(rs.getString(1))), new Totals(rs.getLong(2), null)));
+    jdbcTemplate.query("SELECT status, COUNT(*) FROM standard_services GROUP BY status", params, (RowCallbackHandler) rs ->
+        counts.put(statusName(ServiceStatus.valueOf(rs.getString(1))), new Totals(rs.getLong(2), null)));
+    jdbcTemplate.query("SELECT status, COUNT(*), SUM(total_amount) FROM invoices GROUP BY status", params,
+        (RowCallbackHandler) rs ->
+            counts.put(statusName(InvoiceStatus.valueOf(rs.getString(1))), new Totals(rs.getLong(2), rs.getBigDecimal(3))));
+    countDays(counts, "projects", PROJECTS_CREATED, "NULL", params);
+    countDays(counts, "standard_services", SERVICES_CREATED, "NULL", params);
+    countDays(counts, "invoices", INVOICES_ISSUED, "SUM(total_amount)", params);
+    return counts;
+  }
+
+  private void countDays(Map<String, Totals> counts, String table, String metric, String amount,
+                         Map<String, Object> params) {
+    jdbcTemplate.query("SELECT CAST(created_at AS DATE), COUNT(*), " + amount + " FROM " + table
+            + " WHERE created_at >= :since GROUP BY CAST(created_at AS DATE)", params, (RowCallbackHandler) rs ->
+        counts.put(dayName(rs.getObject(1, LocalDate.class), metric), new Totals(rs.getLong(2), rs.getBigDecimal(3))));
+  }
+
+  private void save(Deltas deltas) {
+    List<DashboardCounterDelta> rows = new ArrayList<>(deltas.totals.size());
+    deltas.totals.forEach((name, total) -> {
+      if (total.count != 0 || total.amount.signum() != 0) {
+        rows.add(DashboardCounterDelta.builder().name(name).count(total.count).amount(total.amount).build());
+      }
+    });
+    deltaRepository.saveAll(rows);
+  }
+
+  private static String statusName(ProjectStatus status) {
+    return "project:" + status.name();
+  }
+
+  private static String statusName(ServiceStatus status) {
+    return "service:" + status.name();
+  }
+
+  private static String statusName(InvoiceStatus status) {
+    return "invoice:" + status.name();
+  }
+
+  private static String dayName(LocalDate day, String metric) {
+    return "day:" + day + (metric.isEmpty() ? "" : ":" + metric);
+  }
+
+  private static LocalDate dateOf(LocalDateTime timestamp) {
+    return timestamp != null ? timestamp.toLocalDate() : LocalDate.now();
+  }
+
+  private static void merge(Map<String, Totals> totals, CounterTotalView total) {
+    totals.computeIfAbsent(total.getName(), name -> new Totals()).add(total.getCount(), total.getAmount());
+  }
+
+  private static Totals get(Map<String, Totals> totals, String name) {
+    return totals.getOrDefault(name, new Totals());
+  }
+
+  private static final class Totals {
+
+    private long count;
+    private BigDecimal amount = BigDecimal.ZERO;
+
+    private Totals() {
+    }
+
+    private Totals(long count, BigDecimal amount) {
+      this.count = count;
+      this.amount = amount != null ? amount : BigDecimal.ZERO;
+    }
+
+    void add(long count, BigDecimal amount) {
+      this.count += count;
+      this.amount = this.amount.add(amount != null ? amount : BigDecimal.ZERO);
+    }
+  }
+
+  private static final class Deltas {
+
+    private final Map<String, Totals> totals = new LinkedHashMap<>();
+
+    void add(String name, long count, BigDecimal amount) {
+      totals.computeIfAbsent(name, key -> new Totals()).add(count, amount);
+    }
+  }
+}
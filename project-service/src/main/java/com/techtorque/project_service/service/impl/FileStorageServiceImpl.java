@@ -2,6 +2,8 @@ package com.techtorque.project_service.service.impl;
 
 import com.techtorque.project_service.exception.FileStorageException;
 import com.techtorque.project_service.service.FileStorageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -22,9 +24,12 @@ import java.util.UUID;
 public class FileStorageServiceImpl implements FileStorageService {
 
     private final Path fileStorageLocation;
+    private final MeterRegistry meterRegistry;
 
-    public FileStorageServiceImpl(@Value("${file.upload-dir:uploads/service-photos}") String uploadDir) {
+    public FileStorageServiceImpl(@Value("${file.upload-dir:uploads/service-photos}") String uploadDir,
+                                  MeterRegistry meterRegistry) {
         this.fileStorageLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.meterRegistry = meterRegistry;
         try {
             Files.createDirectories(this.fileStorageLocation);
             log.info("File storage location initialized: {}", this.fileStorageLocation);
@@ -49,11 +54,13 @@ public class FileStorageServiceImpl implements FileStorageService {
 
             String newFilename = serviceId + "_" + UUID.randomUUID().toString() + fileExtension;
             Path targetLocation = this.fileStorageLocation.resolve(newFilename);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            long bytes = Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            recordFile("store", "SUCCESS", bytes);
 
             log.info("File stored successfully: {}", newFilename);
             return "/uploads/service-photos/" + newFilename;
         } catch (IOException ex) {
+            recordFile("store", "ERROR", 0);
             throw new FileStorageException("Could not store file " + originalFilename + ". Please try again!", ex);
         }
     }
@@ -75,10 +82,35 @@ public class FileStorageServiceImpl implements FileStorageService {
         try {
             String filename = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
             Path filePath = this.fileStorageLocation.resolve(filename).normalize();
-            Files.deleteIfExists(filePath);
+            long bytes = Files.exists(filePath) ? Files.size(filePath) : 0;
+            if (Files.deleteIfExists(filePath)) {
+                recordFile("delete", "SUCCESS", bytes);
+            } else {
+                recordFile("delete", "NOT_FOUND", 0);
+            }
             log.info("File deleted successfully: {}", filename);
         } catch (IOException ex) {
+            recordFile("delete", "ERROR", 0);
             log.error("Could not delete file: {}", fileUrl, ex);
         }
     }
+
+    // storage.files counts every attempt; storage.bytes only what was actually written or removed
+    private void recordFile(String operation, String outcome, long bytes) {
+        Counter.builder("storage.files")
+                .description("Files written to or removed from photo storage")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+        if (bytes > 0) {
+            Counter.builder("storage.bytes")
+                    .description("Bytes written to or removed from photo storage")
+                    .baseUnit("bytes")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .increment(bytes);
+        }
+    }
 }
@@ -0,0 +1,189 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.config.AsyncConfig;
+import com.techtorque.project_service.entity.IdempotencyRecord;
+import com.techtorque.project_service.exception.IdempotencyKeyInProgressException;
+import com.techtorque.project_service.exception.IdempotencyKeyMismatchException;
+import com.techtorque.project_service.repository.IdempotencyRecordRepository;
+import com.techtorque.project_service.service.IdempotencyService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency records in {@code idempotency_keys}.
+ *
+ * The first request inserts the row; a duplicate fails on the primary key and waits until the row
+ * holds a response. Duplicates on the instance running the first request are woken up when it
+ * finishes; duplicates on other instances poll the row. Every statement commits on its own (against
+ * the primary, never a replica), so claims are visible to other instances at once.
+ *
+ * Each claim carries its request's owner token, and only that owner completes or releases it. While
+ * the request runs, the claim is renewed every renew interval, so however long a POST takes its key is
+ * not taken over; a claim whose request died with its instance expires after the in-progress timeout.
+ * The renew interval must therefore stay well below the in-progress timeout. Responses expire after
+ * the TTL and are purged periodically.
+ */
+@Service
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+  private final IdempotencyRecordRepository recordRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration ttl;
+  private final Duration inProgressTimeout;
+  private final Duration waitTimeout;
+  private final Duration pollInterval;
+
+  // Requests running on this instance, by key hash
+  private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+  public IdempotencyServiceImpl(
+      IdempotencyRecordRepository recordRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${idempotency.ttl:24h}") Duration ttl,
+      @Value("${idempotency.in-progress-timeout:2m}") Duration inProgressTimeout,
+      @Value("${idempotency.wait-timeout:30s}") Duration waitTimeout,
+      @Value("${idempotency.poll-interval:100ms}") Duration pollInterval,
+      @Value("${idempotency.renew-interval:30s}") Duration renewInterval) {
+    if (renewInterval.multipliedBy(2).compareTo(inProgressTimeout) > 0) {
+      throw new IllegalArgumentException("idempotency.renew-interval must be at most half of "
+          + "idempotency.in-progress-timeout, or running requests lose their claims");
+    }
+    this.recordRepository = recordRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.ttl = ttl;
+    this.inProgressTimeout = inProgressTimeout;
+    this.waitTimeout = waitTimeout;
+    this.pollInterval = pollInterval;
+  }
+
+  @Override
+  public Optional<StoredResponse> claimOrAwait(String keyHash, String fingerprint, String owner) {
+    long deadline = System.nanoTime() + waitTimeout.toNanos();
+    while (true) {
+      if (claim(keyHash, fingerprint, owner)) {
+        inFlight.put(keyHash, new InFlight(owner, new CompletableFuture<>()));
+        return Optional.empty();
+      }
+
+      Optional<IdempotencyRecord> existing = transactionTemplate.execute(tx -> recordRepository.findById(keyHash));
+      if (existing.isEmpty()) {
+        continue; // Released or expired in the meantime; try to claim it again
+      }
+      IdempotencyRecord record = existing.get();
+      if (!record.getFingerprint().equals(fingerprint)) {
+        throw new IdempotencyKeyMismatchException("Idempotency-Key was already used for a different request");
+      }
+      if (record.getResponseStatus() != null) {
+        return Optional.of(new StoredResponse(record.getResponseStatus(), record.getContentType(),
+            record.getResponseBody()));
+      }
+
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        throw new IdempotencyKeyInProgressException("A request with this Idempotency-Key is still in progress");
+      }
+      // Woken up when the first request runs on this instance; otherwise poll the record
+      InFlight running = inFlight.get(keyHash);
+      await(running != null ? running.done() : null,
+          running != null ? remaining : Math.min(remaining, pollInterval.toNanos()));
+    }
+  }
+
+  @Override
+  public void complete(String keyHash, String owner, StoredResponse response) {
+    try {
+      LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+      int updated = transactionTemplate.execute(tx -> recordRepository.complete(
+          keyHash, owner, response.status(), response.contentType(), response.body(), expiresAt));
+      if (updated == 0) {
+        log.warn("Idempotency key claim was lost before its request finished; the response is not stored");
+      }
+    } finally {
+      finished(keyHash, owner);
+    }
+  }
+
+  @Override
+  public void release(String keyHash, String owner) {
+    try {
+      transactionTemplate.executeWithoutResult(tx -> recordRepository.release(keyHash, owner));
+    } finally {
+      finished(keyHash, owner);
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${idempotency.renew-interval:30s}",
+      scheduler = AsyncConfig.CHECK_SCHEDULER)
+  public void renewClaims() {
+    List<String> owners = inFlight.values().stream().map(InFlight::owner).toList();
+    if (owners.isEmpty()) {
+      return;
+    }
+    LocalDateTime expiresAt = LocalDateTime.now().plus(inProgressTimeout);
+    int renewed = transactionTemplate.execute(tx -> recordRepository.renew(owners, expiresAt));
+    log.debug("Renewed {} of {} running idempotency key claims", renewed, owners.size());
+  }
+
+  @Scheduled(fixedDelayString = "${idempotency.purge-interval:10m}")
+  public void purgeExpired() {
+    int deleted = transactionTemplate.execute(tx -> recordRepository.deleteExpired(LocalDateTime.now()));
+    log.debug("Purged {} expired idempotency keys", deleted);
+  }
+
+  private boolean claim(String keyHash, String fingerprint, String owner) {
+    LocalDateTime now = LocalDateTime.now();
+    try {
+      return Boolean.TRUE.equals(transactionTemplate.execute(tx -> {
+        // An expired record, or the claim of a request that never finished, no longer holds the key
+        recordRepository.deleteIfExpired(keyHash, now);
+        return recordRepository.claim(keyHash, fingerprint, owner, now, now.plus(inProgressTimeout)) == 1;
+      }));
+    } catch (DataIntegrityViolationException e) {
+      return false;
+    }
+  }
+
+  // Leaves the entry of a request that took the key over after this one lost it
+  private void finished(String keyHash, String owner) {
+    InFlight running = inFlight.get(keyHash);
+    if (running != null && running.owner().equals(owner) && inFlight.remove(keyHash, running)) {
+      running.done().complete(null);
+    }
+  }
+
+  private static void await(CompletableFuture<Void> future, long nanos) {
+    try {
+      if (future != null) {
+        future.get(nanos, TimeUnit.NANOSECONDS);
+      } else {
+        TimeUnit.NANOSECONDS.sleep(nanos);
+      }
+    } catch (TimeoutException | ExecutionException e) {
+      // Check the record again
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IdempotencyKeyInProgressException("Interrupted while waiting for the first request");
+    }
+  }
+
+  private record InFlight(String owner, CompletableFuture<Void> done) {
+  }
+}
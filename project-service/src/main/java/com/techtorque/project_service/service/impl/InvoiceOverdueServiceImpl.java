@@ -0,0 +1,111 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.entity.ChangeOperation;
+import com.techtorque.project_service.entity.Invoice;
+import com.techtorque.project_service.entity.InvoiceStatus;
+import com.techtorque.project_service.repository.InvoiceRepository;
+import com.techtorque.project_service.service.ChangeFeedService;
+import com.techtorque.project_service.service.DashboardService;
+import com.techtorque.project_service.service.InvoiceOverdueService;
+import com.techtorque.project_service.service.SchedulerLockService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Scheduled on every instance, run by one at a time: a pass first takes the
+ * {@value #LOCK_NAME} lease ({@link SchedulerLockService}) and skips if another instance holds it.
+ * The pass then ages invoices in chunks of set-based updates, each in its own short transaction
+ * together with its change log entries and dashboard deltas, so no long transaction holds row locks
+ * and a pass cut short keeps the chunks it committed. The lease is renewed before every chunk after
+ * the first, and a pass whose lease ran out stops there, leaving the rest to the instance that took
+ * it over. Even then, updates only match invoices that are still pending, so nothing is aged twice.
+ */
+@Service
+@Slf4j
+public class InvoiceOverdueServiceImpl implements InvoiceOverdueService {
+
+  static final String LOCK_NAME = "invoice-overdue-sweep";
+
+  private final InvoiceRepository invoiceRepository;
+  private final ChangeFeedService changeFeedService;
+  private final DashboardService dashboardService;
+  private final SchedulerLockService lockService;
+  private final TransactionTemplate transactionTemplate;
+  private final Counter sweptCounter;
+  private final Duration overdueAfter;
+  private final int chunkSize;
+  private final Duration lockLease;
+
+  public InvoiceOverdueServiceImpl(
+      InvoiceRepository invoiceRepository,
+      ChangeFeedService changeFeedService,
+      DashboardService dashboardService,
+      SchedulerLockService lockService,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${invoices.overdue-after:30d}") Duration overdueAfter,
+      @Value("${invoices.overdue-sweep.chunk-size:1000}") int chunkSize,
+      @Value("${invoices.overdue-sweep.lock-lease:15m}") Duration lockLease) {
+    this.invoiceRepository = invoiceRepository;
+    this.changeFeedService = changeFeedService;
+    this.dashboardService = dashboardService;
+    this.lockService = lockService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.sweptCounter = Counter.builder("invoices.overdue.swept")
+        .description("Invoices moved from PENDING to OVERDUE")
+        .register(meterRegistry);
+    this.overdueAfter = overdueAfter;
+    this.chunkSize = chunkSize;
+    this.lockLease = lockLease;
+  }
+
+  @Override
+  @Scheduled(fixedDelayString = "${invoices.overdue-sweep.interval:15m}",
+      initialDelayString = "${invoices.overdue-sweep.initial-delay:2m}")
+  public int sweepOverdueInvoices() {
+    if (!lockService.tryLock(LOCK_NAME, lockLease)) {
+      log.debug("Invoice overdue sweep skipped, another instance holds the lock");
+      return -1;
+    }
+    try {
+      long started = System.nanoTime();
+      LocalDateTime createdBefore = LocalDateTime.now().minus(overdueAfter);
+      int swept = 0;
+      int chunks = 0;
+      int updated;
+      do {
+        if (chunks > 0 && !lockService.renew(LOCK_NAME, lockLease)) {
+          log.warn("Invoice overdue sweep lost its lock after {} chunks, stopping", chunks);
+          break;
+        }
+        updated = transactionTemplate.execute(tx -> {
+          List<Invoice> invoices = invoiceRepository.markOverdue(createdBefore, chunkSize);
+          if (!invoices.isEmpty()) {
+            changeFeedService.recordInvoices(invoices, ChangeOperation.UPDATED);
+            dashboardService.recordInvoiceTransitions(InvoiceStatus.PENDING, invoices);
+          }
+          return invoices.size();
+        });
+        swept += updated;
+        chunks++;
+        sweptCounter.increment(updated);
+      } while (updated == chunkSize);
+
+      log.info("Invoice overdue sweep moved {} invoices created before {} to OVERDUE in {} chunks, {} ms",
+          swept, createdBefore, chunks, Duration.ofNanos(System.nanoTime() - started).toMillis());
+      return swept;
+    } finally {
+      lockService.unlock(LOCK_NAME);
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package com.techtorque.project_service.service.impl;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techtorque.project_service.entity.ServiceStatus;
+import com.techtorque.project_service.service.ListingStreamService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * Writes the project and service lists column by column from the JDBC result set.
+ *
+ * Only the columns of the response DTOs are selected, nothing enters the persistence context, and
+ * each row is serialised as soon as it is read, so memory stays flat regardless of list size. The
+ * JSON shape is identical to serialising {@code ApiResponse} with {@code ProjectResponseDto} or
+ * {@code ServiceResponseDto} items; date-times go through the application {@link ObjectMapper}.
+ * Runs in a read-only transaction so it is routed to a read replica when those are enabled.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ListingStreamServiceImpl implements ListingStreamService {
+
+  private static final String PROJECT_COLUMNS =
+          "SELECT id, customer_id, vehicle_id, project_type, description, desired_completion_date, "
+          + "budget, status, progress, created_at, updated_at FROM projects";
+
+  // One row per assigned employee; rows of a service are adjacent thanks to the ORDER BY
+  private static final String SERVICE_COLUMNS =
+          "SELECT s.id, s.appointment_id, s.customer_id, e.assigned_employee_ids, s.status, s.progress, "
+          + "s.hours_logged, s.estimated_completion, s.created_at, s.updated_at "
+          + "FROM standard_services s "
+          + "LEFT JOIN standard_service_assigned_employee_ids e ON e.standard_service_id = s.id";
+
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+
+  public ListingStreamServiceImpl(
+      DataSource dataSource,
+      ObjectMapper objectMapper,
+      @Value("${listing.stream.fetch-size:500}") int fetchSize) {
+    JdbcTemplate template = new JdbcTemplate(dataSource);
+    template.setFetchSize(fetchSize);
+    this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public void writeProjects(String customerId, String message, OutputStream out) throws IOException {
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    String sql = PROJECT_COLUMNS;
+    if (customerId != null) {
+      sql += " WHERE customer_id = :customerId";
+      params.addValue("customerId", customerId);
+    }
+
+    JsonGenerator gen = startEnvelope(message, out);
+    query(sql, params, rs -> {
+      gen.writeStartObject();
+      gen.writeStringField("id", rs.getString(1));
+      gen.writeStringField("customerId", rs.getString(2));
+      gen.writeStringField("vehicleId", rs.getString(3));
+      gen.writeStringField("projectType", rs.getString(4));
+      gen.writeStringField("description", rs.getString(5));
+      gen.writeStringField("desiredCompletionDate", rs.getString(6));
+      writeDecimal(gen, "budget", rs.getBigDecimal(7));
+      gen.writeStringField("status", rs.getString(8));
+      gen.writeNumberField("progress", rs.getInt(9));
+      writeDateTime(gen, "createdAt", rs.getObject(10, LocalDateTime.class));
+      writeDateTime(gen, "updatedAt", rs.getObject(11, LocalDateTime.class));
+      gen.writeEndObject();
+    });
+    endEnvelope(gen);
+  }
+
+  @Override
+  public void writeServices(String customerId, ServiceStatus status, String message, OutputStream out)
+      throws IOException {
+    MapSqlParameterSource params = new MapSqlParameterSource();
+    StringBuilder sql = new StringBuilder(SERVICE_COLUMNS).append(" WHERE 1 = 1");
+    if (customerId != null) {
+      sql.append(" AND s.customer_id = :customerId");
+      params.addValue("customerId", customerId);
+    }
+    if (status != null) {
+      sql.append(" AND s.status = :status");
+      params.addValue("status", status.name());
+    }
+    sql.append(" ORDER BY s.id");
+
+    JsonGenerator gen = startEnvelope(message, out);
+    ServiceRowWriter rowWriter = new ServiceRowWriter(gen);
+    query(sql.toString(), params, rowWriter::accept);
+    rowWriter.finish();
+    endEnvelope(gen);
+  }
+
+  private void query(String sql, MapSqlParameterSource params, RowWriter rowWriter) throws IOException {
+    try {
+      jdbcTemplate.query(sql, params, (RowCallbackHandler) rs -> {
+        try {
+          rowWriter.write(rs);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      // Client went away mid-stream; nothing left to answer
+      throw e.getCause();
+    }
+  }
+
+  private JsonGenerator startEnvelope(String message, OutputStream out) throws IOException {
+    JsonGenerator gen = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+    gen.writeStartObject();
+    gen.writeBooleanField("success", true);
+    gen.writeStringField("message", message);
+    gen.writeArrayFieldStart("data");
+    return gen;
+  }
+
+  private void endEnvelope(JsonGenerator gen) throws IOException {
+    gen.writeEndArray();
+    gen.writeEndObject();
+    gen.close();
+  }
+
+  private static void writeDecimal(JsonGenerator gen, String field, BigDecimal value) throws IOException {
+    if (value == null) {
+      gen.writeNullField(field);
+    } else {
+      gen.writeNumberField(field, value);
+    }
+  }
+
+  // Delegates to the configured JavaTimeModule so the format matches the DTO based responses
+  private static void writeDateTime(JsonGenerator gen, String field, LocalDateTime value) throws IOException {
+    gen.writeFieldName(field);
+    gen.writeObject(value);
+  }
+
+  @FunctionalInterface
+  private interface RowWriter {
+    void write(ResultSet rs) throws SQLException, IOException;
+  }
+
+  /**
+   * Folds the joined employee rows back into one JSON object per service. The remaining columns
+   * of the current service are held until its last employee row has been written.
+   */
+  private static final class ServiceRowWriter {
+
+    private final JsonGenerator gen;
+    private String currentId;
+    private String status;
+    private int progress;
+    private double hoursLogged;
+    private LocalDateTime estimatedCompletion;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    private ServiceRowWriter(JsonGenerator gen) {
+      this.gen = gen;
+    }
+
+    void accept(ResultSet rs) throws SQLException, IOException {
+      String id = rs.getString(1);
+      if (!id.equals(currentId)) {
+        finish();
+        currentId = id;
+        gen.writeStartObject();
+        gen.writeStringField("id", id);
+        gen.writeStringField("appointmentId", rs.getString(2));
+        gen.writeStringField("customerId", rs.getString(3));
+        gen.writeArrayFieldStart("assignedEmployeeIds");
+        status = rs.getString(5);
+        progress = rs.getInt(6);
+        hoursLogged = rs.getDouble(7);
+        estimatedCompletion = rs.getObject(8, LocalDateTime.class);
+        createdAt = rs.getObject(9, LocalDateTime.class);
+        updatedAt = rs.getObject(10, LocalDateTime.class);
+      }
+      String employeeId = rs.getString(4);
+      if (employeeId != null) {
+        gen.writeString(employeeId);
+      }
+    }
+
+    void finish() throws IOException {
+      if (currentId == null) {
+        return;
+      }
+      gen.writeEndArray();
+      gen.writeStringField("status", status);
+      gen.writeNumberField("progress", progress);
+      gen.writeNumberField("hoursLogged", hoursLogged);
+      writeDateTime(gen, "estimatedCompletion", estimatedCompletion);
+      writeDateTime(gen, "createdAt", createdAt);
+      writeDateTime(gen, "updatedAt", updatedAt);
+      gen.writeEndObject();
+      currentId = null;
+    }
+  }
+}
@@ -0,0 +1,188 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.client.NotificationClient;
+import com.techtorque.project_service.dto.response.ServicePageDto;
+import com.techtorque.project_service.dto.response.ServiceResponseDto;
+import com.techtorque.project_service.entity.ServiceStatus;
+import com.techtorque.project_service.entity.StandardService;
+import com.techtorque.project_service.exception.InvalidCursorException;
+import com.techtorque.project_service.repository.ServiceRepository;
+import com.techtorque.project_service.service.OverdueDetectionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Overdue services: still open after their estimated completion.
+ *
+ * Each open status is a range of the (status, estimatedCompletion) index ending at the current time,
+ * so both the detector and the listing read overdue services only, however many completed ones the
+ * table holds. The detector walks those ranges in keyset batches; each batch is locked, marked as
+ * notified and committed on its own, and then the assigned employees get one notification each for
+ * the batch. Moving the estimate clears the mark (StandardServiceServiceImpl), so a service that
+ * slips again is reported again.
+ */
+@Service
+@Slf4j
+public class OverdueDetectionServiceImpl implements OverdueDetectionService {
+
+  private static final Set<ServiceStatus> OPEN_STATUSES =
+      EnumSet.complementOf(EnumSet.of(ServiceStatus.COMPLETED, ServiceStatus.CANCELLED));
+
+  private final ServiceRepository serviceRepository;
+  private final NotificationClient notificationClient;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+
+  public OverdueDetectionServiceImpl(
+      ServiceRepository serviceRepository,
+      NotificationClient notificationClient,
+      PlatformTransactionManager transactionManager,
+      @Value("${overdue.batch-size:500}") int batchSize) {
+    this.serviceRepository = serviceRepository;
+    this.notificationClient = notificationClient;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+  }
+
+  @Override
+  @Scheduled(fixedDelayString = "${overdue.check-interval:5m}", initialDelayString = "${overdue.initial-delay:1m}")
+  public int detectOverdueServices() {
+    LocalDateTime now = LocalDateTime.now();
+    int notified = 0;
+    for (ServiceStatus status : OPEN_STATUSES) {
+      Cursor after = Cursor.START;
+      List<StandardService> batch;
+      do {
+        Cursor from = after;
+        batch = transactionTemplate.execute(tx -> {
+          List<StandardService> services = serviceRepository.findUnnotifiedOverdueAfter(
+              status, now, from.estimate(), from.id(), PageRequest.ofSize(batchSize));
+          if (!services.isEmpty()) {
+            serviceRepository.markOverdueNotified(
+                services.stream().map(StandardService::getId).collect(Collectors.toList()), now);
+          }
+          return services;
+        });
+        if (!batch.isEmpty()) {
+          notifyAssignedEmployees(batch);
+          notified += batch.size();
+          after = Cursor.of(batch.get(batch.size() - 1));
+        }
+      } while (batch.size() == batchSize);
+    }
+    if (notified > 0) {
+      log.info("Notified employees about {} overdue services", notified);
+    }
+    return notified;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public ServicePageDto getOverdueServices(String afterToken, int limit) {
+    Cursor after = Cursor.parse(afterToken);
+    // Fetch one extra row to know whether another page follows
+    List<StandardService> services = serviceRepository.findOverdueAfter(OPEN_STATUSES, LocalDateTime.now(),
+        after.estimate(), after.id(), PageRequest.ofSize(limit + 1));
+
+    boolean hasMore = services.size() > limit;
+    if (hasMore) {
+      services = services.subList(0, limit);
+    }
+    String nextToken = services.isEmpty() ? afterToken : Cursor.of(services.get(services.size() - 1)).format();
+    return ServicePageDto.builder()
+        .services(services.stream()
+            .map(ServiceResponseDto::from)
+            .collect(Collectors.toList()))
+        .nextToken(nextToken)
+        .hasMore(hasMore)
+        .build();
+  }
+
+  // One notification per employee for the whole batch, oldest estimate first
+  private void notifyAssignedEmployees(List<StandardService> services) {
+    Map<String, List<StandardService>> byEmployee = new TreeMap<>();
+    int unassigned = 0;
+    for (StandardService service : services) {
+      Set<String> employeeIds = service.getAssignedEmployeeIds();
+      if (employeeIds == null || employeeIds.isEmpty()) {
+        unassigned++;
+        continue;
+      }
+      employeeIds.forEach(employeeId ->
+          byEmployee.computeIfAbsent(employeeId, id -> new ArrayList<>()).add(service));
+    }
+    if (unassigned > 0) {
+      log.warn("{} overdue services have no assigned employee to notify", unassigned);
+    }
+
+    byEmployee.forEach((employeeId, overdue) -> {
+      StandardService oldest = overdue.get(0);
+      String message = overdue.size() == 1
+          ? String.format("The service for appointment %s was due at %s and is still %s.",
+              oldest.getAppointmentId(), oldest.getEstimatedCompletion().truncatedTo(ChronoUnit.MINUTES),
+              oldest.getStatus())
+          : String.format("%d of your services are past their estimated completion, the oldest since %s.",
+              overdue.size(), oldest.getEstimatedCompletion().truncatedTo(ChronoUnit.MINUTES));
+      notificationClient.sendServiceNotification(
+          employeeId,
+          "WARNING",
+          overdue.size() == 1 ? "Service Overdue" : "Services Overdue",
+          message,
+          oldest.getId()
+      );
+    });
+  }
+
+  /**
+   * Position of a service in estimate order, exchanged with clients as an opaque token. The ID
+   * breaks ties between services due at the same instant.
+   */
+  private record Cursor(LocalDateTime estimate, String id) {
+
+    private static final Cursor START =
+        new Cursor(LocalDateTime.of(1970, 1, 1, 0, 0), "00000000-0000-0000-0000-000000000000");
+
+    static Cursor of(StandardService service) {
+      return new Cursor(service.getEstimatedCompletion(), service.getId());
+    }
+
+    static Cursor parse(String token) {
+      if (token == null || token.isBlank()) {
+        return START;
+      }
+      try {
+        String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separator = decoded.indexOf('|');
+        return new Cursor(LocalDateTime.parse(decoded.substring(0, separator)),
+            UUID.fromString(decoded.substring(separator + 1)).toString());
+      } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+        throw new InvalidCursorException("Invalid overdue services token: " + token);
+      }
+    }
+
+    String format() {
+      return Base64.getUrlEncoder().withoutPadding()
+          .encodeToString((estimate + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+  }
+}
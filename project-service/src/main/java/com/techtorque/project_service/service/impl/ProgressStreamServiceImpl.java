@@ -0,0 +1,349 @@
+package com.techtorque.project_service.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techtorque.project_service.config.AsyncConfig;
+import com.techtorque.project_service.dto.response.ProgressEventDto;
+import com.techtorque.project_service.exception.InvalidIdentifierException;
+import com.techtorque.project_service.service.ProgressStreamService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-Sent Events fan-out for live service and project progress.
+ *
+ * Emitters are servlet async requests, so an idle subscriber holds no thread. Events are serialised
+ * once and queued per subscriber in a bounded buffer (oldest dropped on overflow); a shared executor
+ * drains each buffer, so a slow client never blocks the publisher.
+ *
+ * A send to a client that stopped reading blocks its dispatch thread until the container's write
+ * timeout ({@code server.tomcat.connection-timeout}) fails it, and the emitter cannot be completed
+ * meanwhile because completing takes the same lock as the stuck send. So a subscriber whose send has
+ * been running for longer than {@code events.sse.send-timeout} is evicted instead: it stops receiving
+ * events, the dispatch pool gets a thread in place of the stuck one (up to
+ * {@code events.sse.max-stalled-sends}), and the emitter is completed once the send gives up.
+ */
+@Service
+@Slf4j
+public class ProgressStreamServiceImpl implements ProgressStreamService {
+
+  private static final String SERVICE_TOPIC = "service:";
+  private static final String PROJECT_TOPIC = "project:";
+  private static final String CUSTOMER_TOPIC = "customer:";
+
+  private final ConcurrentHashMap<String, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+  private final ObjectMapper objectMapper;
+  private final ThreadPoolTaskExecutor dispatchExecutor;
+  private final long timeoutMillis;
+  private final int bufferSize;
+  private final long sendTimeoutNanos;
+  private final int maxStalledSends;
+  private final int dispatchThreads;
+  private final AtomicLong eventIds = new AtomicLong();
+
+  // Dispatch threads blocked in a send to an evicted subscriber, each replaced by an extra pool thread
+  private int stalledSends;
+
+  public ProgressStreamServiceImpl(
+      ObjectMapper objectMapper,
+      @Qualifier("progressEventExecutor") ThreadPoolTaskExecutor dispatchExecutor,
+      @Value("${events.sse.timeout:30m}") Duration timeout,
+      @Value("${events.sse.buffer-size:32}") int bufferSize,
+      @Value("${events.sse.send-timeout:5s}") Duration sendTimeout,
+      @Value("${events.sse.max-stalled-sends:16}") int maxStalledSends) {
+    this.objectMapper = objectMapper;
+    this.dispatchExecutor = dispatchExecutor;
+    this.timeoutMillis = timeout.toMillis();
+    this.bufferSize = bufferSize;
+    this.sendTimeoutNanos = sendTimeout.toNanos();
+    this.maxStalledSends = maxStalledSends;
+    this.dispatchThreads = dispatchExecutor.getCorePoolSize();
+  }
+
+  @Override
+  public SseEmitter subscribeToService(String serviceId, boolean customerView) {
+    return subscribe(SERVICE_TOPIC + canonicalId(serviceId), customerView);
+  }
+
+  @Override
+  public SseEmitter subscribeToProject(String projectId, boolean customerView) {
+    return subscribe(PROJECT_TOPIC + canonicalId(projectId), customerView);
+  }
+
+  @Override
+  public SseEmitter subscribeToCustomer(String customerId) {
+    return subscribe(CUSTOMER_TOPIC + customerId, true);
+  }
+
+  /**
+   * Receives events published by the service layer, only after their transaction has committed.
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onProgressEvent(ProgressEventDto event) {
+    publish(event);
+  }
+
+  @Override
+  public void publish(ProgressEventDto event) {
+    String payload;
+    try {
+      payload = objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      log.error("Could not serialise progress event {}: {}", event.getType(), e.getMessage());
+      return;
+    }
+
+    OutboundEvent outbound = new OutboundEvent(String.valueOf(eventIds.incrementAndGet()),
+        event.getType().name(), payload);
+
+    if (event.getServiceId() != null) {
+      deliver(SERVICE_TOPIC + event.getServiceId(), outbound, event.isCustomerVisible());
+    }
+    if (event.getProjectId() != null) {
+      deliver(PROJECT_TOPIC + event.getProjectId(), outbound, event.isCustomerVisible());
+    }
+    if (event.getCustomerId() != null && event.isCustomerVisible()) {
+      deliver(CUSTOMER_TOPIC + event.getCustomerId(), outbound, true);
+    }
+  }
+
+  @Override
+  public int getSubscriberCount() {
+    return topics.values().stream().mapToInt(Set::size).sum();
+  }
+
+  @Scheduled(fixedDelayString = "${events.sse.heartbeat-interval:15s}")
+  public void sendHeartbeats() {
+    topics.values().forEach(subscribers -> subscribers.forEach(Subscriber::heartbeat));
+  }
+
+  /**
+   * Evicts subscribers whose current send has been blocked for longer than the send timeout.
+   */
+  @Scheduled(fixedDelayString = "${events.sse.stall-check-interval:1s}",
+      scheduler = AsyncConfig.CHECK_SCHEDULER)
+  public void evictStalledSubscribers() {
+    long now = System.nanoTime();
+    topics.values().forEach(subscribers -> subscribers.forEach(subscriber -> {
+      if (subscriber.evictIfStalled(now)) {
+        unsubscribe(subscriber);
+        log.warn("Evicted progress stream subscriber on {}: send blocked for over {} ms",
+            subscriber.topic, Duration.ofNanos(sendTimeoutNanos).toMillis());
+      }
+    }));
+  }
+
+  // Events carry IDs as read from the database, so a subscription spelled differently (upper case, say)
+  // must be put on the same topic or it would never receive anything
+  private static String canonicalId(String id) {
+    try {
+      return UUID.fromString(id).toString();
+    } catch (IllegalArgumentException e) {
+      throw new InvalidIdentifierException("Invalid ID: " + id);
+    }
+  }
+
+  SseEmitter createEmitter() {
+    return new SseEmitter(timeoutMillis);
+  }
+
+  private SseEmitter subscribe(String topic, boolean customerView) {
+    SseEmitter emitter = createEmitter();
+    Subscriber subscriber = new Subscriber(topic, emitter, customerView);
+
+    topics.computeIfAbsent(topic, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+    emitter.onCompletion(() -> unsubscribe(subscriber));
+    emitter.onTimeout(() -> unsubscribe(subscriber));
+    emitter.onError(error -> unsubscribe(subscriber));
+
+    log.debug("New progress stream subscriber on {}", topic);
+    return emitter;
+  }
+
+  private void unsubscribe(Subscriber subscriber) {
+    topics.computeIfPresent(subscriber.topic, (key, subscribers) -> {
+      subscribers.remove(subscriber);
+      return subscribers.isEmpty() ? null : subscribers;
+    });
+  }
+
+  // Lets the pool run a thread in place of each one stuck in a send, so stalled clients cannot take
+  // every dispatch thread; the thread count returns to normal as the stuck sends give up.
+  private synchronized boolean addStalledSend() {
+    if (stalledSends >= maxStalledSends) {
+      return false;
+    }
+    stalledSends++;
+    dispatchExecutor.setMaxPoolSize(dispatchThreads + stalledSends);
+    dispatchExecutor.setCorePoolSize(dispatchThreads + stalledSends);
+    return true;
+  }
+
+  private synchronized void removeStalledSend() {
+    stalledSends--;
+    dispatchExecutor.setCorePoolSize(dispatchThreads + stalledSends);
+    dispatchExecutor.setMaxPoolSize(dispatchThreads + stalledSends);
+  }
+
+  private void deliver(String topic, OutboundEvent event, boolean customerVisible) {
+    Set<Subscriber> subscribers = topics.get(topic);
+    if (subscribers == null) {
+      return;
+    }
+    for (Subscriber subscriber : subscribers) {
+      if (customerVisible || !subscriber.customerView) {
+        subscriber.offer(event);
+      }
+    }
+  }
+
+  private record OutboundEvent(String id, String name, String payload) {
+
+    static final OutboundEvent HEARTBEAT = new OutboundEvent(null, null, null);
+
+    SseEmitter.SseEventBuilder toSse() {
+      if (this == HEARTBEAT) {
+        return SseEmitter.event().comment("heartbeat");
+      }
+      return SseEmitter.event().id(id).name(name).data(payload, MediaType.APPLICATION_JSON);
+    }
+  }
+
+  private final class Subscriber {
+
+    private final String topic;
+    private final SseEmitter emitter;
+    private final boolean customerView;
+    private final ArrayDeque<OutboundEvent> buffer = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private long dropped;
+
+    // Guarded by this: when the current send started, and whether it was evicted while blocked
+    private boolean sending;
+    private long sendStartedAt;
+    private boolean evicted;
+    private boolean replaced;
+
+    private Subscriber(String topic, SseEmitter emitter, boolean customerView) {
+      this.topic = topic;
+      this.emitter = emitter;
+      this.customerView = customerView;
+    }
+
+    void offer(OutboundEvent event) {
+      synchronized (buffer) {
+        if (buffer.size() >= bufferSize) {
+          // Progress events supersede each other, so losing the oldest is the cheapest recovery
+          buffer.pollFirst();
+          dropped++;
+        }
+        buffer.addLast(event);
+      }
+      scheduleDrain();
+    }
+
+    void heartbeat() {
+      synchronized (buffer) {
+        if (!buffer.isEmpty()) {
+          return;
+        }
+        buffer.addLast(OutboundEvent.HEARTBEAT);
+      }
+      scheduleDrain();
+    }
+
+    synchronized boolean evictIfStalled(long now) {
+      if (evicted || !sending || now - sendStartedAt < sendTimeoutNanos) {
+        return false;
+      }
+      evicted = true;
+      replaced = addStalledSend();
+      return true;
+    }
+
+    private synchronized boolean isEvicted() {
+      return evicted;
+    }
+
+    private void send(OutboundEvent event) throws IOException {
+      synchronized (this) {
+        if (evicted) {
+          throw new IOException("Evicted after a stalled send");
+        }
+        sending = true;
+        sendStartedAt = System.nanoTime();
+      }
+      boolean release;
+      try {
+        emitter.send(event.toSse());
+      } finally {
+        synchronized (this) {
+          sending = false;
+          release = replaced;
+          replaced = false;
+        }
+        if (release) {
+          removeStalledSend();
+        }
+      }
+      if (isEvicted()) {
+        throw new IOException("Evicted after a stalled send");
+      }
+    }
+
+    private void scheduleDrain() {
+      if (!isEvicted() && draining.compareAndSet(false, true)) {
+        dispatchExecutor.execute(this::drain);
+      }
+    }
+
+    private void drain() {
+      try {
+        while (true) {
+          OutboundEvent next;
+          synchronized (buffer) {
+            next = buffer.pollFirst();
+          }
+          if (next == null) {
+            break;
+          }
+          send(next);
+        }
+      } catch (Exception e) {
+        log.debug("Dropping progress stream subscriber on {} ({} events dropped earlier): {}",
+            topic, dropped, e.getMessage());
+        unsubscribe(this);
+        emitter.completeWithError(e);
+        return;
+      } finally {
+        draining.set(false);
+      }
+
+      // An event may have arrived between the last poll and releasing the drain flag
+      boolean pending;
+      synchronized (buffer) {
+        pending = !buffer.isEmpty();
+      }
+      if (pending) {
+        scheduleDrain();
+      }
+    }
+  }
+}
@@ -2,22 +2,51 @@ package com.techtorque.project_service.service.impl;
 
 import com.techtorque.project_service.client.AppointmentClient;
 import com.techtorque.project_service.client.NotificationClient;
+import com.techtorque.project_service.dto.request.BulkQuoteItemDto;
 import com.techtorque.project_service.dto.request.ProgressUpdateDto;
 import com.techtorque.project_service.dto.request.ProjectRequestDto;
+import com.techtorque.project_service.dto.response.BulkProjectResultDto;
+import com.techtorque.project_service.dto.response.ProgressEventDto;
+import com.techtorque.project_service.dto.response.ProjectResponseDto;
 import com.techtorque.project_service.dto.response.QuoteDto;
 import com.techtorque.project_service.dto.request.RejectionDto;
+import com.techtorque.project_service.entity.ChangeOperation;
 import com.techtorque.project_service.entity.Project;
 import com.techtorque.project_service.entity.ProjectStatus;
+import com.techtorque.project_service.entity.ProjectTransition;
 import com.techtorque.project_service.exception.InvalidProjectOperationException;
 import com.techtorque.project_service.exception.ProjectNotFoundException;
+import com.techtorque.project_service.exception.ProjectStatusConflictException;
 import com.techtorque.project_service.repository.ProjectRepository;
+import com.techtorque.project_service.service.ChangeFeedService;
+import com.techtorque.project_service.service.DashboardService;
 import com.techtorque.project_service.service.ProjectService;
+import com.techtorque.project_service.service.ReadCoalescingService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -27,14 +56,35 @@ public class ProjectServiceImpl implements ProjectService {
   private final ProjectRepository projectRepository;
   private final AppointmentClient appointmentClient;
   private final NotificationClient notificationClient;
+  private final TransactionTemplate transactionTemplate;
+  private final Executor sideEffectExecutor;
+  private final int bulkChunkSize;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ChangeFeedService changeFeedService;
+  private final DashboardService dashboardService;
+  private final ReadCoalescingService readCoalescingService;
 
   public ProjectServiceImpl(
       ProjectRepository projectRepository,
       AppointmentClient appointmentClient,
-      NotificationClient notificationClient) {
+      NotificationClient notificationClient,
+      PlatformTransactionManager transactionManager,
+      @Qualifier("projectSideEffectExecutor") Executor sideEffectExecutor,
+      @Value("${projects.bulk.chunk-size:50}") int bulkChunkSize,
+      ApplicationEventPublisher eventPublisher,
+      ChangeFeedService changeFeedService,
+      DashboardService dashboardService,
+      ReadCoalescingService readCoalescingService) {
     this.projectRepository = projectRepository;
     this.appointmentClient = appointmentClient;
     this.notificationClient = notificationClient;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.sideEffectExecutor = sideEffectExecutor;
+    this.bulkChunkSize = bulkChunkSize;
+    this.eventPublisher = eventPublisher;
+    this.changeFeedService = changeFeedService;
+    this.dashboardService = dashboardService;
+    this.readCoalescingService = readCoalescingService;
   }
 
   @Override
@@ -54,6 +104,8 @@ public class ProjectServiceImpl implements ProjectService {
             .build();
 
     Project savedProject = projectRepository.save(newProject);
+    changeFeedService.recordProject(savedProject, ChangeOperation.CREATED);
+    dashboardService.recordProjectCreated(savedProject);
     log.info("Successfully created project with ID: {} for customer: {}",
              savedProject.getId(), customerId);
 
@@ -61,22 +113,27 @@ public class ProjectServiceImpl implements ProjectService {
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<Project> getProjectsForCustomer(String customerId) {
-    log.info("Fetching all projects for customer: {}", customerId);
+    log.debug("Fetching all projects for customer: {}", customerId);
     return projectRepository.findByCustomerId(customerId);
   }
 
   @Override
-  public Optional<Project> getProjectDetails(String projectId, String userId, String userRole) {
-    log.info("Fetching project {} for user: {} with role: {}", projectId, userId, userRole);
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public Optional<ProjectResponseDto> getProjectDetails(String projectId, String userId, String userRole) {
+    log.debug("Fetching project {} for user: {} with role: {}", projectId, userId, userRole);
 
-    Optional<Project> projectOpt = projectRepository.findById(projectId);
+    // Everyone refreshing the same project at once shares one lookup, mapped before its transaction
+    // ends; access is checked per caller
+    Optional<ProjectResponseDto> projectOpt = readCoalescingService.read("project", projectId,
+            () -> projectRepository.findById(projectId).map(ProjectResponseDto::from));
 
     if (projectOpt.isEmpty()) {
       return Optional.empty();
     }
 
-    Project project = projectOpt.get();
+    ProjectResponseDto project = projectOpt.get();
 
     // Role-based access control
     if (userRole.contains("ADMIN") || userRole.contains("EMPLOYEE")) {
@@ -94,29 +151,30 @@ public class ProjectServiceImpl implements ProjectService {
     return Optional.empty();
   }
 
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public Optional<String> getProjectVersionTag(String projectId, String userId, String userRole) {
+    // Same visibility rules as getProjectDetails; callers fall back to it for the error response
+    return readCoalescingService.read("project-version", projectId,
+                    () -> projectRepository.findVersionById(projectId))
+            .filter(version -> userRole.contains("ADMIN") || userRole.contains("EMPLOYEE")
+                    || (userRole.contains("CUSTOMER") && userId.equals(version.getCustomerId())))
+            .map(version -> "v" + version.getVersion());
+  }
+
   @Override
   public Project submitQuoteForProject(String projectId, QuoteDto dto) {
     log.info("Submitting quote for project: {}", projectId);
 
-    Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> {
-              log.warn("Project {} not found", projectId);
-              return new ProjectNotFoundException("Project not found");
-            });
-
     // Can only quote projects in REQUESTED status
-    if (project.getStatus() != ProjectStatus.REQUESTED) {
-      throw new InvalidProjectOperationException(
-              "Can only quote projects in REQUESTED status. Current status: " + project.getStatus());
-    }
-
-    // Update with quote
-    project.setBudget(dto.getQuoteAmount());
-    project.setStatus(ProjectStatus.QUOTED);
+    Project updatedProject = projectRepository
+            .transitionWithBudget(projectId, ProjectTransition.SUBMIT_QUOTE, dto.getQuoteAmount())
+            .orElseThrow(() -> transitionRejected(projectId, ProjectTransition.SUBMIT_QUOTE,
+                    null, null, "Project not found"));
+    changeFeedService.recordProject(updatedProject, ChangeOperation.UPDATED);
+    dashboardService.recordProjectTransitions(List.of(updatedProject));
 
-    Project updatedProject = projectRepository.save(project);
     log.info("Successfully submitted quote for project: {}", projectId);
-
     return updatedProject;
   }
 
@@ -124,27 +182,14 @@ public class ProjectServiceImpl implements ProjectService {
   public Project acceptQuote(String projectId, String customerId) {
     log.info("Customer {} accepting quote for project: {}", customerId, projectId);
 
-    Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> {
-              log.warn("Project {} not found", projectId);
-              return new ProjectNotFoundException("Project not found");
-            });
-
-    // Verify ownership
-    if (!project.getCustomerId().equals(customerId)) {
-      throw new InvalidProjectOperationException("You don't have permission to accept this quote");
-    }
-
-    // Can only accept projects in QUOTED status
-    if (project.getStatus() != ProjectStatus.QUOTED) {
-      throw new InvalidProjectOperationException(
-              "Can only accept projects in QUOTED status. Current status: " + project.getStatus());
-    }
-
-    // Update status to approved
-    project.setStatus(ProjectStatus.APPROVED);
+    // Only the owning customer can accept, and only projects in QUOTED status
+    Project updatedProject = projectRepository
+            .transitionStatus(projectId, ProjectTransition.ACCEPT_QUOTE, customerId)
+            .orElseThrow(() -> transitionRejected(projectId, ProjectTransition.ACCEPT_QUOTE,
+                    customerId, "You don't have permission to accept this quote", "Project not found"));
+    changeFeedService.recordProject(updatedProject, ChangeOperation.UPDATED);
+    dashboardService.recordProjectTransitions(List.of(updatedProject));
 
-    Project updatedProject = projectRepository.save(project);
     log.info("Successfully accepted quote for project: {}", projectId);
 
     // TODO: Inter-service call to Payment Service to generate deposit invoice
@@ -156,29 +201,15 @@ public class ProjectServiceImpl implements ProjectService {
   public Project rejectQuote(String projectId, RejectionDto dto, String customerId) {
     log.info("Customer {} rejecting quote for project: {}", customerId, projectId);
 
-    Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> {
-              log.warn("Project {} not found", projectId);
-              return new ProjectNotFoundException("Project not found");
-            });
-
-    // Verify ownership
-    if (!project.getCustomerId().equals(customerId)) {
-      throw new InvalidProjectOperationException("You don't have permission to reject this quote");
-    }
-
-    // Can only reject projects in QUOTED status
-    if (project.getStatus() != ProjectStatus.QUOTED) {
-      throw new InvalidProjectOperationException(
-              "Can only reject projects in QUOTED status. Current status: " + project.getStatus());
-    }
-
-    // Update status to rejected
-    project.setStatus(ProjectStatus.REJECTED);
+    // Only the owning customer can reject, and only projects in QUOTED status
+    Project updatedProject = projectRepository
+            .transitionStatus(projectId, ProjectTransition.REJECT_QUOTE, customerId)
+            .orElseThrow(() -> transitionRejected(projectId, ProjectTransition.REJECT_QUOTE,
+                    customerId, "You don't have permission to reject this quote", "Project not found"));
+    changeFeedService.recordProject(updatedProject, ChangeOperation.UPDATED);
+    dashboardService.recordProjectTransitions(List.of(updatedProject));
 
-    Project updatedProject = projectRepository.save(project);
     log.info("Successfully rejected quote for project: {}", projectId);
-
     return updatedProject;
   }
 
@@ -186,38 +217,33 @@ public class ProjectServiceImpl implements ProjectService {
   public Project updateProgress(String projectId, ProgressUpdateDto dto) {
     log.info("Updating progress for project: {} to {}%", projectId, dto.getProgress());
 
-    Project project = projectRepository.findById(projectId)
-            .orElseThrow(() -> {
-              log.warn("Project {} not found", projectId);
-              return new ProjectNotFoundException("Project not found");
-            });
-
-    // Can only update progress for approved or in-progress projects
-    if (project.getStatus() != ProjectStatus.APPROVED &&
-        project.getStatus() != ProjectStatus.IN_PROGRESS) {
-      throw new InvalidProjectOperationException(
-              "Can only update progress for APPROVED or IN_PROGRESS projects");
-    }
-
-    // Update progress
-    project.setProgress(dto.getProgress());
-
-    // Auto-update status based on progress
-    if (dto.getProgress() > 0 && project.getStatus() == ProjectStatus.APPROVED) {
-      project.setStatus(ProjectStatus.IN_PROGRESS);
-    } else if (dto.getProgress() == 100) {
-      project.setStatus(ProjectStatus.COMPLETED);
-    }
+    // Can only update progress for approved or in-progress projects; status is auto-updated from progress
+    Project updatedProject = projectRepository
+            .transitionProgress(projectId, dto.getProgress())
+            .orElseThrow(() -> transitionRejected(projectId, ProjectTransition.UPDATE_PROGRESS,
+                    null, null, "Project not found"));
+    changeFeedService.recordProject(updatedProject, ChangeOperation.UPDATED);
+    dashboardService.recordProjectTransitions(List.of(updatedProject));
 
-    Project updatedProject = projectRepository.save(project);
     log.info("Successfully updated progress for project: {}", projectId);
 
+    // Delivered to progress stream subscribers once the transaction commits
+    eventPublisher.publishEvent(ProgressEventDto.builder()
+            .type(ProgressEventDto.Type.PROJECT_PROGRESS_UPDATED)
+            .projectId(updatedProject.getId())
+            .customerId(updatedProject.getCustomerId())
+            .status(updatedProject.getStatus().name())
+            .progress(updatedProject.getProgress())
+            .occurredAt(LocalDateTime.now())
+            .build());
+
     return updatedProject;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<Project> getAllProjects() {
-    log.info("Fetching all projects");
+    log.debug("Fetching all projects");
     return projectRepository.findAll();
   }
 
@@ -225,22 +251,198 @@ public class ProjectServiceImpl implements ProjectService {
   public Project approveProject(String projectId, String adminId) {
     log.info("Admin {} approving project {}", adminId, projectId);
 
-    Project project = projectRepository.findById(projectId)
-        .orElseThrow(() -> new ProjectNotFoundException("Project not found: " + projectId));
+    // Approve the project if it is in a state that allows approval
+    Project project = projectRepository
+        .transitionStatus(projectId, ProjectTransition.APPROVE, null)
+        .orElseThrow(() -> transitionRejected(projectId, ProjectTransition.APPROVE,
+            null, null, "Project not found: " + projectId));
+    changeFeedService.recordProject(project, ChangeOperation.UPDATED);
+    dashboardService.recordProjectTransitions(List.of(project));
+
+    log.info("Successfully approved project {}", projectId);
+
+    notifyProjectApproved(project, adminId);
+
+    return project;
+  }
+
+  @Override
+  public Project rejectProject(String projectId, String reason, String adminId) {
+    log.info("Admin {} rejecting project {} with reason: {}", adminId, projectId, reason);
+
+    // Reject the project if it is in a state that allows rejection
+    Project project = projectRepository
+        .transitionStatus(projectId, ProjectTransition.REJECT, null)
+        .orElseThrow(() -> transitionRejected(projectId, ProjectTransition.REJECT,
+            null, null, "Project not found: " + projectId));
+    changeFeedService.recordProject(project, ChangeOperation.UPDATED);
+    dashboardService.recordProjectTransitions(List.of(project));
+
+    log.info("Successfully rejected project {}", projectId);
+
+    notifyProjectRejected(project, reason, adminId);
+
+    return project;
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public List<BulkProjectResultDto> bulkApproveProjects(List<String> projectIds, String adminId) {
+    log.info("Admin {} bulk approving {} projects", adminId, projectIds.size());
+    return applyBulkTransition(projectIds, ProjectTransition.APPROVE,
+        project -> notifyProjectApproved(project, adminId));
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public List<BulkProjectResultDto> bulkRejectProjects(List<String> projectIds, String reason, String adminId) {
+    log.info("Admin {} bulk rejecting {} projects with reason: {}", adminId, projectIds.size(), reason);
+    return applyBulkTransition(projectIds, ProjectTransition.REJECT,
+        project -> notifyProjectRejected(project, reason, adminId));
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public List<BulkProjectResultDto> bulkSubmitQuotes(List<BulkQuoteItemDto> quotes) {
+    log.info("Bulk submitting {} quotes", quotes.size());
+
+    List<BulkProjectResultDto> results = new ArrayList<>(quotes.size());
+    // Later entries for the same project win, matching what sequential single calls would do
+    Map<String, BigDecimal> amounts = new LinkedHashMap<>();
+    for (BulkQuoteItemDto quote : quotes) {
+      String projectId = canonicalId(quote.getProjectId());
+      if (projectId == null) {
+        results.add(invalidIdResult(quote.getProjectId()));
+      } else {
+        amounts.put(projectId, quote.getQuoteAmount());
+      }
+    }
+    List<String> projectIds = new ArrayList<>(amounts.keySet());
+
+    for (List<String> chunk : chunks(projectIds)) {
+      Map<String, BigDecimal> chunkAmounts = new LinkedHashMap<>();
+      chunk.forEach(projectId -> chunkAmounts.put(projectId, amounts.get(projectId)));
+      results.addAll(transactionTemplate.execute(status -> {
+        List<Project> updated = projectRepository.transitionWithBudgetBulk(chunkAmounts, ProjectTransition.SUBMIT_QUOTE);
+        changeFeedService.recordProjects(updated, ChangeOperation.UPDATED);
+        dashboardService.recordProjectTransitions(updated);
+        return collectResults(chunk, updated, ProjectTransition.SUBMIT_QUOTE);
+      }));
+    }
 
-    // Validate project is in correct state for approval
-    if (project.getStatus() != ProjectStatus.REQUESTED &&
-        project.getStatus() != ProjectStatus.PENDING_ADMIN_REVIEW) {
-      throw new InvalidProjectOperationException(
-          "Project must be in REQUESTED or PENDING_ADMIN_REVIEW status to be approved. Current status: " + project.getStatus());
+    log.info("Bulk quote finished: {} of {} projects quoted",
+        results.stream().filter(BulkProjectResultDto::isSuccess).count(), results.size());
+    return results;
+  }
+
+  /**
+   * Applies a transition to many projects, one set-based UPDATE and one transaction per chunk.
+   * Side effects for each committed chunk are fanned out to the side-effect executor while the
+   * next chunk is processed, and all of them are awaited before returning. IDs are matched in
+   * canonical form, so case and duplicates do not matter; IDs that are not UUIDs are reported as
+   * failed first.
+   */
+  private List<BulkProjectResultDto> applyBulkTransition(List<String> projectIds, ProjectTransition transition,
+                                                         Consumer<Project> sideEffect) {
+    List<BulkProjectResultDto> results = new ArrayList<>(projectIds.size());
+    Set<String> canonicalIds = new LinkedHashSet<>();
+    for (String projectId : projectIds) {
+      String canonical = canonicalId(projectId);
+      if (canonical == null) {
+        results.add(invalidIdResult(projectId));
+      } else {
+        canonicalIds.add(canonical);
+      }
+    }
+    List<String> distinctIds = new ArrayList<>(canonicalIds);
+    List<CompletableFuture<Void>> sideEffects = new ArrayList<>();
+
+    for (List<String> chunk : chunks(distinctIds)) {
+      List<Project> updated = new ArrayList<>();
+      results.addAll(transactionTemplate.execute(status -> {
+        updated.addAll(projectRepository.transitionStatusBulk(chunk, transition));
+        changeFeedService.recordProjects(updated, ChangeOperation.UPDATED);
+        dashboardService.recordProjectTransitions(updated);
+        return collectResults(chunk, updated, transition);
+      }));
+
+      // Only dispatched once the chunk has committed
+      for (Project project : updated) {
+        sideEffects.add(CompletableFuture.runAsync(() -> sideEffect.accept(project), sideEffectExecutor));
+      }
     }
 
-    // Approve the project
-    project.setStatus(ProjectStatus.APPROVED);
+    CompletableFuture.allOf(sideEffects.toArray(new CompletableFuture[0])).join();
+    log.info("Bulk {} finished: {} of {} projects updated", transition,
+        results.stream().filter(BulkProjectResultDto::isSuccess).count(), results.size());
+    return results;
+  }
 
-    Project savedProject = projectRepository.save(project);
-    log.info("Successfully approved project {}", projectId);
+  // Builds per-project results in request order; failures are explained with one lookup for the whole chunk
+  private List<BulkProjectResultDto> collectResults(List<String> chunk, List<Project> updated,
+                                                    ProjectTransition transition) {
+    Map<String, Project> updatedById = updated.stream()
+        .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+    List<String> failedIds = chunk.stream().filter(id -> !updatedById.containsKey(id)).toList();
+    Map<String, Project> failedById = failedIds.isEmpty() ? Map.of() :
+        projectRepository.findAllById(failedIds).stream()
+            .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+    List<BulkProjectResultDto> results = new ArrayList<>(chunk.size());
+    for (String projectId : chunk) {
+      Project project = updatedById.get(projectId);
+      if (project != null) {
+        results.add(BulkProjectResultDto.builder()
+            .projectId(projectId)
+            .success(true)
+            .status(project.getStatus())
+            .build());
+        continue;
+      }
+
+      Project current = failedById.get(projectId);
+      results.add(BulkProjectResultDto.builder()
+          .projectId(projectId)
+          .success(false)
+          .status(current != null ? current.getStatus() : null)
+          .message(current != null
+              ? transition.invalidStatusMessage(current.getStatus())
+              : "Project not found: " + projectId)
+          .build());
+    }
+    return results;
+  }
 
+  // Results are matched on the canonical (lowercase) form that project IDs are returned in
+  private static String canonicalId(String projectId) {
+    if (projectId == null) {
+      return null;
+    }
+    try {
+      return UUID.fromString(projectId.trim()).toString();
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  private static BulkProjectResultDto invalidIdResult(String projectId) {
+    return BulkProjectResultDto.builder()
+        .projectId(projectId)
+        .success(false)
+        .message("Invalid project ID: " + projectId)
+        .build();
+  }
+
+  private List<List<String>> chunks(List<String> ids) {
+    List<List<String>> chunks = new ArrayList<>();
+    for (int start = 0; start < ids.size(); start += bulkChunkSize) {
+      chunks.add(ids.subList(start, Math.min(start + bulkChunkSize, ids.size())));
+    }
+    return chunks;
+  }
+
+  private void notifyProjectApproved(Project project, String adminId) {
     // Send notification to customer that project was approved
     notificationClient.sendProjectNotification(
         project.getCustomerId(),
@@ -248,39 +450,17 @@ public class ProjectServiceImpl implements ProjectService {
         "Project Approved",
         String.format("Your custom project '%s' has been approved! We will proceed with the work as discussed.",
             project.getProjectType()),
-        projectId
+        project.getId()
     );
 
     // If project has linked appointment, confirm it
     if (project.getAppointmentId() != null && !project.getAppointmentId().isEmpty()) {
-      log.info("Project {} has linked appointment {}, confirming it", projectId, project.getAppointmentId());
+      log.info("Project {} has linked appointment {}, confirming it", project.getId(), project.getAppointmentId());
       appointmentClient.confirmAppointment(project.getAppointmentId(), adminId);
     }
-
-    return savedProject;
   }
 
-  @Override
-  public Project rejectProject(String projectId, String reason, String adminId) {
-    log.info("Admin {} rejecting project {} with reason: {}", adminId, projectId, reason);
-
-    Project project = projectRepository.findById(projectId)
-        .orElseThrow(() -> new ProjectNotFoundException("Project not found: " + projectId));
-
-    // Validate project is in correct state for rejection
-    if (project.getStatus() != ProjectStatus.REQUESTED &&
-        project.getStatus() != ProjectStatus.PENDING_ADMIN_REVIEW &&
-        project.getStatus() != ProjectStatus.QUOTED) {
-      throw new InvalidProjectOperationException(
-          "Project must be in REQUESTED, PENDING_ADMIN_REVIEW, or QUOTED status to be rejected. Current status: " + project.getStatus());
-    }
-
-    // Reject the project
-    project.setStatus(ProjectStatus.REJECTED);
-
-    Project savedProject = projectRepository.save(project);
-    log.info("Successfully rejected project {}", projectId);
-
+  private void notifyProjectRejected(Project project, String reason, String adminId) {
     // Send notification to customer about rejection with reason
     String rejectionMessage = String.format(
         "Your custom project '%s' has been reviewed and unfortunately cannot be accepted at this time.%s",
@@ -293,15 +473,33 @@ public class ProjectServiceImpl implements ProjectService {
         "WARNING",
         "Project Rejected",
         rejectionMessage,
-        projectId
+        project.getId()
     );
 
     // If project has linked appointment, cancel it and free the timeslot
     if (project.getAppointmentId() != null && !project.getAppointmentId().isEmpty()) {
-      log.info("Project {} has linked appointment {}, cancelling it", projectId, project.getAppointmentId());
+      log.info("Project {} has linked appointment {}, cancelling it", project.getId(), project.getAppointmentId());
       appointmentClient.cancelAppointment(project.getAppointmentId(), adminId);
     }
+  }
 
-    return savedProject;
+  /**
+   * Called when a conditional transition matched no row. Reloads the project (failure path only)
+   * to tell apart not found (404), not the owner (400) and not in an allowed status (409), which
+   * includes losing a race against a concurrent transition.
+   */
+  private RuntimeException transitionRejected(String projectId, ProjectTransition transition,
+                                              String customerId, String permissionMessage, String notFoundMessage) {
+    Optional<Project> current = projectRepository.findById(projectId);
+    if (current.isEmpty()) {
+      log.warn("Project {} not found", projectId);
+      return new ProjectNotFoundException(notFoundMessage);
+    }
+
+    Project project = current.get();
+    if (customerId != null && !project.getCustomerId().equals(customerId)) {
+      return new InvalidProjectOperationException(permissionMessage);
+    }
+    return new ProjectStatusConflictException(transition.invalidStatusMessage(project.getStatus()));
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.service.ReadCoalescingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * In-flight reads by operation and key. The first caller runs the query and completes a future
+ * that callers arriving while it runs wait on; the entry is removed as soon as the query returns,
+ * so nothing is cached. Waiting callers hold no database connection: the coalesced service methods
+ * run outside a transaction and only the caller running the query opens one.
+ */
+@Service
+public class ReadCoalescingServiceImpl implements ReadCoalescingService {
+
+  private final Map<InFlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+  private final Map<String, Counter> coalescedCounters = new ConcurrentHashMap<>();
+  private final TransactionTemplate readOnlyTransaction;
+  private final MeterRegistry meterRegistry;
+
+  public ReadCoalescingServiceImpl(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T read(String operation, String key, Supplier<T> query) {
+    if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      return query.get();
+    }
+
+    InFlightKey inFlightKey = new InFlightKey(operation, key);
+    CompletableFuture<Object> own = new CompletableFuture<>();
+    CompletableFuture<Object> running = inFlight.putIfAbsent(inFlightKey, own);
+    if (running != null) {
+      coalescedCounter(operation).increment();
+      try {
+        return (T) running.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        if (e.getCause() instanceof Error cause) {
+          throw cause;
+        }
+        throw e;
+      }
+    }
+
+    try {
+      T result = readOnlyTransaction.execute(status -> query.get());
+      own.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      own.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(inFlightKey, own);
+    }
+  }
+
+  private Counter coalescedCounter(String operation) {
+    return coalescedCounters.computeIfAbsent(operation, name -> Counter.builder("reads.coalesced")
+        .description("Reads answered with the result of an identical read already running")
+        .tag("operation", name)
+        .register(meterRegistry));
+  }
+
+  private record InFlightKey(String operation, String key) {
+  }
+}
@@ -0,0 +1,73 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.repository.SchedulerLockRepository;
+import com.techtorque.project_service.service.SchedulerLockService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Leases kept in {@code scheduler_locks}, one row per job. A lease is taken with a conditional
+ * update that only matches an expired row, so it works the same on every database and needs no
+ * connection held for the length of the job. Expiry is judged by the clocks of the instances,
+ * which should differ by much less than a lease.
+ */
+@Service
+@Slf4j
+public class SchedulerLockServiceImpl implements SchedulerLockService {
+
+  private final SchedulerLockRepository lockRepository;
+  private final TransactionTemplate transactionTemplate;
+  // Process name (pid@host) plus a random part, in case two instances share a host and a pid namespace
+  private final String owner = ManagementFactory.getRuntimeMXBean().getName() + "/"
+      + UUID.randomUUID().toString().substring(0, 8);
+
+  public SchedulerLockServiceImpl(
+      SchedulerLockRepository lockRepository,
+      PlatformTransactionManager transactionManager) {
+    this.lockRepository = lockRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  @Override
+  public boolean tryLock(String name, Duration lease) {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime lockedUntil = now.plus(lease);
+    try {
+      return Boolean.TRUE.equals(transactionTemplate.execute(tx -> {
+        if (lockRepository.acquire(name, owner, now, lockedUntil) == 1) {
+          return true;
+        }
+        if (lockRepository.existsById(name)) {
+          return false;
+        }
+        // First run of this job anywhere
+        return lockRepository.create(name, owner, now, lockedUntil) == 1;
+      }));
+    } catch (DataIntegrityViolationException e) {
+      log.debug("Lock {} was created by another instance first", name);
+      return false;
+    }
+  }
+
+  @Override
+  public boolean renew(String name, Duration lease) {
+    LocalDateTime now = LocalDateTime.now();
+    return Boolean.TRUE.equals(transactionTemplate.execute(tx ->
+        lockRepository.renew(name, owner, now, now.plus(lease)) == 1));
+  }
+
+  @Override
+  public void unlock(String name) {
+    transactionTemplate.executeWithoutResult(tx -> lockRepository.release(name, owner, LocalDateTime.now()));
+  }
+}
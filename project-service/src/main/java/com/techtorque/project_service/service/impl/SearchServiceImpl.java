@@ -0,0 +1,188 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.dto.response.SearchHitDto;
+import com.techtorque.project_service.dto.response.SearchResultDto;
+import com.techtorque.project_service.service.SearchService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Ranked search across project descriptions and service notes.
+ *
+ * On PostgreSQL the query runs against GIN indexes on {@code to_tsvector} expressions (see
+ * {@link com.techtorque.project_service.config.DatabaseIndexInitializer}). Queries use
+ * {@code websearch_to_tsquery}, so quoted phrases, {@code or} and {@code -term} work as users
+ * expect; hits are ranked with {@code ts_rank_cd} and snippets are only built for the page that is
+ * returned. Other databases (H2 in tests) fall back to unindexed substring matching, ranked by recency.
+ * Runs in a read-only transaction so it is routed to a read replica when those are enabled.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SearchServiceImpl implements SearchService {
+
+  private static final Pattern CONFIG_NAME = Pattern.compile("[a-z_]+");
+  private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+  private static final int FALLBACK_SNIPPET_LENGTH = 160;
+
+  private static final String PROJECT_DOCUMENT = "p.project_type || ' ' || p.description";
+
+  private static final RowMapper<SearchHitDto> HIT_MAPPER = (rs, rowNum) -> SearchHitDto.builder()
+      .type(rs.getString("type"))
+      .id(rs.getString("id"))
+      .projectId(rs.getString("project_id"))
+      .serviceId(rs.getString("service_id"))
+      .snippet(rs.getString("snippet"))
+      .rank(rs.getDouble("rank"))
+      .createdAt(rs.getObject("created_at", LocalDateTime.class))
+      .build();
+
+  private final DataSource dataSource;
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+  private final String config;
+  private volatile Boolean postgres; // Resolved on first use; the CDS training run has no database
+
+  public SearchServiceImpl(
+      DataSource dataSource,
+      @Value("${search.text-search-config:english}") String config) {
+    if (!CONFIG_NAME.matcher(config).matches()) {
+      throw new IllegalArgumentException("Invalid text search configuration name: " + config);
+    }
+    this.dataSource = dataSource;
+    this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    // Inlined rather than bound so the query expressions match the index expressions
+    this.config = "'" + config + "'";
+  }
+
+  @Override
+  public SearchResultDto search(String query, String customerId, int page, int size) {
+    MapSqlParameterSource params = new MapSqlParameterSource()
+        .addValue("limit", size + 1)
+        .addValue("offset", (long) page * size);
+    if (customerId != null) {
+      params.addValue("customerId", customerId);
+    }
+
+    List<SearchHitDto> hits = isPostgres()
+        ? searchIndexed(query, customerId, params)
+        : searchUnindexed(query, customerId, params);
+
+    boolean hasMore = hits.size() > size;
+    if (hasMore) {
+      hits = hits.subList(0, size);
+    }
+    return SearchResultDto.builder()
+        .query(query)
+        .hits(hits)
+        .page(page)
+        .size(size)
+        .hasMore(hasMore)
+        .build();
+  }
+
+  private List<SearchHitDto> searchIndexed(String query, String customerId, MapSqlParameterSource params) {
+    params.addValue("query", query);
+    String projectVector = "to_tsvector(" + config + ", " + PROJECT_DOCUMENT + ")";
+    String noteVector = "to_tsvector(" + config + ", n.note)";
+
+    StringBuilder sql = new StringBuilder()
+        .append("WITH q AS (SELECT websearch_to_tsquery(").append(config).append(", :query) AS query), ")
+        .append("hits AS (")
+        .append("SELECT 'PROJECT' AS type, p.id, p.id AS project_id, NULL AS service_id, ")
+        .append(PROJECT_DOCUMENT).append(" AS body, ")
+        .append("ts_rank_cd(").append(projectVector).append(", q.query, 33) AS rank, p.created_at ")
+        .append("FROM projects p, q WHERE ").append(projectVector).append(" @@ q.query");
+    if (customerId != null) {
+      sql.append(" AND p.customer_id = :customerId");
+    }
+    sql.append(" UNION ALL ")
+        .append("SELECT 'SERVICE_NOTE', n.id, NULL, n.service_id, n.note, ")
+        .append("ts_rank_cd(").append(noteVector).append(", q.query, 33), n.created_at ")
+        .append("FROM service_notes n JOIN standard_services s ON s.id = n.service_id, q ")
+        .append("WHERE ").append(noteVector).append(" @@ q.query");
+    if (customerId != null) {
+      sql.append(" AND s.customer_id = :customerId AND n.is_customer_visible");
+    }
+    sql.append(" ORDER BY rank DESC, created_at DESC, id LIMIT :limit OFFSET :offset) ")
+        .append("SELECT type, id, project_id, service_id, rank, created_at, ")
+        .append("ts_headline(").append(config).append(", body, q.query, ")
+        .append("'StartSel=**, StopSel=**, MaxWords=30, MinWords=10, MaxFragments=2') AS snippet ")
+        .append("FROM hits, q ORDER BY rank DESC, created_at DESC, id");
+
+    return jdbcTemplate.query(sql.toString(), params, HIT_MAPPER);
+  }
+
+  // Every term must appear somewhere in the text; no stemming, phrases or ranking
+  private List<SearchHitDto> searchUnindexed(String query, String customerId, MapSqlParameterSource params) {
+    List<String> terms = Arrays.stream(TERM_SEPARATOR.split(query.toLowerCase(Locale.ROOT)))
+        .filter(term -> !term.isEmpty())
+        .toList();
+    if (terms.isEmpty()) {
+      return new ArrayList<>();
+    }
+    StringBuilder projectMatch = new StringBuilder();
+    StringBuilder noteMatch = new StringBuilder();
+    for (int i = 0; i < terms.size(); i++) {
+      params.addValue("term" + i, "%" + terms.get(i) + "%");
+      projectMatch.append(" AND LOWER(").append(PROJECT_DOCUMENT).append(") LIKE :term").append(i);
+      noteMatch.append(" AND LOWER(n.note) LIKE :term").append(i);
+    }
+
+    StringBuilder sql = new StringBuilder()
+        .append("SELECT 'PROJECT' AS type, p.id, p.id AS project_id, CAST(NULL AS UUID) AS service_id, ")
+        .append(PROJECT_DOCUMENT).append(" AS snippet, 0.0 AS rank, p.created_at ")
+        .append("FROM projects p WHERE 1 = 1").append(projectMatch);
+    if (customerId != null) {
+      sql.append(" AND p.customer_id = :customerId");
+    }
+    sql.append(" UNION ALL ")
+        .append("SELECT 'SERVICE_NOTE', n.id, CAST(NULL AS UUID), n.service_id, n.note, 0.0, n.created_at ")
+        .append("FROM service_notes n JOIN standard_services s ON s.id = n.service_id WHERE 1 = 1")
+        .append(noteMatch);
+    if (customerId != null) {
+      sql.append(" AND s.customer_id = :customerId AND n.is_customer_visible");
+    }
+    sql.append(" ORDER BY created_at DESC, id LIMIT :limit OFFSET :offset");
+
+    List<SearchHitDto> hits = jdbcTemplate.query(sql.toString(), params, HIT_MAPPER);
+    hits.forEach(hit -> hit.setSnippet(snippet(hit.getSnippet(), terms)));
+    return hits;
+  }
+
+  private static String snippet(String text, List<String> terms) {
+    int start = Math.max(0, text.toLowerCase(Locale.ROOT).indexOf(terms.get(0)) - FALLBACK_SNIPPET_LENGTH / 4);
+    String window = text.substring(start, Math.min(text.length(), start + FALLBACK_SNIPPET_LENGTH));
+    Matcher matcher = Pattern.compile(terms.stream().map(Pattern::quote).reduce((a, b) -> a + "|" + b).orElseThrow(),
+        Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE).matcher(window);
+    return matcher.replaceAll(match -> Matcher.quoteReplacement("**" + match.group() + "**"));
+  }
+
+  private boolean isPostgres() {
+    Boolean result = postgres;
+    if (result == null) {
+      try {
+        String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        result = "PostgreSQL".equalsIgnoreCase(product);
+      } catch (MetaDataAccessException e) {
+        throw new IllegalStateException("Could not determine the database type", e);
+      }
+      postgres = result;
+    }
+    return result;
+  }
+}
@@ -3,24 +3,36 @@ package com.techtorque.project_service.service.impl;
 import com.techtorque.project_service.dto.request.*;
 import com.techtorque.project_service.dto.response.*;
 import com.techtorque.project_service.entity.*;
+import com.techtorque.project_service.exception.InvalidCursorException;
 import com.techtorque.project_service.exception.ServiceNotFoundException;
 import com.techtorque.project_service.exception.UnauthorizedAccessException;
 import com.techtorque.project_service.repository.*;
+import com.techtorque.project_service.service.ChangeFeedService;
+import com.techtorque.project_service.service.DashboardService;
 import com.techtorque.project_service.service.FileStorageService;
+import com.techtorque.project_service.service.ReadCoalescingService;
 import com.techtorque.project_service.service.StandardServiceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,6 +46,10 @@ public class StandardServiceServiceImpl implements StandardServiceService {
   private final ProgressPhotoRepository progressPhotoRepository;
   private final InvoiceRepository invoiceRepository;
   private final FileStorageService fileStorageService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ChangeFeedService changeFeedService;
+  private final DashboardService dashboardService;
+  private final ReadCoalescingService readCoalescingService;
 
   @Override
   public StandardService createServiceFromAppointment(CreateServiceDto dto, String employeeId) {
@@ -52,14 +68,17 @@ public class StandardServiceServiceImpl implements StandardServiceService {
             .build();
 
     StandardService savedService = serviceRepository.save(service);
+    changeFeedService.recordService(savedService, ChangeOperation.CREATED);
+    dashboardService.recordServiceCreated(savedService);
     log.info("Service created successfully with ID: {}", savedService.getId());
 
     return savedService;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<StandardService> getServicesForCustomer(String customerId, String status) {
-    log.info("Fetching services for customer: {} with status filter: {}", customerId, status);
+    log.debug("Fetching services for customer: {} with status filter: {}", customerId, status);
     
     List<StandardService> services = serviceRepository.findByCustomerId(customerId);
     
@@ -80,21 +99,25 @@ public class StandardServiceServiceImpl implements StandardServiceService {
   @Override
   @Transactional(readOnly = true)
   public List<StandardService> getAllServices() {
-    log.info("Fetching all services (admin/employee access)");
+    log.debug("Fetching all services (admin/employee access)");
     return serviceRepository.findAll();
   }
 
   @Override
-  public Optional<StandardService> getServiceDetails(String serviceId, String userId, String userRole) {
-    log.info("Fetching service {} for user: {} with role: {}", serviceId, userId, userRole);
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public Optional<ServiceResponseDto> getServiceDetails(String serviceId, String userId, String userRole) {
+    log.debug("Fetching service {} for user: {} with role: {}", serviceId, userId, userRole);
 
-    Optional<StandardService> serviceOpt = serviceRepository.findById(serviceId);
+    // Everyone refreshing the same service at once shares one lookup, mapped before its transaction
+    // ends; access is checked per caller
+    Optional<ServiceResponseDto> serviceOpt = readCoalescingService.read("service", serviceId,
+            () -> serviceRepository.findById(serviceId).map(ServiceResponseDto::from));
 
     if (serviceOpt.isEmpty()) {
       return Optional.empty();
     }
 
-    StandardService service = serviceOpt.get();
+    ServiceResponseDto service = serviceOpt.get();
 
     // Role-based access control
     if (userRole.contains("ADMIN") || userRole.contains("EMPLOYEE")) {
@@ -110,6 +133,33 @@ public class StandardServiceServiceImpl implements StandardServiceService {
     return Optional.empty();
   }
 
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public Optional<String> getServiceVersionTag(String serviceId, String userId, String userRole) {
+    return readCoalescingService.read("service-version", serviceId,
+                    () -> serviceRepository.findVersionById(serviceId))
+            .filter(version -> canView(version.getCustomerId(), userId, userRole))
+            .map(version -> "v" + version.getVersion());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<String> getNotesVersionTag(String serviceId, String userId, String userRole) {
+    // Customers see a filtered list, so their tag is computed over customer-visible notes only
+    boolean customerView = userRole.contains("CUSTOMER");
+    return serviceRepository.findNotesVersionById(serviceId, !customerView)
+            .filter(version -> canView(version.getCustomerId(), userId, userRole))
+            .map(version -> collectionTag(version) + (customerView ? "-c" : "-a"));
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public Optional<String> getPhotosVersionTag(String serviceId) {
+    return readCoalescingService.read("photos-version", serviceId,
+                    () -> serviceRepository.findPhotosVersionById(serviceId))
+            .map(this::collectionTag);
+  }
+
   @Override
   public StandardService updateService(String serviceId, ServiceUpdateDto dto, String employeeId) {
     log.info("Updating service: {} by employee: {}", serviceId, employeeId);
@@ -117,6 +167,8 @@ public class StandardServiceServiceImpl implements StandardServiceService {
     StandardService service = serviceRepository.findById(serviceId)
             .orElseThrow(() -> new ServiceNotFoundException("Service not found"));
 
+    ServiceStatus previousStatus = service.getStatus();
+
     // Update fields if provided
     if (dto.getStatus() != null) {
       service.setStatus(dto.getStatus());
@@ -130,6 +182,7 @@ public class StandardServiceServiceImpl implements StandardServiceService {
 
     if (dto.getEstimatedCompletion() != null) {
       service.setEstimatedCompletion(dto.getEstimatedCompletion());
+      service.setOverdueNotifiedAt(null); // Report it again if the new estimate is missed too
     }
 
     // If notes are provided, add them as a service note
@@ -140,12 +193,17 @@ public class StandardServiceServiceImpl implements StandardServiceService {
               .note(dto.getNotes())
               .isCustomerVisible(true)
               .build();
-      serviceNoteRepository.save(note);
+      ServiceNote savedNote = serviceNoteRepository.save(note);
+      changeFeedService.recordNote(savedNote, service.getCustomerId());
       log.info("Service note added");
+      publishServiceEvent(ProgressEventDto.Type.SERVICE_NOTE_ADDED, service, mapToNoteResponseDto(savedNote), null);
     }
 
     StandardService updatedService = serviceRepository.save(service);
+    changeFeedService.recordService(updatedService, ChangeOperation.UPDATED);
+    dashboardService.recordServiceStatusChange(previousStatus, updatedService.getStatus());
     log.info("Service updated successfully");
+    publishServiceEvent(ProgressEventDto.Type.SERVICE_UPDATED, updatedService, null, null);
 
     return updatedService;
   }
@@ -158,9 +216,12 @@ public class StandardServiceServiceImpl implements StandardServiceService {
             .orElseThrow(() -> new ServiceNotFoundException("Service not found"));
 
     // Update service status to completed
+    ServiceStatus previousStatus = service.getStatus();
     service.setStatus(ServiceStatus.COMPLETED);
     service.setProgress(100);
     serviceRepository.save(service);
+    changeFeedService.recordService(service, ChangeOperation.UPDATED);
+    dashboardService.recordServiceStatusChange(previousStatus, ServiceStatus.COMPLETED);
 
     // Add final completion note
     ServiceNote completionNote = ServiceNote.builder()
@@ -169,11 +230,16 @@ public class StandardServiceServiceImpl implements StandardServiceService {
             .note(dto.getFinalNotes())
             .isCustomerVisible(true)
             .build();
-    serviceNoteRepository.save(completionNote);
+    ServiceNote savedCompletionNote = serviceNoteRepository.save(completionNote);
+    changeFeedService.recordNote(savedCompletionNote, service.getCustomerId());
+    publishServiceEvent(ProgressEventDto.Type.SERVICE_UPDATED, service, null, null);
+    publishServiceEvent(ProgressEventDto.Type.SERVICE_NOTE_ADDED, service, mapToNoteResponseDto(savedCompletionNote), null);
 
     // Generate invoice
     Invoice invoice = generateInvoice(service, dto);
     Invoice savedInvoice = invoiceRepository.save(invoice);
+    changeFeedService.recordInvoice(savedInvoice);
+    dashboardService.recordInvoiceIssued(savedInvoice);
 
     log.info("Service completed and invoice generated: {}", savedInvoice.getInvoiceNumber());
 
@@ -185,7 +251,7 @@ public class StandardServiceServiceImpl implements StandardServiceService {
     log.info("Adding note to service: {} by employee: {}", serviceId, employeeId);
 
     // Verify service exists
-    serviceRepository.findById(serviceId)
+    StandardService service = serviceRepository.findById(serviceId)
             .orElseThrow(() -> new ServiceNotFoundException("Service not found"));
 
     ServiceNote note = ServiceNote.builder()
@@ -196,20 +262,19 @@ public class StandardServiceServiceImpl implements StandardServiceService {
             .build();
 
     ServiceNote savedNote = serviceNoteRepository.save(note);
+    changeFeedService.recordNote(savedNote, service.getCustomerId());
     log.info("Service note added successfully");
 
-    return mapToNoteResponseDto(savedNote);
+    NoteResponseDto response = mapToNoteResponseDto(savedNote);
+    publishServiceEvent(ProgressEventDto.Type.SERVICE_NOTE_ADDED, service, response, null);
+    return response;
   }
 
   @Override
+  @Transactional(readOnly = true)
   public List<NoteResponseDto> getServiceNotes(String serviceId, String userId, String userRole) {
-    log.info("Fetching notes for service: {} by user: {} with role: {}", serviceId, userId, userRole);
-
-    // Verify service exists and user has access
-    Optional<StandardService> serviceOpt = getServiceDetails(serviceId, userId, userRole);
-    if (serviceOpt.isEmpty()) {
-      throw new UnauthorizedAccessException("You don't have permission to view this service");
-    }
+    log.debug("Fetching notes for service: {} by user: {} with role: {}", serviceId, userId, userRole);
+    checkNotesAccess(serviceId, userId, userRole);
 
     List<ServiceNote> notes;
     if (userRole.contains("CUSTOMER")) {
@@ -225,12 +290,60 @@ public class StandardServiceServiceImpl implements StandardServiceService {
             .collect(Collectors.toList());
   }
 
+  // Not read-only, so pages come from the primary: on a lagging replica the token could skip notes
+  @Override
+  @Transactional
+  public NotePageDto getServiceNotes(String serviceId, String userId, String userRole, String sinceToken, int limit) {
+    log.debug("Fetching notes for service: {} by user: {} with role: {}", serviceId, userId, userRole);
+    checkNotesAccess(serviceId, userId, userRole);
+
+    NoteCursor after = NoteCursor.parse(sinceToken);
+    // Fetch one extra row to know whether another page follows
+    PageRequest pageRequest = PageRequest.ofSize(limit + 1);
+    List<ServiceNote> notes;
+    if (userRole.contains("CUSTOMER")) {
+      // Customers can only see customer-visible notes
+      notes = serviceNoteRepository.findVisiblePageAfter(serviceId, after.createdAt(), after.id(), pageRequest);
+    } else {
+      // Employees and admins can see all notes
+      notes = serviceNoteRepository.findPageAfter(serviceId, after.createdAt(), after.id(), pageRequest);
+    }
+
+    // Stop at the first unsettled note: an older one may still be on its way (see ChangeFeedServiceImpl)
+    LocalDateTime settledBefore = changeFeedService.settledBefore();
+    List<NoteResponseDto> page = new ArrayList<>(Math.min(notes.size(), limit));
+    ServiceNote last = null;
+    boolean hasMore = false;
+    for (ServiceNote note : notes) {
+      if (page.size() == limit || note.getCreatedAt().isAfter(settledBefore)) {
+        hasMore = page.size() == limit;
+        break;
+      }
+      page.add(mapToNoteResponseDto(note));
+      last = note;
+    }
+
+    String nextToken = last == null ? sinceToken : NoteCursor.of(last).format();
+    return NotePageDto.builder()
+            .notes(page)
+            .nextToken(nextToken)
+            .hasMore(hasMore)
+            .build();
+  }
+
+  // Verify service exists and user has access
+  private void checkNotesAccess(String serviceId, String userId, String userRole) {
+    if (getServiceDetails(serviceId, userId, userRole).isEmpty()) {
+      throw new UnauthorizedAccessException("You don't have permission to view this service");
+    }
+  }
+
   @Override
   public List<PhotoDto> uploadPhotos(String serviceId, MultipartFile[] files, String employeeId) {
     log.info("Uploading {} photos for service: {}", files.length, serviceId);
 
     // Verify service exists
-    serviceRepository.findById(serviceId)
+    StandardService service = serviceRepository.findById(serviceId)
             .orElseThrow(() -> new ServiceNotFoundException("Service not found"));
 
     List<String> fileUrls = fileStorageService.storeFiles(files, serviceId);
@@ -246,27 +359,32 @@ public class StandardServiceServiceImpl implements StandardServiceService {
     }
 
     List<ProgressPhoto> savedPhotos = progressPhotoRepository.saveAll(photos);
+    changeFeedService.recordPhotos(savedPhotos, service.getCustomerId());
     log.info("Successfully uploaded {} photos", savedPhotos.size());
 
-    return savedPhotos.stream()
+    List<PhotoDto> response = savedPhotos.stream()
             .map(this::mapToPhotoDto)
             .collect(Collectors.toList());
+    publishServiceEvent(ProgressEventDto.Type.SERVICE_PHOTOS_ADDED, service, null, response);
+    return response;
   }
 
   @Override
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public List<PhotoDto> getPhotos(String serviceId) {
-    log.info("Fetching photos for service: {}", serviceId);
+    log.debug("Fetching photos for service: {}", serviceId);
 
-    List<ProgressPhoto> photos = progressPhotoRepository.findByServiceId(serviceId);
-    
-    return photos.stream()
-            .map(this::mapToPhotoDto)
-            .collect(Collectors.toList());
+    // Shared between concurrent callers, hence unmodifiable
+    return readCoalescingService.read("photos", serviceId,
+            () -> progressPhotoRepository.findByServiceId(serviceId).stream()
+                    .map(this::mapToPhotoDto)
+                    .toList());
   }
 
   @Override
+  @Transactional(readOnly = true)
   public InvoiceDto getServiceInvoice(String serviceId, String userId) {
-    log.info("Fetching invoice for service: {}", serviceId);
+    log.debug("Fetching invoice for service: {}", serviceId);
 
     // Verify service exists and user has access
     StandardService service = serviceRepository.findById(serviceId)
@@ -285,7 +403,36 @@ public class StandardServiceServiceImpl implements StandardServiceService {
 
   // Helper methods
 
-  private Invoice generateInvoice(StandardService service, CompletionDto dto) {
+  // Same visibility rules as getServiceDetails
+  private boolean canView(String customerId, String userId, String userRole) {
+    return userRole.contains("ADMIN") || userRole.contains("EMPLOYEE")
+            || (userRole.contains("CUSTOMER") && userId.equals(customerId));
+  }
+
+  private String collectionTag(CollectionVersionView version) {
+    LocalDateTime lastModified = version.getLastModified();
+    long micros = lastModified == null ? 0L
+            : lastModified.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + lastModified.getNano() / 1_000L;
+    return version.getCount() + "-" + micros;
+  }
+
+  // Delivered to progress stream subscribers once the surrounding transaction commits
+  private void publishServiceEvent(ProgressEventDto.Type type, StandardService service,
+                                   NoteResponseDto note, List<PhotoDto> photos) {
+    eventPublisher.publishEvent(ProgressEventDto.builder()
+            .type(type)
+            .serviceId(service.getId())
+            .customerId(service.getCustomerId())
+            .status(service.getStatus().name())
+            .progress(service.getProgress())
+            .note(note)
+            .photos(photos)
+            .occurredAt(LocalDateTime.now())
+            .build());
+  }
+
+  // Package-private for the JMH benchmarks
+  Invoice generateInvoice(StandardService service, CompletionDto dto) {
     String invoiceNumber = generateInvoiceNumber();
     
     BigDecimal subtotal = dto.getActualCost();
@@ -392,4 +539,37 @@ public class StandardServiceServiceImpl implements StandardServiceService {
             .uploadedAt(photo.getUploadedAt())
             .build();
   }
-}
\ No newline at end of file
+
+  /**
+   * Position of a note in creation order, exchanged with clients as an opaque token. The ID breaks
+   * ties between notes created in the same instant.
+   */
+  private record NoteCursor(LocalDateTime createdAt, String id) {
+
+    private static final NoteCursor START =
+            new NoteCursor(LocalDateTime.of(1970, 1, 1, 0, 0), "00000000-0000-0000-0000-000000000000");
+
+    static NoteCursor of(ServiceNote note) {
+      return new NoteCursor(note.getCreatedAt(), note.getId());
+    }
+
+    static NoteCursor parse(String token) {
+      if (token == null || token.isBlank()) {
+        return START;
+      }
+      try {
+        String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separator = decoded.indexOf('|');
+        return new NoteCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                UUID.fromString(decoded.substring(separator + 1)).toString());
+      } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+        throw new InvalidCursorException("Invalid notes token: " + token);
+      }
+    }
+
+    String format() {
+      return Base64.getUrlEncoder().withoutPadding()
+              .encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+  }
+}
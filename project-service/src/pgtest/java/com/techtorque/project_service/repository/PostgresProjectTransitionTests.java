@@ -0,0 +1,27 @@
+package com.techtorque.project_service.repository;
+
+import com.techtorque.project_service.support.PostgresTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ProjectTransitionTests} on PostgreSQL, where single-status transitions run as
+ * {@code UPDATE ... RETURNING *} and progress updates, allowed from two statuses, read the old status
+ * through the locking CTE.
+ */
+class PostgresProjectTransitionTests extends ProjectTransitionTests implements PostgresTest {
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  @Test
+  void runsAgainstPostgres() {
+    assertThat(entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect())
+        .isInstanceOf(PostgreSQLDialect.class);
+  }
+}
@@ -0,0 +1,10 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.support.PostgresTest;
+
+/**
+ * {@link BulkProjectOperationTests} on PostgreSQL, where a bulk transition is one
+ * {@code UPDATE ... RETURNING} over all the IDs.
+ */
+class PostgresBulkProjectOperationTests extends BulkProjectOperationTests implements PostgresTest {
+}
@@ -0,0 +1,10 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.support.PostgresTest;
+
+/**
+ * {@link DashboardCounterTests} on PostgreSQL: the counters move by the old status each transition
+ * returns, which there comes from {@code UPDATE ... RETURNING} and the locking CTE.
+ */
+class PostgresDashboardCounterTests extends DashboardCounterTests implements PostgresTest {
+}
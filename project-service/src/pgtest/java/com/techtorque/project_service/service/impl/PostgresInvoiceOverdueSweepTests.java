@@ -0,0 +1,10 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.support.PostgresTest;
+
+/**
+ * {@link InvoiceOverdueSweepTests} on PostgreSQL, where each chunk is aged with
+ * {@code UPDATE ... RETURNING *} (InvoiceOverdueRepositoryImpl).
+ */
+class PostgresInvoiceOverdueSweepTests extends InvoiceOverdueSweepTests implements PostgresTest {
+}
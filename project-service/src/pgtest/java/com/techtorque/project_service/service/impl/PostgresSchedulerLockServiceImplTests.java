@@ -0,0 +1,10 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.support.PostgresTest;
+
+/**
+ * {@link SchedulerLockServiceImplTests} on PostgreSQL, where the instance losing the race for the first
+ * row fails on the key and has its transaction aborted.
+ */
+class PostgresSchedulerLockServiceImplTests extends SchedulerLockServiceImplTests implements PostgresTest {
+}
@@ -0,0 +1,53 @@
+package com.techtorque.project_service.support;
+
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Mixed into a subclass of an {@link ApiTestSupport} test to run it against PostgreSQL instead of H2.
+ * The database is the one at {@code -Dpostgres.test.url} when given, otherwise a container started
+ * once for the run; the class is skipped when there is neither. Every class mixing this in gets the
+ * same properties, so they all share one application context and one schema.
+ */
+@EnabledIf("com.techtorque.project_service.support.PostgresTest#available")
+public interface PostgresTest {
+
+  String URL_PROPERTY = "postgres.test.url";
+
+  @DynamicPropertySource
+  static void postgresProperties(DynamicPropertyRegistry registry) {
+    String url = System.getProperty(URL_PROPERTY);
+    if (url != null) {
+      registry.add("spring.datasource.url", () -> url);
+      registry.add("spring.datasource.username", () -> System.getProperty("postgres.test.username", "postgres"));
+      registry.add("spring.datasource.password", () -> System.getProperty("postgres.test.password", ""));
+    } else {
+      PostgreSQLContainer<?> container = Container.INSTANCE;
+      registry.add("spring.datasource.url", container::getJdbcUrl);
+      registry.add("spring.datasource.username", container::getUsername);
+      registry.add("spring.datasource.password", container::getPassword);
+    }
+    registry.add("spring.datasource.driverClassName", () -> "org.postgresql.Driver");
+    registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+  }
+
+  static boolean available() {
+    return System.getProperty(URL_PROPERTY) != null || DockerClientFactory.instance().isDockerAvailable();
+  }
+
+  // Started on first use and left to the Testcontainers reaper at the end of the run
+  final class Container {
+    static final PostgreSQLContainer<?> INSTANCE = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+      INSTANCE.start();
+    }
+
+    private Container() {
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.techtorque.project_service.config;
+
+import com.techtorque.project_service.entity.IdempotencyRecord;
+import com.techtorque.project_service.repository.IdempotencyRecordRepository;
+import com.techtorque.project_service.service.IdempotencyService;
+import com.techtorque.project_service.support.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Claim renewal keeps running while long jobs hold every thread of the shared scheduler.
+ */
+class CheckSchedulerTests extends ApiTestSupport {
+
+  @Autowired
+  @Qualifier("taskScheduler")
+  private ThreadPoolTaskScheduler taskScheduler;
+
+  @Autowired
+  private IdempotencyService idempotencyService;
+
+  @Autowired
+  private IdempotencyRecordRepository recordRepository;
+
+  @Test
+  void claimsAreRenewedWhileLongJobsHoldTheSharedScheduler() throws Exception {
+    String keyHash = UUID.randomUUID().toString();
+    String owner = UUID.randomUUID().toString();
+    assertThat(idempotencyService.claimOrAwait(keyHash, "fingerprint", owner)).isEmpty();
+    LocalDateTime claimedUntil = expiresAt(keyHash);
+
+    // Stand in for a reconciliation or sweep running on each of its threads
+    int threads = taskScheduler.getScheduledThreadPoolExecutor().getCorePoolSize();
+    CountDownLatch running = new CountDownLatch(threads);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      for (int i = 0; i < threads; i++) {
+        taskScheduler.execute(() -> {
+          running.countDown();
+          await(release);
+        });
+      }
+      assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (!expiresAt(keyHash).isAfter(claimedUntil) && System.nanoTime() < deadline) {
+        Thread.sleep(20);
+      }
+      assertThat(expiresAt(keyHash)).isAfter(claimedUntil);
+    } finally {
+      release.countDown();
+      idempotencyService.release(keyHash, owner);
+    }
+  }
+
+  private LocalDateTime expiresAt(String keyHash) {
+    return recordRepository.findById(keyHash).map(IdempotencyRecord::getExpiresAt).orElseThrow();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
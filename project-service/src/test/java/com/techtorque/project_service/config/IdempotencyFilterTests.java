@@ -0,0 +1,211 @@
+package com.techtorque.project_service.config;
+
+import com.techtorque.project_service.service.IdempotencyService;
+import com.techtorque.project_service.service.IdempotencyService.StoredResponse;
+import com.techtorque.project_service.support.ApiTestSupport;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Replays, key reuse, duplicates arriving while the first request runs, and server errors, for JSON and
+ * multipart POSTs sent with an {@code Idempotency-Key}; and the cached body handed on to the controller.
+ */
+class IdempotencyFilterTests extends ApiTestSupport {
+
+  private static final String PROJECT_JSON = "{\"vehicleId\":\"vehicle-1\",\"projectType\":\"Custom paint\","
+      + "\"description\":\"Full respray in metallic blue\",\"budget\":1500}";
+
+  @Autowired
+  private IdempotencyService idempotencyService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void retryWithTheSameKeyReplaysTheFirstResponse() throws Exception {
+    String customerId = newUser("customer");
+    String key = UUID.randomUUID().toString();
+
+    MockHttpServletResponse first = perform(createProject(customerId, key, PROJECT_JSON));
+    MockHttpServletResponse retry = perform(createProject(customerId, key, PROJECT_JSON));
+
+    assertThat(first.getStatus()).isEqualTo(201);
+    assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    assertThat(retry.getStatus()).isEqualTo(201);
+    assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    assertThat(retry.getContentAsByteArray()).isEqualTo(first.getContentAsByteArray());
+    assertThat(projectsOf(customerId)).isEqualTo(1);
+
+    // Keys are per caller: another customer's identical key runs its own request
+    String otherCustomerId = newUser("customer");
+    MockHttpServletResponse other = perform(createProject(otherCustomerId, key, PROJECT_JSON));
+    assertThat(other.getStatus()).isEqualTo(201);
+    assertThat(other.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    assertThat(projectsOf(otherCustomerId)).isEqualTo(1);
+  }
+
+  @Test
+  void keyReusedForADifferentBodyIsRejectedWith422() throws Exception {
+    String customerId = newUser("customer");
+    String key = UUID.randomUUID().toString();
+    assertThat(perform(createProject(customerId, key, PROJECT_JSON)).getStatus()).isEqualTo(201);
+
+    MockHttpServletResponse reused = perform(createProject(customerId, key, PROJECT_JSON.replace("1500", "2500")));
+
+    assertThat(reused.getStatus()).isEqualTo(422);
+    assertThat(projectsOf(customerId)).isEqualTo(1);
+  }
+
+  @Test
+  void racingDuplicatesCreateOneProject() throws Exception {
+    String customerId = newUser("customer");
+    String key = UUID.randomUUID().toString();
+    Map<Integer, String> bodies = new ConcurrentHashMap<>();
+
+    List<Integer> statuses = race(4, i -> {
+      MockHttpServletResponse response = perform(createProject(customerId, key, PROJECT_JSON));
+      bodies.put(i, response.getContentAsString());
+      return response.getStatus();
+    });
+
+    assertThat(statuses).containsOnly(201);
+    assertThat(bodies.values()).hasSize(4).containsOnly(bodies.get(0));
+    assertThat(projectsOf(customerId)).isEqualTo(1);
+  }
+
+  @Test
+  void duplicateWaitsForTheRequestHoldingTheKeyAndOnlyItsOwnerCompletesIt() throws Exception {
+    String customerId = newUser("customer");
+    String key = UUID.randomUUID().toString();
+    // Holds the key as a first request still running would, under the hashes the filter computes
+    String keyHash = IdempotencyFilter.sha256(customerId.getBytes(StandardCharsets.UTF_8),
+        key.getBytes(StandardCharsets.UTF_8));
+    String fingerprint = IdempotencyFilter.sha256("POST /projects".getBytes(StandardCharsets.UTF_8),
+        PROJECT_JSON.getBytes(StandardCharsets.UTF_8));
+    String owner = UUID.randomUUID().toString();
+    assertThat(idempotencyService.claimOrAwait(keyHash, fingerprint, owner)).isEmpty();
+
+    CompletableFuture<MockHttpServletResponse> duplicate = CompletableFuture.supplyAsync(() -> {
+      try {
+        return perform(createProject(customerId, key, PROJECT_JSON));
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    Thread.sleep(300);
+    assertThat(duplicate).isNotDone();
+
+    // A request that does not hold the claim can neither complete nor release it
+    idempotencyService.complete(keyHash, UUID.randomUUID().toString(),
+        new StoredResponse(500, "application/json", "{}".getBytes(StandardCharsets.UTF_8)));
+    idempotencyService.release(keyHash, UUID.randomUUID().toString());
+    Thread.sleep(300);
+    assertThat(duplicate).isNotDone();
+
+    byte[] stored = "{\"success\":true,\"message\":\"Project created\"}".getBytes(StandardCharsets.UTF_8);
+    idempotencyService.complete(keyHash, owner, new StoredResponse(201, "application/json", stored));
+
+    MockHttpServletResponse replayed = duplicate.get(5, TimeUnit.SECONDS);
+    assertThat(replayed.getStatus()).isEqualTo(201);
+    assertThat(replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    assertThat(replayed.getContentAsByteArray()).isEqualTo(stored);
+    assertThat(projectsOf(customerId)).isZero();
+    assertThat(idempotencyService.claimOrAwait(keyHash, fingerprint, UUID.randomUUID().toString())).isPresent();
+  }
+
+  @Test
+  void serverErrorReleasesTheKeySoAMultipartRetryRunsAgain() throws Exception {
+    String customerId = newUser("customer");
+    String employeeId = newUser("employee");
+    String serviceId = createService(customerId, employeeId);
+    String key = UUID.randomUUID().toString();
+
+    // Rejected by the file store, answered with 500
+    MockHttpServletResponse failed = perform(uploadPhoto(serviceId, employeeId, key, "../escape.jpg"));
+    assertThat(failed.getStatus()).isEqualTo(500);
+
+    MockHttpServletResponse retried = perform(uploadPhoto(serviceId, employeeId, key, "brakes.jpg"));
+    assertThat(retried.getStatus()).isEqualTo(201);
+    assertThat(retried.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+
+    MockHttpServletResponse replayed = perform(uploadPhoto(serviceId, employeeId, key, "brakes.jpg"));
+    assertThat(replayed.getStatus()).isEqualTo(201);
+    assertThat(replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    assertThat(replayed.getContentAsByteArray()).isEqualTo(retried.getContentAsByteArray());
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM progress_photos WHERE service_id = ?",
+        Long.class, UUID.fromString(serviceId))).isEqualTo(1);
+  }
+
+  @Test
+  void cachedBodyIsHandedToANonBlockingReader() throws Exception {
+    byte[] body = PROJECT_JSON.getBytes(StandardCharsets.UTF_8);
+    ServletInputStream in = new IdempotencyFilter.CachedBodyRequest(new MockHttpServletRequest(), body)
+        .getInputStream();
+    ByteArrayOutputStream read = new ByteArrayOutputStream();
+    AtomicBoolean allRead = new AtomicBoolean();
+
+    in.setReadListener(new ReadListener() {
+      @Override
+      public void onDataAvailable() throws IOException {
+        byte[] buffer = new byte[16];
+        while (in.isReady() && !in.isFinished()) {
+          read.write(buffer, 0, in.read(buffer));
+        }
+      }
+
+      @Override
+      public void onAllDataRead() {
+        allRead.set(true);
+      }
+
+      @Override
+      public void onError(Throwable t) {
+        throw new AssertionError(t);
+      }
+    });
+
+    assertThat(read.toByteArray()).isEqualTo(body);
+    assertThat(allRead).isTrue();
+  }
+
+  private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+    return mockMvc.perform(request).andReturn().getResponse();
+  }
+
+  private static MockHttpServletRequestBuilder createProject(String customerId, String key, String json) {
+    return withJson(as(post("/projects"), customerId, "CUSTOMER"), json).header(IdempotencyFilter.KEY_HEADER, key);
+  }
+
+  private static MockHttpServletRequestBuilder uploadPhoto(String serviceId, String employeeId, String key,
+      String filename) {
+    MockMultipartFile file = new MockMultipartFile("files", filename, "image/jpeg", new byte[]{1, 2, 3});
+    return as(multipart("/services/{id}/photos", serviceId).file(file), employeeId, "EMPLOYEE")
+        .header(IdempotencyFilter.KEY_HEADER, key);
+  }
+
+  private long projectsOf(String customerId) {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM projects WHERE customer_id = ?", Long.class, customerId);
+  }
+}
@@ -0,0 +1,109 @@
+package com.techtorque.project_service.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The cell rate algorithm behind each bucket, the choice of limit by role, and the periodic sweep of
+ * full buckets.
+ */
+class RateLimitFilterTests {
+
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void fullBucketAllowsTheBurstThenRefillsOneTokenPerInterval() {
+    // 2 per second, so a token every 500ms, and a burst of 3
+    RateLimitFilter.Rate rate = RateLimitFilter.Rate.of("listing", "any", new RateLimitProperties.Limit(2, 3),
+        meterRegistry);
+    long start = 1_000 * SECOND;
+    AtomicLong bucket = new AtomicLong(start);
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(rate.acquire(bucket, start)).isZero();
+    }
+    assertThat(rate.acquire(bucket, start)).isEqualTo(SECOND / 2);
+    // A refused request does not take a token
+    assertThat(rate.acquire(bucket, start + SECOND / 4)).isEqualTo(SECOND / 4);
+
+    assertThat(rate.acquire(bucket, start + SECOND / 2)).isZero();
+    assertThat(rate.acquire(bucket, start + SECOND / 2)).isEqualTo(SECOND / 2);
+
+    // Idle for long, the bucket holds no more than the burst
+    long later = start + 60 * SECOND;
+    for (int i = 0; i < 3; i++) {
+      assertThat(rate.acquire(bucket, later)).isZero();
+    }
+    assertThat(rate.acquire(bucket, later)).isPositive();
+  }
+
+  @Test
+  void retryAfterIsRoundedUpToWholeSeconds() {
+    assertThat(RateLimitFilter.retryAfterSeconds(1)).isEqualTo(1);
+    assertThat(RateLimitFilter.retryAfterSeconds(SECOND / 2)).isEqualTo(1);
+    assertThat(RateLimitFilter.retryAfterSeconds(SECOND)).isEqualTo(1);
+    assertThat(RateLimitFilter.retryAfterSeconds(SECOND + 1)).isEqualTo(2);
+    assertThat(RateLimitFilter.retryAfterSeconds(5 * SECOND / 2)).isEqualTo(3);
+  }
+
+  @Test
+  void rateForPicksTheMostGenerousOfTheCallersRolesOrTheClassLimit() {
+    RateLimitProperties.EndpointClass properties = new RateLimitProperties.EndpointClass();
+    properties.setLimit(new RateLimitProperties.Limit(2, 10));
+    properties.setRoles(Map.of(
+        "EMPLOYEE", new RateLimitProperties.Limit(0.5, 5),
+        "admin", new RateLimitProperties.Limit(1, 5)));
+    RateLimitFilter.EndpointClass listing = RateLimitFilter.EndpointClass.of("listing", properties, meterRegistry);
+
+    assertThat(listing.rateFor(null).role()).isEqualTo("any");
+    assertThat(listing.rateFor("CUSTOMER").role()).isEqualTo("any");
+    assertThat(listing.rateFor("EMPLOYEE").role()).isEqualTo("EMPLOYEE");
+    assertThat(listing.rateFor("employee, ADMIN").role()).isEqualTo("ADMIN");
+    assertThat(listing.rateFor("CUSTOMER,EMPLOYEE").role()).isEqualTo("EMPLOYEE");
+
+    RateLimitFilter.EndpointClass withoutRoles = RateLimitFilter.EndpointClass.of("query",
+        new RateLimitProperties.EndpointClass(), meterRegistry);
+    assertThat(withoutRoles.rateFor("ADMIN").role()).isEqualTo("any");
+  }
+
+  @Test
+  void sweepDropsOnlyFullBuckets() throws Exception {
+    RateLimitProperties properties = new RateLimitProperties();
+    RateLimitProperties.EndpointClass slow = new RateLimitProperties.EndpointClass();
+    slow.setEndpoints(List.of("GET /slow"));
+    slow.setLimit(new RateLimitProperties.Limit(0.001, 1));
+    properties.getClasses().put("slow", slow);
+    properties.setDefaultLimit(new RateLimitProperties.Limit(1_000, 1));
+    RateLimitFilter filter = new RateLimitFilter(properties, meterRegistry, new ObjectMapper());
+
+    filter.doFilter(request("/fast"), new MockHttpServletResponse(), new MockFilterChain());
+    filter.doFilter(request("/slow"), new MockHttpServletResponse(), new MockFilterChain());
+    assertThat(meterRegistry.get("rate.limit.buckets").gauge().value()).isEqualTo(2);
+
+    // The default bucket is full again after 1ms, the slow one only after 1000s
+    Thread.sleep(10);
+    filter.evictFullBuckets();
+    assertThat(meterRegistry.get("rate.limit.buckets").gauge().value()).isEqualTo(1);
+  }
+
+  private static MockHttpServletRequest request(String path) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+    request.addHeader("X-User-Subject", "customer-1");
+    request.addHeader("X-User-Roles", "CUSTOMER");
+    return request;
+  }
+}
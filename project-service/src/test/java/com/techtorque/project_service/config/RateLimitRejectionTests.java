@@ -0,0 +1,54 @@
+package com.techtorque.project_service.config;
+
+import com.techtorque.project_service.support.ApiTestSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * A caller over the listing limit (burst 10, 2 per second) is answered with 429 and {@code Retry-After},
+ * and the rejection is counted.
+ */
+class RateLimitRejectionTests extends ApiTestSupport {
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  void callerOverTheListingLimitGets429WithRetryAfter() throws Exception {
+    String customerId = newUser("customer");
+    double rejectedBefore = rejected();
+
+    // The burst, plus the odd token refilled while the requests run
+    MockHttpServletResponse response = null;
+    int allowed = 0;
+    for (int i = 0; i < 20; i++) {
+      response = mockMvc.perform(as(get("/projects"), customerId, "CUSTOMER")).andReturn().getResponse();
+      if (response.getStatus() != 200) {
+        break;
+      }
+      allowed++;
+    }
+
+    assertThat(allowed).isGreaterThanOrEqualTo(10);
+    assertThat(response.getStatus()).isEqualTo(429);
+    assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    assertThat(body(mockMvc.perform(as(get("/projects"), customerId, "CUSTOMER")).andReturn())
+        .path("success").asBoolean()).isFalse();
+    assertThat(rejected() - rejectedBefore).isEqualTo(2);
+
+    // Other callers have their own buckets
+    String otherCustomerId = newUser("customer");
+    assertThat(mockMvc.perform(as(get("/projects"), otherCustomerId, "CUSTOMER")).andReturn().getResponse()
+        .getStatus()).isEqualTo(200);
+  }
+
+  private double rejected() {
+    return meterRegistry.get("rate.limit.rejected").tag("class", "listing").tag("role", "any").counter().count();
+  }
+}
@@ -0,0 +1,88 @@
+package com.techtorque.project_service.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.techtorque.project_service.support.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Project and service details carry an ETag: a matching If-None-Match is answered with 304 and no body,
+ * a change to the row gives a new tag, and the tag is never confirmed to a caller who may not see the row.
+ */
+class ETagTests extends ApiTestSupport {
+
+  @Test
+  void projectDetailsAreRevalidatedAgainstTheVersion() throws Exception {
+    String customerId = newUser("customer");
+    String projectId = createProject(customerId);
+
+    MockHttpServletResponse first = perform(as(get("/projects/{id}", projectId), customerId, "CUSTOMER"));
+    assertThat(first.getStatus()).isEqualTo(200);
+    String etag = first.getHeader(HttpHeaders.ETAG);
+    assertThat(etag).isNotBlank();
+
+    MockHttpServletResponse unchanged = perform(as(get("/projects/{id}", projectId), customerId, "CUSTOMER")
+        .header(HttpHeaders.IF_NONE_MATCH, etag));
+    assertThat(unchanged.getStatus()).isEqualTo(304);
+    assertThat(unchanged.getContentLength()).isZero();
+    assertThat(unchanged.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+
+    assertThat(perform(withJson(as(put("/projects/{id}/quote", projectId), newUser("employee"), "EMPLOYEE"),
+        "{\"quoteAmount\":2500}")).getStatus()).isEqualTo(200);
+
+    MockHttpServletResponse changed = perform(as(get("/projects/{id}", projectId), customerId, "CUSTOMER")
+        .header(HttpHeaders.IF_NONE_MATCH, etag));
+    assertThat(changed.getStatus()).isEqualTo(200);
+    assertThat(changed.getHeader(HttpHeaders.ETAG)).isNotBlank().isNotEqualTo(etag);
+    assertThat(data(changed).path("status").asText()).isEqualTo("QUOTED");
+
+    MockHttpServletResponse otherCustomer = perform(as(get("/projects/{id}", projectId), newUser("customer"),
+        "CUSTOMER").header(HttpHeaders.IF_NONE_MATCH, changed.getHeader(HttpHeaders.ETAG)));
+    assertThat(otherCustomer.getStatus()).isEqualTo(404);
+  }
+
+  @Test
+  void serviceDetailsAreRevalidatedAgainstTheVersion() throws Exception {
+    String customerId = newUser("customer");
+    String employeeId = newUser("employee");
+    String serviceId = createService(customerId, employeeId);
+
+    MockHttpServletResponse first = perform(as(get("/services/{id}", serviceId), customerId, "CUSTOMER"));
+    assertThat(first.getStatus()).isEqualTo(200);
+    String etag = first.getHeader(HttpHeaders.ETAG);
+    assertThat(etag).isNotBlank();
+
+    MockHttpServletResponse unchanged = perform(as(get("/services/{id}", serviceId), customerId, "CUSTOMER")
+        .header(HttpHeaders.IF_NONE_MATCH, etag));
+    assertThat(unchanged.getStatus()).isEqualTo(304);
+    assertThat(unchanged.getContentLength()).isZero();
+
+    assertThat(perform(withJson(as(patch("/services/{id}", serviceId), employeeId, "EMPLOYEE"),
+        "{\"progress\":30}")).getStatus()).isEqualTo(200);
+
+    MockHttpServletResponse changed = perform(as(get("/services/{id}", serviceId), customerId, "CUSTOMER")
+        .header(HttpHeaders.IF_NONE_MATCH, etag));
+    assertThat(changed.getStatus()).isEqualTo(200);
+    assertThat(changed.getHeader(HttpHeaders.ETAG)).isNotBlank().isNotEqualTo(etag);
+    assertThat(data(changed).path("progress").asInt()).isEqualTo(30);
+
+    MockHttpServletResponse otherCustomer = perform(as(get("/services/{id}", serviceId), newUser("customer"),
+        "CUSTOMER").header(HttpHeaders.IF_NONE_MATCH, changed.getHeader(HttpHeaders.ETAG)));
+    assertThat(otherCustomer.getStatus()).isEqualTo(404);
+  }
+
+  private JsonNode data(MockHttpServletResponse response) throws Exception {
+    return objectMapper.readTree(response.getContentAsByteArray()).path("data");
+  }
+
+  private MockHttpServletResponse perform(MockHttpServletRequestBuilder request) throws Exception {
+    return mockMvc.perform(request).andReturn().getResponse();
+  }
+}
@@ -0,0 +1,32 @@
+package com.techtorque.project_service.controller;
+
+import com.techtorque.project_service.support.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * An ID in the path that is not a UUID is answered with 400, not looked up.
+ */
+class InvalidIdentifierTests extends ApiTestSupport {
+
+  @Test
+  void malformedIdsInThePathAreRejectedWith400() throws Exception {
+    String customerId = newUser("customer");
+    String employeeId = newUser("employee");
+
+    String[] paths = {"/projects/{id}", "/services/{id}", "/services/{id}/notes", "/services/{id}/photos"};
+    for (String path : paths) {
+      MvcResult result = mockMvc.perform(as(get(path, "not-a-uuid"), employeeId, "EMPLOYEE")).andReturn();
+      assertThat(result.getResponse().getStatus()).as(path).isEqualTo(400);
+      assertThat(body(result).path("success").asBoolean()).as(path).isFalse();
+    }
+
+    MvcResult accept = mockMvc.perform(as(post("/projects/{id}/accept", "not-a-uuid"), customerId, "CUSTOMER"))
+        .andReturn();
+    assertThat(accept.getResponse().getStatus()).isEqualTo(400);
+  }
+}
@@ -0,0 +1,56 @@
+package com.techtorque.project_service.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.techtorque.project_service.support.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * The streamed project listings keep the ApiResponse envelope: customers get their own projects, staff
+ * get every customer's.
+ */
+class ProjectListingTests extends ApiTestSupport {
+
+  @Test
+  void customersListTheirOwnProjectsAndStaffListAll() throws Exception {
+    String customerId = newUser("customer");
+    String otherCustomerId = newUser("customer");
+    String projectId = createProject(customerId);
+    String otherProjectId = createProject(otherCustomerId);
+
+    JsonNode own = body(mockMvc.perform(as(get("/projects"), customerId, "CUSTOMER")).andReturn());
+    assertThat(own.path("success").asBoolean()).isTrue();
+    assertThat(ids(own)).containsExactly(projectId);
+
+    MvcResult all = mockMvc.perform(as(get("/projects/all"), newUser("employee"), "EMPLOYEE")).andReturn();
+    assertThat(all.getResponse().getStatus()).isEqualTo(200);
+    assertThat(all.getResponse().getContentType()).startsWith("application/json");
+    JsonNode body = body(all);
+    assertThat(body.path("message").asText()).isEqualTo("All projects retrieved successfully");
+    assertThat(ids(body)).contains(projectId, otherProjectId);
+    JsonNode project = find(body, projectId);
+    assertThat(project.path("customerId").asText()).isEqualTo(customerId);
+    assertThat(project.path("status").asText()).isEqualTo("REQUESTED");
+  }
+
+  private static List<String> ids(JsonNode body) {
+    List<String> ids = new ArrayList<>();
+    body.path("data").forEach(project -> ids.add(project.path("id").asText()));
+    return ids;
+  }
+
+  private static JsonNode find(JsonNode body, String projectId) {
+    for (JsonNode project : body.path("data")) {
+      if (project.path("id").asText().equals(projectId)) {
+        return project;
+      }
+    }
+    throw new AssertionError("Project " + projectId + " not listed");
+  }
+}
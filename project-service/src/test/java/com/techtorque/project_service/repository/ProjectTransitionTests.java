@@ -0,0 +1,136 @@
+package com.techtorque.project_service.repository;
+
+import com.techtorque.project_service.entity.ProjectStatus;
+import com.techtorque.project_service.support.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The conditional {@code UPDATE} transitions of {@link ProjectTransitionRepositoryImpl}, driven
+ * through the API: legal moves succeed, moves from the wrong status get 409, unknown projects 404,
+ * and of several racing requests exactly one wins.
+ */
+class ProjectTransitionTests extends ApiTestSupport {
+
+  @Autowired
+  private ProjectRepository projectRepository;
+
+  @Test
+  void legalTransitionsUpdateStatusAndVersion() throws Exception {
+    String customerId = newUser("customer");
+    String employeeId = newUser("employee");
+    String projectId = createProject(customerId);
+
+    mockMvc.perform(withJson(as(put("/projects/{id}/quote", projectId), employeeId, "EMPLOYEE"),
+            "{\"quoteAmount\":2500}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.status").value("QUOTED"))
+        .andExpect(jsonPath("$.data.budget").value(2500));
+    mockMvc.perform(as(post("/projects/{id}/accept", projectId), customerId, "CUSTOMER"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.status").value("APPROVED"));
+    mockMvc.perform(withJson(as(put("/projects/{id}/progress", projectId), employeeId, "EMPLOYEE"),
+            "{\"progress\":40}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.status").value("IN_PROGRESS"))
+        .andExpect(jsonPath("$.data.progress").value(40));
+
+    assertThat(projectRepository.findById(projectId)).hasValueSatisfying(project -> {
+      assertThat(project.getStatus()).isEqualTo(ProjectStatus.IN_PROGRESS);
+      assertThat(project.getVersion()).isEqualTo(3L);
+    });
+  }
+
+  @Test
+  void transitionFromWrongStatusIsAConflict() throws Exception {
+    String customerId = newUser("customer");
+    String projectId = createProject(customerId);
+
+    // REQUESTED cannot be accepted (needs QUOTED) or have progress (needs APPROVED or IN_PROGRESS)
+    mockMvc.perform(as(post("/projects/{id}/accept", projectId), customerId, "CUSTOMER"))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.message").value("Can only accept projects in QUOTED status. Current status: REQUESTED"));
+    mockMvc.perform(withJson(as(put("/projects/{id}/progress", projectId), newUser("employee"), "EMPLOYEE"),
+            "{\"progress\":10}"))
+        .andExpect(status().isConflict());
+
+    assertThat(projectRepository.findById(projectId)).hasValueSatisfying(project -> {
+      assertThat(project.getStatus()).isEqualTo(ProjectStatus.REQUESTED);
+      assertThat(project.getVersion()).isZero();
+    });
+  }
+
+  @Test
+  void transitionByAnotherCustomerIsRejectedWithoutChange() throws Exception {
+    String customerId = newUser("customer");
+    String projectId = createProject(customerId);
+    mockMvc.perform(withJson(as(put("/projects/{id}/quote", projectId), newUser("employee"), "EMPLOYEE"),
+            "{\"quoteAmount\":900}"))
+        .andExpect(status().isOk());
+
+    mockMvc.perform(as(post("/projects/{id}/accept", projectId), newUser("customer"), "CUSTOMER"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("You don't have permission to accept this quote"));
+    assertThat(projectRepository.findById(projectId))
+        .hasValueSatisfying(project -> assertThat(project.getStatus()).isEqualTo(ProjectStatus.QUOTED));
+  }
+
+  @Test
+  void transitionOfUnknownProjectIsNotFound() throws Exception {
+    mockMvc.perform(as(post("/projects/{id}/approve", UUID.randomUUID()), newUser("admin"), "ADMIN"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void racingTransitionsHaveExactlyOneWinner() throws Exception {
+    String projectId = createProject(newUser("customer"));
+    int racers = 8;
+
+    // Half approve, half reject: both start from REQUESTED, only one may move it
+    List<Integer> statuses = race(racers, i -> {
+      String path = i % 2 == 0 ? "/projects/{id}/approve" : "/projects/{id}/admin/reject";
+      return mockMvc.perform(as(post(path, projectId), newUser("admin"), "ADMIN"))
+          .andReturn().getResponse().getStatus();
+    });
+
+    assertThat(statuses).filteredOn(code -> code == 200).hasSize(1);
+    assertThat(statuses).filteredOn(code -> code == 409).hasSize(racers - 1);
+    assertThat(projectRepository.findById(projectId)).hasValueSatisfying(project -> {
+      assertThat(project.getStatus()).isIn(ProjectStatus.APPROVED, ProjectStatus.REJECTED);
+      assertThat(project.getVersion()).isEqualTo(1L);
+    });
+  }
+
+  @Test
+  void racingProgressUpdatesAllApplyInTurn() throws Exception {
+    String customerId = newUser("customer");
+    String projectId = createProject(customerId);
+    mockMvc.perform(as(post("/projects/{id}/approve", projectId), newUser("admin"), "ADMIN"))
+        .andExpect(status().isOk());
+
+    // Progress may be reported from APPROVED and IN_PROGRESS, so every racer succeeds
+    List<Integer> statuses = race(6, i -> {
+      MvcResult result = mockMvc.perform(withJson(
+              as(put("/projects/{id}/progress", projectId), newUser("employee"), "EMPLOYEE"),
+              "{\"progress\":" + (10 + i) + "}"))
+          .andReturn();
+      return result.getResponse().getStatus();
+    });
+
+    assertThat(statuses).containsOnly(200);
+    assertThat(projectRepository.findById(projectId)).hasValueSatisfying(project -> {
+      assertThat(project.getStatus()).isEqualTo(ProjectStatus.IN_PROGRESS);
+      assertThat(project.getVersion()).isEqualTo(7L);
+    });
+  }
+}
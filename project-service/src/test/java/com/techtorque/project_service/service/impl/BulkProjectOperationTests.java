@@ -0,0 +1,119 @@
+package com.techtorque.project_service.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.techtorque.project_service.entity.ProjectStatus;
+import com.techtorque.project_service.repository.ProjectRepository;
+import com.techtorque.project_service.support.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Bulk approve and quote with a mix of valid, upper-case, duplicate, unknown and malformed IDs.
+ */
+class BulkProjectOperationTests extends ApiTestSupport {
+
+  @Autowired
+  private ProjectRepository projectRepository;
+
+  @Test
+  void bulkApproveMatchesIdsInAnyCaseAndReportsEveryFailure() throws Exception {
+    String customerId = newUser("customer");
+    String requested = createProject(customerId);
+    String upperCased = createProject(customerId);
+    String alreadyRejected = createProject(customerId);
+    mockMvc.perform(as(post("/projects/{id}/admin/reject", alreadyRejected), newUser("admin"), "ADMIN"))
+        .andExpect(status().isOk());
+    String missing = UUID.randomUUID().toString();
+
+    String request = "{\"projectIds\":[\"" + requested + "\",\"" + upperCased.toUpperCase(Locale.ROOT) + "\",\""
+        + requested.toUpperCase(Locale.ROOT) + "\",\"" + alreadyRejected + "\",\"" + missing + "\",\"not-a-uuid\"]}";
+    JsonNode data = body(mockMvc.perform(withJson(as(post("/projects/bulk/approve"), newUser("admin"), "ADMIN"), request))
+        .andExpect(status().isOk())
+        .andReturn()).path("data");
+
+    // The duplicate (upper-case copy of the first ID) is folded into it
+    assertThat(data.path("total").asInt()).isEqualTo(5);
+    assertThat(data.path("succeeded").asInt()).isEqualTo(2);
+    assertThat(data.path("failed").asInt()).isEqualTo(3);
+    JsonNode results = data.path("results");
+
+    // Malformed IDs are reported first, then the rest in request order
+    assertThat(results.get(0).path("projectId").asText()).isEqualTo("not-a-uuid");
+    assertThat(results.get(0).path("success").asBoolean()).isFalse();
+    assertThat(results.get(0).path("message").asText()).isEqualTo("Invalid project ID: not-a-uuid");
+
+    assertThat(results.get(1).path("projectId").asText()).isEqualTo(requested);
+    assertThat(results.get(1).path("success").asBoolean()).isTrue();
+    assertThat(results.get(2).path("projectId").asText()).isEqualTo(upperCased);
+    assertThat(results.get(2).path("success").asBoolean()).isTrue();
+    assertThat(results.get(2).path("status").asText()).isEqualTo("APPROVED");
+
+    assertThat(results.get(3).path("projectId").asText()).isEqualTo(alreadyRejected);
+    assertThat(results.get(3).path("success").asBoolean()).isFalse();
+    assertThat(results.get(3).path("status").asText()).isEqualTo("REJECTED");
+    assertThat(results.get(4).path("projectId").asText()).isEqualTo(missing);
+    assertThat(results.get(4).path("message").asText()).isEqualTo("Project not found: " + missing);
+
+    assertThat(projectRepository.findById(requested)).hasValueSatisfying(project -> {
+      assertThat(project.getStatus()).isEqualTo(ProjectStatus.APPROVED);
+      assertThat(project.getVersion()).isEqualTo(1L);
+    });
+    assertThat(projectRepository.findById(upperCased))
+        .hasValueSatisfying(project -> assertThat(project.getStatus()).isEqualTo(ProjectStatus.APPROVED));
+  }
+
+  @Test
+  void bulkQuoteSetsEachProjectsOwnAmount() throws Exception {
+    String customerId = newUser("customer");
+    String first = createProject(customerId);
+    String second = createProject(customerId);
+    String approved = createProject(customerId);
+    mockMvc.perform(as(post("/projects/{id}/approve", approved), newUser("admin"), "ADMIN"))
+        .andExpect(status().isOk());
+    String missing = UUID.randomUUID().toString();
+
+    // The later entry for the first project (in another case) wins
+    String request = "{\"quotes\":["
+        + "{\"projectId\":\"" + first + "\",\"quoteAmount\":100},"
+        + "{\"projectId\":\"" + second + "\",\"quoteAmount\":250.50},"
+        + "{\"projectId\":\"" + first.toUpperCase(Locale.ROOT) + "\",\"quoteAmount\":175},"
+        + "{\"projectId\":\"" + approved + "\",\"quoteAmount\":300},"
+        + "{\"projectId\":\"" + missing + "\",\"quoteAmount\":400},"
+        + "{\"projectId\":\"12345\",\"quoteAmount\":500}]}";
+    JsonNode data = body(mockMvc.perform(withJson(as(put("/projects/bulk/quote"), newUser("employee"), "EMPLOYEE"), request))
+        .andExpect(status().isOk())
+        .andReturn()).path("data");
+
+    assertThat(data.path("total").asInt()).isEqualTo(5);
+    assertThat(data.path("succeeded").asInt()).isEqualTo(2);
+    JsonNode results = data.path("results");
+    assertThat(results.get(0).path("message").asText()).isEqualTo("Invalid project ID: 12345");
+    assertThat(results.get(1).path("projectId").asText()).isEqualTo(first);
+    assertThat(results.get(1).path("status").asText()).isEqualTo("QUOTED");
+    assertThat(results.get(3).path("projectId").asText()).isEqualTo(approved);
+    assertThat(results.get(3).path("success").asBoolean()).isFalse();
+    assertThat(results.get(3).path("message").asText())
+        .isEqualTo("Can only quote projects in REQUESTED status. Current status: APPROVED");
+    assertThat(results.get(4).path("success").asBoolean()).isFalse();
+
+    assertThat(projectRepository.findById(first)).hasValueSatisfying(project -> {
+      assertThat(project.getStatus()).isEqualTo(ProjectStatus.QUOTED);
+      assertThat(project.getBudget()).isEqualByComparingTo(new BigDecimal("175"));
+    });
+    assertThat(projectRepository.findById(second))
+        .hasValueSatisfying(project -> assertThat(project.getBudget()).isEqualByComparingTo(new BigDecimal("250.50")));
+    assertThat(projectRepository.findById(approved)).hasValueSatisfying(project -> {
+      assertThat(project.getStatus()).isEqualTo(ProjectStatus.APPROVED);
+      assertThat(project.getBudget()).isEqualByComparingTo(new BigDecimal("1500"));
+    });
+  }
+}
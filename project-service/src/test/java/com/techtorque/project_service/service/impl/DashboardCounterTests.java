@@ -0,0 +1,160 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.entity.ProjectStatus;
+import com.techtorque.project_service.support.ApiTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Project counters stay equal to {@code COUNT(*)} per status through racing transitions, folds
+ * running alongside them, and a reconciliation that runs while transitions commit.
+ */
+class DashboardCounterTests extends ApiTestSupport {
+
+  private static final int PROJECTS = 8;
+
+  @Autowired
+  private DashboardServiceImpl dashboardService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void startFromReconciledCounters() {
+    // As the reconciliation after startup leaves them
+    dashboardService.reconcile();
+  }
+
+  @Test
+  void countersMatchTablesAfterRacingTransitionsAndConcurrentFolds() throws Exception {
+    Map<String, String> customers = createProjects();
+    List<String> projectIds = new ArrayList<>(customers.keySet());
+
+    // Folds run alongside both rounds, taking disjoint deltas
+    AtomicBoolean racing = new AtomicBoolean(true);
+    CompletableFuture<Void> folds = CompletableFuture.runAsync(() -> {
+      while (racing.get()) {
+        dashboardService.foldDeltas();
+      }
+    });
+    try {
+      raceFromRequested(projectIds);
+      assertCountersMatchTables();
+      raceFromCurrentStatus(projectIds, customers);
+    } finally {
+      racing.set(false);
+      folds.get();
+    }
+    assertCountersMatchTables();
+
+    dashboardService.foldDeltas();
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dashboard_counter_deltas", Long.class)).isZero();
+    assertCountersMatchTables();
+  }
+
+  @Test
+  void reconcileAlongsideTransitionsRepairsCountersWithoutCountingAnythingTwice() throws Exception {
+    Map<String, String> customers = createProjects();
+    List<String> projectIds = new ArrayList<>(customers.keySet());
+    dashboardService.foldDeltas();
+
+    // A counter that drifted, e.g. after a manual fix to the table
+    jdbcTemplate.update("UPDATE dashboard_counters SET count = count + 7 WHERE name = 'project:REQUESTED'");
+    assertThat(summary().get(ProjectStatus.REQUESTED)).isEqualTo(countTable().get(ProjectStatus.REQUESTED) + 7);
+
+    // Reconcile reads counts and pending deltas in one snapshot, so transitions committing meanwhile
+    // are in neither and are counted once their deltas fold
+    CompletableFuture<Void> reconcile = CompletableFuture.runAsync(dashboardService::reconcile);
+    raceFromRequested(projectIds);
+    reconcile.get();
+    raceFromCurrentStatus(projectIds, customers);
+
+    dashboardService.foldDeltas();
+    assertCountersMatchTables();
+  }
+
+  private Map<String, String> createProjects() throws Exception {
+    Map<String, String> customers = new LinkedHashMap<>();
+    for (int i = 0; i < PROJECTS; i++) {
+      String customerId = newUser("customer");
+      customers.put(createProject(customerId), customerId);
+    }
+    return customers;
+  }
+
+  // Quote (one source status) against approve and reject (several) on every project
+  private void raceFromRequested(List<String> projectIds) throws Exception {
+    List<Integer> statuses = race(projectIds.size() * 3, i -> {
+      String projectId = projectIds.get(i / 3);
+      return switch (i % 3) {
+        case 0 -> status(withJson(as(put("/projects/{id}/quote", projectId), newUser("employee"), "EMPLOYEE"),
+            "{\"quoteAmount\":1200}"));
+        case 1 -> status(as(post("/projects/{id}/approve", projectId), newUser("admin"), "ADMIN"));
+        default -> status(as(post("/projects/{id}/admin/reject", projectId), newUser("admin"), "ADMIN"));
+      };
+    });
+    // A quote may still be followed by the admin reject, which is also allowed from QUOTED
+    assertThat(statuses).containsOnly(200, 409);
+  }
+
+  // Accept against reject on quoted projects, progress against completion on approved ones
+  private void raceFromCurrentStatus(List<String> projectIds, Map<String, String> customers) throws Exception {
+    List<Integer> statuses = race(projectIds.size() * 2, i -> {
+      String projectId = projectIds.get(i / 2);
+      String customerId = customers.get(projectId);
+      if (i % 2 == 0) {
+        int accepted = status(as(post("/projects/{id}/accept", projectId), customerId, "CUSTOMER"));
+        return accepted == 409
+            ? status(withJson(as(put("/projects/{id}/progress", projectId), newUser("employee"), "EMPLOYEE"),
+                "{\"progress\":40}"))
+            : accepted;
+      }
+      int rejected = status(withJson(as(post("/projects/{id}/reject", projectId), customerId, "CUSTOMER"),
+          "{\"reason\":\"Over budget\"}"));
+      return rejected == 409
+          ? status(withJson(as(put("/projects/{id}/progress", projectId), newUser("employee"), "EMPLOYEE"),
+              "{\"progress\":100}"))
+          : rejected;
+    });
+    // Every call may conflict if the first round left all projects rejected
+    assertThat(statuses).isSubsetOf(200, 409);
+  }
+
+  private int status(MockHttpServletRequestBuilder request) throws Exception {
+    return mockMvc.perform(request).andReturn().getResponse().getStatus();
+  }
+
+  private void assertCountersMatchTables() {
+    assertThat(summary()).isEqualTo(countTable());
+  }
+
+  private Map<ProjectStatus, Long> summary() {
+    return new EnumMap<>(dashboardService.getSummary(1).getProjectsByStatus());
+  }
+
+  private Map<ProjectStatus, Long> countTable() {
+    Map<ProjectStatus, Long> counts = new EnumMap<>(ProjectStatus.class);
+    for (ProjectStatus status : ProjectStatus.values()) {
+      counts.put(status, 0L);
+    }
+    jdbcTemplate.query("SELECT status, COUNT(*) FROM projects GROUP BY status", (RowCallbackHandler) rs ->
+        counts.put(ProjectStatus.valueOf(rs.getString(1)), rs.getLong(2)));
+    return counts;
+  }
+}
@@ -0,0 +1,89 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.entity.IdempotencyRecord;
+import com.techtorque.project_service.exception.IdempotencyKeyInProgressException;
+import com.techtorque.project_service.repository.IdempotencyRecordRepository;
+import com.techtorque.project_service.service.IdempotencyService.StoredResponse;
+import com.techtorque.project_service.support.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Claims with a short in-progress timeout: a running request keeps its key by renewing the claim, and a
+ * request whose claim expired and was taken over cannot complete or release its successor's.
+ */
+class IdempotencyClaimTests extends ApiTestSupport {
+
+  private static final Duration IN_PROGRESS_TIMEOUT = Duration.ofMillis(400);
+
+  @Autowired
+  private IdempotencyRecordRepository recordRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  void renewedClaimOutlivesTheInProgressTimeout() throws Exception {
+    IdempotencyServiceImpl service = service();
+    String keyHash = UUID.randomUUID().toString();
+    String owner = UUID.randomUUID().toString();
+    assertThat(service.claimOrAwait(keyHash, "fingerprint", owner)).isEmpty();
+
+    for (int i = 0; i < 4; i++) {
+      Thread.sleep(IN_PROGRESS_TIMEOUT.toMillis() / 2);
+      service.renewClaims();
+    }
+
+    // A duplicate keeps waiting for the running request instead of taking the key over
+    assertThatThrownBy(() -> service.claimOrAwait(keyHash, "fingerprint", UUID.randomUUID().toString()))
+        .isInstanceOf(IdempotencyKeyInProgressException.class);
+    assertThat(recordRepository.findById(keyHash)).get().extracting(IdempotencyRecord::getOwner).isEqualTo(owner);
+  }
+
+  @Test
+  void requestThatLostItsClaimCannotCompleteOrReleaseTheSuccessor() throws Exception {
+    IdempotencyServiceImpl service = service();
+    String keyHash = UUID.randomUUID().toString();
+    String staleOwner = UUID.randomUUID().toString();
+    assertThat(service.claimOrAwait(keyHash, "fingerprint", staleOwner)).isEmpty();
+
+    // Not renewed, as if its instance had stopped
+    Thread.sleep(IN_PROGRESS_TIMEOUT.toMillis() + 100);
+    String owner = UUID.randomUUID().toString();
+    assertThat(service.claimOrAwait(keyHash, "fingerprint", owner)).isEmpty();
+
+    service.complete(keyHash, staleOwner, response(201, "stale"));
+    service.release(keyHash, staleOwner);
+    IdempotencyRecord record = recordRepository.findById(keyHash).orElseThrow();
+    assertThat(record.getOwner()).isEqualTo(owner);
+    assertThat(record.getResponseStatus()).isNull();
+
+    service.complete(keyHash, owner, response(201, "first"));
+    assertThat(service.claimOrAwait(keyHash, "fingerprint", UUID.randomUUID().toString()))
+        .get().extracting(stored -> new String(stored.body(), StandardCharsets.UTF_8)).isEqualTo("first");
+  }
+
+  @Test
+  void renewIntervalOverHalfTheInProgressTimeoutIsRejected() {
+    assertThatThrownBy(() -> new IdempotencyServiceImpl(recordRepository, transactionManager, Duration.ofHours(1),
+        Duration.ofMinutes(2), Duration.ofSeconds(30), Duration.ofMillis(100), Duration.ofMinutes(90)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private IdempotencyServiceImpl service() {
+    return new IdempotencyServiceImpl(recordRepository, transactionManager, Duration.ofHours(1),
+        IN_PROGRESS_TIMEOUT, Duration.ofMillis(200), Duration.ofMillis(20), IN_PROGRESS_TIMEOUT.dividedBy(2));
+  }
+
+  private static StoredResponse response(int status, String body) {
+    return new StoredResponse(status, "text/plain", body.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,161 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.entity.Invoice;
+import com.techtorque.project_service.entity.InvoiceStatus;
+import com.techtorque.project_service.repository.InvoiceRepository;
+import com.techtorque.project_service.repository.SchedulerLockRepository;
+import com.techtorque.project_service.service.ChangeFeedService;
+import com.techtorque.project_service.service.DashboardService;
+import com.techtorque.project_service.service.SchedulerLockService;
+import com.techtorque.project_service.support.ApiTestSupport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Passes of the invoice overdue sweep, one chunk per invoice: pending invoices past the threshold are
+ * aged and logged to the change feed, a pass is skipped while another instance holds the lease, and a
+ * pass whose lease is lost stops before its next chunk.
+ */
+class InvoiceOverdueSweepTests extends ApiTestSupport {
+
+  private static final Duration OVERDUE_AFTER = Duration.ofDays(30);
+
+  @Autowired
+  private InvoiceRepository invoiceRepository;
+
+  @Autowired
+  private ChangeFeedService changeFeedService;
+
+  @Autowired
+  private DashboardService dashboardService;
+
+  @Autowired
+  private SchedulerLockService lockService;
+
+  @Autowired
+  private SchedulerLockRepository lockRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void oldPendingInvoicesAreAgedInChunks() throws Exception {
+    InvoiceOverdueServiceImpl sweep = sweep(lockService);
+    // Stands in for an earlier pass over whatever else is old enough in the shared database
+    sweep.sweepOverdueInvoices();
+
+    String customerId = newUser("customer");
+    String employeeId = newUser("employee");
+    List<String> old = List.of(invoice(customerId, employeeId), invoice(customerId, employeeId));
+    String recent = invoice(customerId, employeeId);
+    String paid = invoice(customerId, employeeId);
+    old.forEach(id -> backdate(id, 40));
+    backdate(paid, 40);
+    jdbcTemplate.update("UPDATE invoices SET status = 'PAID' WHERE id = ?", UUID.fromString(paid));
+
+    assertThat(sweep.sweepOverdueInvoices()).isEqualTo(2);
+
+    old.forEach(id -> assertThat(invoiceStatus(id)).as(id).isEqualTo("OVERDUE"));
+    assertThat(invoiceStatus(recent)).isEqualTo("PENDING");
+    assertThat(invoiceStatus(paid)).isEqualTo("PAID");
+    for (String id : old) {
+      assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM change_log WHERE entity_id = ? "
+          + "AND entity_type = 'INVOICE' AND operation = 'UPDATED'", Long.class, id)).as(id).isEqualTo(1);
+    }
+    // The lease is given up after the pass
+    assertThat(lockRepository.findById(InvoiceOverdueServiceImpl.LOCK_NAME)).get()
+        .satisfies(lock -> assertThat(lock.getLockedUntil()).isBeforeOrEqualTo(LocalDateTime.now()));
+    assertThat(sweep.sweepOverdueInvoices()).isZero();
+  }
+
+  @Test
+  void passIsSkippedWhileAnotherInstanceHoldsTheLease() throws Exception {
+    String invoiceId = invoice(newUser("customer"), newUser("employee"));
+    backdate(invoiceId, 40);
+    SchedulerLockServiceImpl otherInstance = new SchedulerLockServiceImpl(lockRepository, transactionManager);
+    assertThat(otherInstance.tryLock(InvoiceOverdueServiceImpl.LOCK_NAME, Duration.ofMinutes(5))).isTrue();
+    try {
+      assertThat(sweep(lockService).sweepOverdueInvoices()).isEqualTo(-1);
+      assertThat(invoiceStatus(invoiceId)).isEqualTo("PENDING");
+    } finally {
+      otherInstance.unlock(InvoiceOverdueServiceImpl.LOCK_NAME);
+    }
+    assertThat(sweep(lockService).sweepOverdueInvoices()).isPositive();
+    assertThat(invoiceStatus(invoiceId)).isEqualTo("OVERDUE");
+  }
+
+  @Test
+  void passStopsOnceItsLeaseIsLost() throws Exception {
+    sweep(lockService).sweepOverdueInvoices();
+    String customerId = newUser("customer");
+    String employeeId = newUser("employee");
+    List<String> old = List.of(invoice(customerId, employeeId), invoice(customerId, employeeId));
+    old.forEach(id -> backdate(id, 40));
+
+    // Taken over by another instance while the first chunk ran
+    SchedulerLockService lostAfterFirstChunk = new SchedulerLockService() {
+      @Override
+      public boolean tryLock(String name, Duration lease) {
+        return true;
+      }
+
+      @Override
+      public boolean renew(String name, Duration lease) {
+        return false;
+      }
+
+      @Override
+      public void unlock(String name) {
+      }
+    };
+    assertThat(sweep(lostAfterFirstChunk).sweepOverdueInvoices()).isEqualTo(1);
+    assertThat(old.stream().map(this::invoiceStatus)).containsExactlyInAnyOrder("OVERDUE", "PENDING");
+
+    // The next pass picks up the rest
+    assertThat(sweep(lockService).sweepOverdueInvoices()).isEqualTo(1);
+    old.forEach(id -> assertThat(invoiceStatus(id)).as(id).isEqualTo("OVERDUE"));
+  }
+
+  private InvoiceOverdueServiceImpl sweep(SchedulerLockService lockService) {
+    return new InvoiceOverdueServiceImpl(invoiceRepository, changeFeedService, dashboardService, lockService,
+        transactionManager, new SimpleMeterRegistry(), OVERDUE_AFTER, 1, Duration.ofMinutes(5));
+  }
+
+  /** A PENDING invoice for a new service, as completing the service would leave it. */
+  private String invoice(String customerId, String employeeId) throws Exception {
+    BigDecimal subtotal = new BigDecimal("300.00");
+    return invoiceRepository.save(Invoice.builder()
+        .invoiceNumber("INV-" + UUID.randomUUID())
+        .serviceId(createService(customerId, employeeId))
+        .customerId(customerId)
+        .subtotal(subtotal)
+        .taxAmount(BigDecimal.ZERO)
+        .totalAmount(subtotal)
+        .status(InvoiceStatus.PENDING)
+        .build()).getId();
+  }
+
+  private void backdate(String invoiceId, int days) {
+    jdbcTemplate.update("UPDATE invoices SET created_at = ? WHERE id = ?",
+        LocalDateTime.now().minusDays(days), UUID.fromString(invoiceId));
+  }
+
+  private String invoiceStatus(String invoiceId) {
+    return jdbcTemplate.queryForObject("SELECT status FROM invoices WHERE id = ?", String.class,
+        UUID.fromString(invoiceId));
+  }
+}
@@ -0,0 +1,143 @@
+package com.techtorque.project_service.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.techtorque.project_service.client.NotificationClient;
+import com.techtorque.project_service.repository.ServiceRepository;
+import com.techtorque.project_service.support.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Overdue services are notified about once, in batches, until their estimate moves; and
+ * GET /services/overdue pages through them oldest estimate first.
+ *
+ * Estimates are set around 2000, before anything the other tests create, so these services lead the
+ * listing.
+ */
+class OverdueDetectionTests extends ApiTestSupport {
+
+  private static final LocalDateTime LONG_AGO = LocalDateTime.of(2000, 1, 1, 8, 0);
+
+  @Autowired
+  private ServiceRepository serviceRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private final NotificationClient notificationClient = mock(NotificationClient.class);
+
+  @Test
+  void overdueServicesAreNotifiedOnceUntilTheEstimateMoves() throws Exception {
+    // Batches of two, so three overdue services take two batches and two notifications
+    OverdueDetectionServiceImpl detector =
+        new OverdueDetectionServiceImpl(serviceRepository, notificationClient, transactionManager, 2);
+    String customerId = newUser("customer");
+    String employeeId = newUser("employee");
+    List<String> serviceIds = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      String serviceId = createService(customerId, employeeId);
+      setEstimate(serviceId, employeeId, LONG_AGO.plusMinutes(i));
+      serviceIds.add(serviceId);
+    }
+    String onTime = createService(customerId, employeeId);
+    // Stands in for an earlier pass over whatever else is overdue in the shared database
+    jdbcTemplate.update("UPDATE standard_services SET overdue_notified_at = ? WHERE overdue_notified_at IS NULL "
+        + "AND estimated_completion < ? AND id NOT IN (?, ?, ?)", LocalDateTime.now(), LocalDateTime.now(),
+        UUID.fromString(serviceIds.get(0)), UUID.fromString(serviceIds.get(1)), UUID.fromString(serviceIds.get(2)));
+
+    detector.detectOverdueServices();
+
+    verify(notificationClient).sendServiceNotification(eq(employeeId), eq("WARNING"), eq("Services Overdue"),
+        anyString(), eq(serviceIds.get(0)));
+    verify(notificationClient).sendServiceNotification(eq(employeeId), eq("WARNING"), eq("Service Overdue"),
+        anyString(), eq(serviceIds.get(2)));
+    verify(notificationClient, times(2)).sendServiceNotification(eq(employeeId), any(), any(), any(), any());
+    for (String serviceId : serviceIds) {
+      assertThat(notifiedAt(serviceId)).as(serviceId).isNotNull();
+    }
+    assertThat(notifiedAt(onTime)).isNull();
+
+    // Already notified: nothing goes out again
+    clearInvocations(notificationClient);
+    detector.detectOverdueServices();
+    verify(notificationClient, never()).sendServiceNotification(eq(employeeId), any(), any(), any(), any());
+
+    // A new estimate clears the mark; missed as well, it is reported again, on its own
+    setEstimate(serviceIds.get(1), employeeId, LONG_AGO.plusHours(1));
+    assertThat(notifiedAt(serviceIds.get(1))).isNull();
+    detector.detectOverdueServices();
+    verify(notificationClient).sendServiceNotification(eq(employeeId), eq("WARNING"), eq("Service Overdue"),
+        anyString(), eq(serviceIds.get(1)));
+    verify(notificationClient, times(1)).sendServiceNotification(eq(employeeId), any(), any(), any(), any());
+  }
+
+  @Test
+  void overdueListingPagesByEstimateAndRejectsABadToken() throws Exception {
+    String customerId = newUser("customer");
+    String employeeId = newUser("employee");
+    List<String> serviceIds = new ArrayList<>();
+    // Created newest estimate first, so the order below comes from the estimates
+    for (int i = 2; i >= 0; i--) {
+      String serviceId = createService(customerId, employeeId);
+      setEstimate(serviceId, employeeId, LONG_AGO.minusDays(1).plusMinutes(i));
+      serviceIds.add(0, serviceId);
+    }
+
+    JsonNode page = getOverdue(employeeId, "?limit=2");
+    assertThat(ids(page)).containsExactly(serviceIds.get(0), serviceIds.get(1));
+    assertThat(page.path("hasMore").asBoolean()).isTrue();
+
+    page = getOverdue(employeeId, "?limit=2&after=" + page.path("nextToken").asText());
+    assertThat(ids(page).get(0)).isEqualTo(serviceIds.get(2));
+    assertThat(ids(page)).doesNotContain(serviceIds.get(0), serviceIds.get(1));
+
+    mockMvc.perform(as(get("/services/overdue?after=not-a-token"), employeeId, "EMPLOYEE"))
+        .andExpect(status().isBadRequest());
+  }
+
+  private void setEstimate(String serviceId, String employeeId, LocalDateTime estimate) throws Exception {
+    mockMvc.perform(withJson(as(patch("/services/{id}", serviceId), employeeId, "EMPLOYEE"),
+            "{\"estimatedCompletion\":\"" + estimate + "\"}"))
+        .andExpect(status().isOk());
+  }
+
+  private LocalDateTime notifiedAt(String serviceId) {
+    return jdbcTemplate.queryForObject("SELECT overdue_notified_at FROM standard_services WHERE id = ?",
+        LocalDateTime.class, UUID.fromString(serviceId));
+  }
+
+  private JsonNode getOverdue(String employeeId, String query) throws Exception {
+    return body(mockMvc.perform(as(get("/services/overdue" + query), employeeId, "EMPLOYEE"))
+        .andExpect(status().isOk())
+        .andReturn()).path("data");
+  }
+
+  private static List<String> ids(JsonNode page) {
+    List<String> ids = new ArrayList<>();
+    page.path("services").forEach(service -> ids.add(service.path("id").asText()));
+    return ids;
+  }
+}
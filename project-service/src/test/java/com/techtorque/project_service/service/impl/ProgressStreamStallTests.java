@@ -0,0 +1,134 @@
+package com.techtorque.project_service.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techtorque.project_service.dto.response.ProgressEventDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A subscriber whose client stopped reading must not hold back delivery to the others.
+ */
+class ProgressStreamStallTests {
+
+  private static final String SERVICE_ID = UUID.randomUUID().toString();
+
+  private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+  private final CountDownLatch unblock = new CountDownLatch(1);
+
+  @AfterEach
+  void shutDown() {
+    unblock.countDown();
+    executor.shutdown();
+  }
+
+  @Test
+  void stalledSubscriberIsEvictedAndOthersKeepReceivingEvents() throws Exception {
+    // A single dispatch thread, so one stuck send would starve every other subscriber
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.initialize();
+
+    StalledEmitter stalled = new StalledEmitter();
+    RecordingEmitter healthy = new RecordingEmitter();
+    Deque<SseEmitter> emitters = new ArrayDeque<>();
+    emitters.add(stalled);
+    emitters.add(healthy);
+    ProgressStreamServiceImpl service = new ProgressStreamServiceImpl(new ObjectMapper().findAndRegisterModules(),
+        executor, Duration.ofMinutes(30), 32, Duration.ofMillis(50), 4) {
+      @Override
+      SseEmitter createEmitter() {
+        return emitters.removeFirst();
+      }
+    };
+
+    service.subscribeToService(SERVICE_ID, false);
+    service.subscribeToService(SERVICE_ID, false);
+    assertThat(service.getSubscriberCount()).isEqualTo(2);
+
+    service.publish(event(SERVICE_ID));
+    assertThat(stalled.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    // A send stuck for less than the send timeout is left alone
+    service.evictStalledSubscribers();
+    assertThat(service.getSubscriberCount()).isEqualTo(2);
+
+    Thread.sleep(100);
+    service.evictStalledSubscribers();
+
+    assertThat(service.getSubscriberCount()).isEqualTo(1);
+    assertThat(executor.getCorePoolSize()).isEqualTo(2);
+    // Delivered on the thread added in place of the stuck one
+    assertThat(healthy.sent.poll(5, TimeUnit.SECONDS)).isNotNull();
+    service.publish(event(SERVICE_ID));
+    assertThat(healthy.sent.poll(5, TimeUnit.SECONDS)).isNotNull();
+    assertThat(stalled.sends).isEqualTo(1);
+
+    // Once the container's write timeout fails the send, the emitter is completed and the pool shrinks back
+    unblock.countDown();
+    assertThat(stalled.completed.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(executor.getCorePoolSize()).isEqualTo(1);
+    assertThat(executor.getMaxPoolSize()).isEqualTo(1);
+    assertThat(healthy.completed.getCount()).isEqualTo(1);
+  }
+
+  private static ProgressEventDto event(String serviceId) {
+    return ProgressEventDto.builder()
+        .type(ProgressEventDto.Type.SERVICE_UPDATED)
+        .serviceId(serviceId)
+        .status("IN_PROGRESS")
+        .build();
+  }
+
+  private class StalledEmitter extends SseEmitter {
+
+    final CountDownLatch sendStarted = new CountDownLatch(1);
+    final CountDownLatch completed = new CountDownLatch(1);
+    volatile int sends;
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+      sends++;
+      sendStarted.countDown();
+      try {
+        unblock.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      throw new IOException("Write timed out");
+    }
+
+    @Override
+    public void completeWithError(Throwable ex) {
+      completed.countDown();
+    }
+  }
+
+  private static class RecordingEmitter extends SseEmitter {
+
+    final BlockingQueue<SseEventBuilder> sent = new LinkedBlockingQueue<>();
+    final CountDownLatch completed = new CountDownLatch(1);
+
+    @Override
+    public void send(SseEventBuilder builder) {
+      sent.add(builder);
+    }
+
+    @Override
+    public void completeWithError(Throwable ex) {
+      completed.countDown();
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.dto.response.ProgressEventDto;
+import com.techtorque.project_service.exception.InvalidIdentifierException;
+import com.techtorque.project_service.support.ApiTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Subscriptions land on the topic events are published to however the ID in the path is spelled, and a
+ * path ID that is not a UUID is rejected with 400.
+ */
+class ProgressStreamTopicTests extends ApiTestSupport {
+
+  private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+  @AfterEach
+  void shutDown() {
+    executor.shutdown();
+  }
+
+  @Test
+  void subscriptionWithAnUpperCaseIdReceivesTheEvents() throws Exception {
+    executor.initialize();
+    RecordingEmitter emitter = new RecordingEmitter();
+    ProgressStreamServiceImpl service = new ProgressStreamServiceImpl(objectMapper, executor,
+        Duration.ofMinutes(30), 32, Duration.ofSeconds(5), 4) {
+      @Override
+      SseEmitter createEmitter() {
+        return emitter;
+      }
+    };
+    String serviceId = UUID.randomUUID().toString();
+
+    service.subscribeToService(serviceId.toUpperCase(Locale.ROOT), false);
+    service.publish(ProgressEventDto.builder()
+        .type(ProgressEventDto.Type.SERVICE_UPDATED)
+        .serviceId(serviceId)
+        .status("IN_PROGRESS")
+        .build());
+
+    assertThat(emitter.sent.poll(5, TimeUnit.SECONDS)).isNotNull();
+    assertThatThrownBy(() -> service.subscribeToProject("project-1", false))
+        .isInstanceOf(InvalidIdentifierException.class);
+  }
+
+  @Test
+  void malformedIdIsRejectedWith400() throws Exception {
+    String customerId = newUser("customer");
+
+    for (String path : new String[]{"/events/services/{id}", "/events/projects/{id}"}) {
+      int status = mockMvc.perform(as(get(path, "not-a-uuid"), customerId, "CUSTOMER")
+              .accept(MediaType.TEXT_EVENT_STREAM))
+          .andReturn().getResponse().getStatus();
+      assertThat(status).as(path).isEqualTo(400);
+    }
+  }
+
+  private static class RecordingEmitter extends SseEmitter {
+
+    final BlockingQueue<SseEventBuilder> sent = new LinkedBlockingQueue<>();
+
+    @Override
+    public void send(SseEventBuilder builder) {
+      sent.add(builder);
+    }
+  }
+}
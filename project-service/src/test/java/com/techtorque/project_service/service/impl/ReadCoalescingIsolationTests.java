@@ -0,0 +1,110 @@
+package com.techtorque.project_service.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.techtorque.project_service.dto.response.ServiceResponseDto;
+import com.techtorque.project_service.service.ReadCoalescingService;
+import com.techtorque.project_service.service.StandardServiceService;
+import com.techtorque.project_service.support.ApiTestSupport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Callers of GET /services/{id} that share one lookup still get only what they may see: the shared
+ * result is a DTO, and access is checked for each caller on it.
+ */
+class ReadCoalescingIsolationTests extends ApiTestSupport {
+
+  @Autowired
+  private ReadCoalescingService readCoalescingService;
+
+  @Autowired
+  private StandardServiceService standardServiceService;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  void callersSharingALookupAreEachCheckedForAccess() throws Exception {
+    String customerId = newUser("customer");
+    String employeeId = newUser("employee");
+    String serviceId = createService(customerId, employeeId);
+    ServiceResponseDto details = standardServiceService.getServiceDetails(serviceId, employeeId, "EMPLOYEE")
+        .orElseThrow();
+
+    List<String> callers = List.of(customerId, newUser("customer"), employeeId);
+    List<String> roles = List.of("CUSTOMER", "CUSTOMER", "EMPLOYEE");
+    ExecutorService executor = Executors.newFixedThreadPool(callers.size() + 1);
+    CountDownLatch release = new CountDownLatch(1);
+    try {
+      // Stands in for a lookup of the service that is still running when the requests arrive
+      CountDownLatch started = new CountDownLatch(1);
+      double coalescedBefore = coalesced();
+      Future<Optional<ServiceResponseDto>> lookup = executor.submit(() ->
+          readCoalescingService.read("service", serviceId, () -> {
+            started.countDown();
+            await(release);
+            return Optional.of(details);
+          }));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+      List<Future<MockHttpServletResponse>> responses = new ArrayList<>();
+      for (int i = 0; i < callers.size(); i++) {
+        MockHttpServletRequestBuilder request = as(get("/services/{id}", serviceId), callers.get(i), roles.get(i));
+        responses.add(executor.submit(() -> mockMvc.perform(request).andReturn().getResponse()));
+      }
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (coalesced() - coalescedBefore < callers.size() && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+      assertThat(coalesced() - coalescedBefore).isEqualTo(callers.size());
+      release.countDown();
+      assertThat(lookup.get(5, TimeUnit.SECONDS)).contains(details);
+
+      MockHttpServletResponse owner = responses.get(0).get(5, TimeUnit.SECONDS);
+      MockHttpServletResponse otherCustomer = responses.get(1).get(5, TimeUnit.SECONDS);
+      MockHttpServletResponse employee = responses.get(2).get(5, TimeUnit.SECONDS);
+      assertThat(owner.getStatus()).isEqualTo(200);
+      assertThat(data(owner).path("customerId").asText()).isEqualTo(customerId);
+      assertThat(employee.getStatus()).isEqualTo(200);
+      assertThat(data(employee).path("id").asText()).isEqualTo(serviceId);
+      assertThat(otherCustomer.getStatus()).isEqualTo(404);
+      assertThat(otherCustomer.getContentAsString()).doesNotContain(customerId, details.getAppointmentId());
+    } finally {
+      release.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  private JsonNode data(MockHttpServletResponse response) throws Exception {
+    return objectMapper.readTree(response.getContentAsByteArray()).path("data");
+  }
+
+  private double coalesced() {
+    return meterRegistry.find("reads.coalesced").tag("operation", "service").counters().stream()
+        .mapToDouble(Counter::count).sum();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
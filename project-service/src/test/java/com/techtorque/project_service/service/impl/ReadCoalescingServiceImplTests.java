@@ -0,0 +1,122 @@
+package com.techtorque.project_service.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Callers arriving while an identical read runs share its result or its exception, and nothing
+ * outlives the read.
+ */
+class ReadCoalescingServiceImplTests {
+
+  private static final int CALLERS = 8;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ReadCoalescingServiceImpl service =
+      new ReadCoalescingServiceImpl(mock(PlatformTransactionManager.class), meterRegistry);
+  private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final AtomicInteger queries = new AtomicInteger();
+
+  @AfterEach
+  void shutDown() {
+    release.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void concurrentIdenticalReadsRunOneQuery() throws Exception {
+    List<Future<String>> results = readWhileHeld(() -> "service-1 details");
+
+    for (Future<String> result : results) {
+      assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(results.get(0).get());
+    }
+    assertThat(queries).hasValue(1);
+
+    // Nothing is kept once the read has returned
+    assertThat(service.read("service", "service-1", this::query)).isEqualTo("fresh");
+    assertThat(queries).hasValue(2);
+  }
+
+  @Test
+  void leaderFailureReachesEveryWaiter() throws Exception {
+    IllegalStateException failure = new IllegalStateException("Database unavailable");
+    List<Future<String>> results = readWhileHeld(() -> {
+      throw failure;
+    });
+
+    for (Future<String> result : results) {
+      assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+          .isInstanceOf(ExecutionException.class)
+          .cause().isSameAs(failure);
+    }
+    assertThat(queries).hasValue(1);
+
+    // The failure is not kept either; the next read runs the query again
+    assertThat(service.read("service", "service-1", this::query)).isEqualTo("fresh");
+  }
+
+  @Test
+  void readsOfDifferentKeysAreNotShared() throws Exception {
+    assertThat(service.read("service", "service-1", () -> "one")).isEqualTo("one");
+    assertThat(service.read("service", "service-2", () -> "two")).isEqualTo("two");
+    assertThat(service.read("photos", "service-1", () -> "photos")).isEqualTo("photos");
+  }
+
+  // Starts CALLERS identical reads, lets the query finish once all but one are waiting on it
+  private List<Future<String>> readWhileHeld(Supplier<String> outcome) throws Exception {
+    List<Future<String>> results = new ArrayList<>();
+    for (int i = 0; i < CALLERS; i++) {
+      results.add(executor.submit(() -> service.read("service", "service-1", () -> {
+        queries.incrementAndGet();
+        await(release);
+        return outcome.get();
+      })));
+    }
+
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (coalesced() < CALLERS - 1 && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertThat(coalesced()).isEqualTo(CALLERS - 1);
+    release.countDown();
+    return results;
+  }
+
+  private String query() {
+    queries.incrementAndGet();
+    return "fresh";
+  }
+
+  private double coalesced() {
+    return meterRegistry.find("reads.coalesced").tag("operation", "service").counters().stream()
+        .mapToDouble(Counter::count).sum();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.techtorque.project_service.service.impl;
+
+import com.techtorque.project_service.repository.SchedulerLockRepository;
+import com.techtorque.project_service.support.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Leases between instances, each instance standing in as a lock service of its own: one holder at a
+ * time, takeover once a lease has run out, one winner when the first row is created concurrently,
+ * and only the holder can renew or release.
+ */
+class SchedulerLockServiceImplTests extends ApiTestSupport {
+
+  private static final Duration LEASE = Duration.ofMinutes(5);
+  private static final Duration SHORT_LEASE = Duration.ofMillis(300);
+
+  @Autowired
+  private SchedulerLockRepository lockRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  void leaseIsHeldByOneInstanceUntilReleased() {
+    String name = lockName();
+    SchedulerLockServiceImpl first = instance();
+    SchedulerLockServiceImpl second = instance();
+
+    assertThat(first.tryLock(name, LEASE)).isTrue();
+    assertThat(second.tryLock(name, LEASE)).isFalse();
+    // Not reentrant either: a second pass on the holder is skipped too
+    assertThat(first.tryLock(name, LEASE)).isFalse();
+    // Only the holder releases it
+    second.unlock(name);
+    assertThat(second.tryLock(name, LEASE)).isFalse();
+
+    first.unlock(name);
+    assertThat(second.tryLock(name, LEASE)).isTrue();
+  }
+
+  @Test
+  void expiredLeaseIsTakenOverAndTheFormerHolderCanNeitherRenewNorReleaseIt() throws Exception {
+    String name = lockName();
+    SchedulerLockServiceImpl stale = instance();
+    SchedulerLockServiceImpl successor = instance();
+
+    assertThat(stale.tryLock(name, SHORT_LEASE)).isTrue();
+    assertThat(stale.renew(name, SHORT_LEASE)).isTrue();
+    Thread.sleep(SHORT_LEASE.toMillis() + 100);
+    // Ran out before it was renewed again
+    assertThat(stale.renew(name, LEASE)).isFalse();
+
+    assertThat(successor.tryLock(name, LEASE)).isTrue();
+    assertThat(stale.renew(name, LEASE)).isFalse();
+    stale.unlock(name);
+    assertThat(instance().tryLock(name, LEASE)).isFalse();
+    assertThat(lockRepository.findById(name)).get()
+        .satisfies(lock -> assertThat(lock.getLockedUntil()).isAfter(lock.getLockedAt()));
+
+    assertThat(successor.renew(name, LEASE)).isTrue();
+  }
+
+  @Test
+  void oneOfSeveralInstancesCreatingTheFirstLeaseWins() throws Exception {
+    for (int round = 0; round < 5; round++) {
+      String name = lockName();
+      List<SchedulerLockServiceImpl> instances = List.of(instance(), instance(), instance(), instance());
+
+      List<Integer> acquired = race(instances.size(), i -> instances.get(i).tryLock(name, LEASE) ? 1 : 0);
+
+      assertThat(acquired).as("round %d", round).containsOnly(0, 1);
+      assertThat(acquired.stream().mapToInt(Integer::intValue).sum()).as("round %d", round).isEqualTo(1);
+    }
+  }
+
+  private SchedulerLockServiceImpl instance() {
+    return new SchedulerLockServiceImpl(lockRepository, transactionManager);
+  }
+
+  private static String lockName() {
+    return "test-job-" + UUID.randomUUID();
+  }
+}
@@ -0,0 +1,99 @@
+package com.techtorque.project_service.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.techtorque.project_service.support.ApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Notes as a plain array without paging parameters, and pages that hold back notes younger than the
+ * settle delay (5s by default).
+ */
+class ServiceNotePagingTests extends ApiTestSupport {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void withoutSinceOrLimitAllNotesComeBackAsAnArray() throws Exception {
+    String customerId = newUser("customer");
+    String employeeId = newUser("employee");
+    String serviceId = createService(customerId, employeeId);
+    addNote(serviceId, employeeId, "Replaced the brake pads", true);
+    addNote(serviceId, employeeId, "Internal: order rotors", false);
+
+    JsonNode employeeView = getNotes(serviceId, employeeId, "EMPLOYEE", "");
+    assertThat(employeeView.isArray()).isTrue();
+    assertThat(employeeView).hasSize(2);
+
+    JsonNode customerView = getNotes(serviceId, customerId, "CUSTOMER", "");
+    assertThat(customerView.isArray()).isTrue();
+    assertThat(customerView).hasSize(1);
+    assertThat(customerView.get(0).path("note").asText()).isEqualTo("Replaced the brake pads");
+  }
+
+  @Test
+  void pagesStopAtTheFirstNoteYoungerThanTheSettleDelay() throws Exception {
+    String customerId = newUser("customer");
+    String employeeId = newUser("employee");
+    String serviceId = createService(customerId, employeeId);
+    String first = addNote(serviceId, employeeId, "Inspection done", true);
+    String second = addNote(serviceId, employeeId, "Oil drained", true);
+    String third = addNote(serviceId, employeeId, "New filter fitted", true);
+
+    // Fresh notes are not served yet, and the token stays where it was
+    JsonNode page = getNotes(serviceId, employeeId, "EMPLOYEE", "?limit=10");
+    assertThat(page.path("notes")).isEmpty();
+    assertThat(page.path("hasMore").asBoolean()).isFalse();
+    assertThat(page.path("nextToken").isNull()).isTrue();
+
+    LocalDateTime now = LocalDateTime.now();
+    setCreatedAt(first, now.minusSeconds(60));
+    setCreatedAt(second, now.minusSeconds(50));
+
+    page = getNotes(serviceId, employeeId, "EMPLOYEE", "?limit=1");
+    assertThat(page.path("notes")).hasSize(1);
+    assertThat(page.path("notes").get(0).path("id").asText()).isEqualTo(first);
+    assertThat(page.path("hasMore").asBoolean()).isTrue();
+
+    // The unsettled third note ends the page without counting as more
+    page = getNotes(serviceId, employeeId, "EMPLOYEE", "?limit=1&since=" + page.path("nextToken").asText());
+    assertThat(page.path("notes").get(0).path("id").asText()).isEqualTo(second);
+    page = getNotes(serviceId, employeeId, "EMPLOYEE", "?limit=5&since=" + page.path("nextToken").asText());
+    assertThat(page.path("notes")).isEmpty();
+    assertThat(page.path("hasMore").asBoolean()).isFalse();
+    String caughtUp = page.path("nextToken").asText();
+
+    setCreatedAt(third, now.minusSeconds(10));
+    page = getNotes(serviceId, employeeId, "EMPLOYEE", "?limit=5&since=" + caughtUp);
+    assertThat(page.path("notes")).hasSize(1);
+    assertThat(page.path("notes").get(0).path("id").asText()).isEqualTo(third);
+  }
+
+  private String addNote(String serviceId, String employeeId, String note, boolean customerVisible) throws Exception {
+    return body(mockMvc.perform(withJson(as(post("/services/{id}/notes", serviceId), employeeId, "EMPLOYEE"),
+            "{\"note\":\"" + note + "\",\"customerVisible\":" + customerVisible + "}"))
+        .andExpect(status().isCreated())
+        .andReturn()).path("data").path("id").asText();
+  }
+
+  private JsonNode getNotes(String serviceId, String userId, String roles, String query) throws Exception {
+    return body(mockMvc.perform(as(get("/services/" + serviceId + "/notes" + query), userId, roles))
+        .andExpect(status().isOk())
+        .andReturn()).path("data");
+  }
+
+  // Stands in for the settle delay passing
+  private void setCreatedAt(String noteId, LocalDateTime createdAt) {
+    jdbcTemplate.update("UPDATE service_notes SET created_at = ? WHERE id = ?", createdAt, UUID.fromString(noteId));
+  }
+}
@@ -0,0 +1,103 @@
+package com.techtorque.project_service.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Base for tests that drive the API through MockMvc with the gateway headers, against the H2 test
+ * database. All subclasses share one application context; the database is shared too, so tests
+ * create their own rows and callers ({@link #newUser}) and only assert on those.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public abstract class ApiTestSupport {
+
+  @Autowired
+  protected MockMvc mockMvc;
+
+  @Autowired
+  protected ObjectMapper objectMapper;
+
+  protected static String newUser(String prefix) {
+    return prefix + "-" + UUID.randomUUID();
+  }
+
+  protected static MockHttpServletRequestBuilder as(MockHttpServletRequestBuilder request, String userId, String roles) {
+    return request.header("X-User-Subject", userId).header("X-User-Roles", roles);
+  }
+
+  protected static MockHttpServletRequestBuilder withJson(MockHttpServletRequestBuilder request, String json) {
+    return request.contentType(MediaType.APPLICATION_JSON).content(json);
+  }
+
+  protected JsonNode body(MvcResult result) throws Exception {
+    return objectMapper.readTree(result.getResponse().getContentAsByteArray());
+  }
+
+  /** Creates a REQUESTED project for the customer and returns its ID. */
+  protected String createProject(String customerId) throws Exception {
+    MvcResult result = mockMvc.perform(withJson(as(post("/projects"), customerId, "CUSTOMER"),
+            "{\"vehicleId\":\"vehicle-1\",\"projectType\":\"Custom paint\","
+                + "\"description\":\"Full respray in metallic blue\",\"budget\":1500}"))
+        .andReturn();
+    return body(result).path("data").path("id").asText();
+  }
+
+  /** Creates a service for the customer from a new appointment and returns its ID. */
+  protected String createService(String customerId, String employeeId) throws Exception {
+    MvcResult result = mockMvc.perform(withJson(as(post("/services"), employeeId, "EMPLOYEE"),
+            "{\"appointmentId\":\"" + UUID.randomUUID() + "\",\"customerId\":\"" + customerId
+                + "\",\"assignedEmployeeIds\":[\"" + employeeId + "\"],\"estimatedHours\":4}"))
+        .andReturn();
+    return body(result).path("data").path("id").asText();
+  }
+
+  /** Runs {@code racers} calls at once, released together, and returns their results in order. */
+  protected static List<Integer> race(int racers, Racer racer) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(racers);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<Integer>> futures = new ArrayList<>();
+      for (int i = 0; i < racers; i++) {
+        int index = i;
+        Callable<Integer> task = () -> {
+          start.await();
+          return racer.run(index);
+        };
+        futures.add(executor.submit(task));
+      }
+      start.countDown();
+      List<Integer> results = new ArrayList<>();
+      for (Future<Integer> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  protected interface Racer {
+    int run(int index) throws Exception;
+  }
+}